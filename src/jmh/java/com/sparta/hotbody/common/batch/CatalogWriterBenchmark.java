@@ -0,0 +1,117 @@
+package com.sparta.hotbody.common.batch;
+
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.common.batch.food.FoodCsvWriter;
+import com.sparta.hotbody.common.batch.food.FoodRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카탈로그 chunk 하나(1000행)를 적재하는 비용을 writer 별로 비교한다. 결과는 행당 시간이다.
+ * jpaSaveAll 은 기존 FoodCsvWriter(saveAll, IDENTITY 라 행마다 INSERT), jdbcBatch 는 CatalogJdbcBatchWriter.
+ * H2(MySQL 모드) 메모리 DB 라 네트워크 왕복이 없고 rewriteBatchedStatements 도 없으므로,
+ * MySQL 에서는 차이가 이보다 커진다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogWriterBenchmark {
+
+  private static final int CHUNK_SIZE = 1000;
+
+  private LocalContainerEntityManagerFactoryBean factoryBean;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+  private FoodCsvWriter jpaWriter;
+  private CatalogJdbcBatchWriter<Food> jdbcWriter;
+
+  @Setup
+  public void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:writer" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setPackagesToScan(Food.class.getPackageName());
+    factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factoryBean.setJpaPropertyMap(Map.of(
+        "hibernate.hbm2ddl.auto", "create",
+        "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+        "hibernate.jdbc.batch_size", String.valueOf(CHUNK_SIZE)));
+    factoryBean.afterPropertiesSet();
+    EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+
+    FoodRepository repository = new JpaRepositoryFactory(
+        SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+        .getRepository(FoodRepository.class);
+    jpaWriter = new FoodCsvWriter(repository);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcWriter = new CatalogJdbcBatchWriter<>(jdbcTemplate, "food", false, true);
+    // 배치 step 처럼 chunk 하나를 트랜잭션 하나로 쓴다
+    transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+  }
+
+  @TearDown(Level.Iteration)
+  public void truncate() {
+    jdbcTemplate.execute("TRUNCATE TABLE food");
+  }
+
+  @TearDown
+  public void tearDown() {
+    factoryBean.destroy();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNK_SIZE)
+  public void jpaSaveAll() {
+    List<Food> chunk = chunk();
+    transactionTemplate.executeWithoutResult(status -> {
+      try {
+        jpaWriter.write(chunk);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHUNK_SIZE)
+  public void jdbcBatch() {
+    List<Food> chunk = chunk();
+    transactionTemplate.executeWithoutResult(status -> jdbcWriter.write(chunk));
+  }
+
+  // saveAll 이 엔티티에 id 를 채우므로 매번 새로 만든다 (두 경로 모두 같은 비용)
+  private static List<Food> chunk() {
+    List<Food> chunk = new ArrayList<>(CHUNK_SIZE);
+    for (int i = 0; i < CHUNK_SIZE; i++) {
+      Food food = new Food(null, "음식" + i, "100g", "250", "12.5", "8", "30", "4.2");
+      food.parseNutrients();
+      food.setRowHash(CatalogRowHasher.hash(food));
+      chunk.add(food);
+    }
+    return chunk;
+  }
+}
@@ -0,0 +1,90 @@
+package com.sparta.hotbody.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 요청 한 번의 인증 비용(액세스 토큰 검증 + 인증 객체 생성)을 비교한다.
+ * uncached 는 매번 서명 검증과 JSON 파싱을 하고 사용자를 새로 읽는 경로, cached 는 JwtUtil 이 쓰는
+ * VerifiedTokenCache / PrincipalCache 를 거치는 경로다. 사용자 조회는 DB 없이 UserDetails 생성만 하므로
+ * 실제 uncached 비용은 여기에 DB 왕복이 더해진다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthBenchmark {
+
+  private JwtParser parser;
+  private String token;
+  private VerifiedTokenCache verifiedTokenCache;
+  private PrincipalCache principalCache;
+
+  @Setup
+  public void setUp() {
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    Key key = Keys.hmacShaKeyFor(secret);
+    parser = Jwts.parserBuilder().setSigningKey(key).build();
+    Date now = new Date();
+    token = Jwts.builder()
+        .setSubject("user1")
+        .claim(JwtUtil.AUTHORIZATION_KEY, "USER")
+        .setExpiration(new Date(now.getTime() + 60 * 60 * 1000L))
+        .setIssuedAt(now)
+        .signWith(key, SignatureAlgorithm.HS256)
+        .compact();
+
+    verifiedTokenCache = new VerifiedTokenCache();
+    ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 10000);
+    ReflectionTestUtils.setField(verifiedTokenCache, "ttl", Duration.ofMinutes(1));
+    verifiedTokenCache.init();
+
+    // 조회만 하므로 Redis 연결은 필요 없다 (시작하지 않은 컨테이너에는 리스너 등록만 된다)
+    principalCache = new PrincipalCache(null, new RedisMessageListenerContainer());
+    ReflectionTestUtils.setField(principalCache, "maxSize", 10000);
+    ReflectionTestUtils.setField(principalCache, "ttl", Duration.ofMinutes(5));
+    principalCache.init();
+  }
+
+  @Benchmark
+  public Authentication uncached() {
+    Claims claims = parser.parseClaimsJws(token).getBody();
+    return authentication(loadUser(claims.getSubject()));
+  }
+
+  @Benchmark
+  public Authentication cached() {
+    Claims claims = verifiedTokenCache.get(token, t -> parser.parseClaimsJws(t).getBody());
+    return authentication(principalCache.getUser(claims.getSubject(), this::loadUser));
+  }
+
+  private UserDetails loadUser(String username) {
+    return User.withUsername(username).password("").authorities("ROLE_USER").build();
+  }
+
+  private Authentication authentication(UserDetails userDetails) {
+    return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+  }
+}
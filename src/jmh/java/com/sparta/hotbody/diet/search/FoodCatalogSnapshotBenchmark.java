@@ -0,0 +1,160 @@
+package com.sparta.hotbody.diet.search;
+
+import com.sparta.hotbody.common.batch.CatalogJdbcBatchWriter;
+import com.sparta.hotbody.common.batch.CatalogRowHasher;
+import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProducts;
+import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProductsRepository;
+import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProducts;
+import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProductsRepository;
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.common.batch.food.FoodRepository;
+import com.sparta.hotbody.common.batch.processedfood.ProcessedFoodRepository;
+import com.sparta.hotbody.common.cluster.ClusterCoordinator;
+import com.sparta.hotbody.common.cluster.InMemoryClusterLock;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기동 시 첫 세대를 만드는 두 경로를 비교한다 : 번들 CSV 3종(약 1.2만 건)이 적재된 DB 에서
+ * findAll 로 만드는 reload 와, 같은 세대를 쓴 스냅샷 파일을 읽어 만드는 loadSnapshot.
+ * H2 메모리 DB 라 네트워크 왕복이 없으므로 MySQL 에서는 databaseLoad 가 이보다 느리다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FoodCatalogSnapshotBenchmark {
+
+  private LocalContainerEntityManagerFactoryBean factoryBean;
+  private ClusterCoordinator clusterCoordinator;
+  private TransactionTemplate transactionTemplate;
+  private FoodCatalogManager manager;
+  private Path snapshot;
+
+  @Setup
+  public void setUp() throws IOException {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:catalog" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+    factoryBean = new LocalContainerEntityManagerFactoryBean();
+    factoryBean.setDataSource(dataSource);
+    factoryBean.setPackagesToScan(Food.class.getPackageName(),
+        AquaticProducts.class.getPackageName(),
+        AgriculturalAndLivestockProducts.class.getPackageName(),
+        ProcessedFoodRepository.class.getPackageName());
+    factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factoryBean.setJpaPropertyMap(Map.of(
+        "hibernate.hbm2ddl.auto", "create",
+        "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+    factoryBean.afterPropertiesSet();
+    EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    importBundledCsv(jdbcTemplate);
+
+    EntityManager entityManager =
+        SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+    JpaRepositoryFactory repositories = new JpaRepositoryFactory(entityManager);
+    clusterCoordinator = new ClusterCoordinator(new InMemoryClusterLock());
+    // snapshotPath 가 없으므로 reload 는 스냅샷을 쓰지 않는다 (DB 읽기와 인덱스 생성만 잰다)
+    manager = new FoodCatalogManager(
+        repositories.getRepository(AgriculturalAndLivestockProductsRepository.class),
+        repositories.getRepository(AquaticProductsRepository.class),
+        repositories.getRepository(FoodRepository.class),
+        repositories.getRepository(ProcessedFoodRepository.class),
+        jdbcTemplate, clusterCoordinator);
+    // 서비스 메서드처럼 조회 하나를 읽기 트랜잭션 하나로 묶는다
+    transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    transactionTemplate.setReadOnly(true);
+    transactionTemplate.executeWithoutResult(status -> manager.reload());
+
+    snapshot = Files.createTempFile("food-catalog", ".bin");
+    FoodCatalogSnapshot.write(manager.getCatalog(), new FoodCatalogFingerprint(), snapshot);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    clusterCoordinator.shutdown();
+    factoryBean.destroy();
+    Files.deleteIfExists(snapshot);
+  }
+
+  @Benchmark
+  public FoodCatalog databaseLoad() {
+    transactionTemplate.executeWithoutResult(status -> manager.reload());
+    return manager.getCatalog();
+  }
+
+  // FoodCatalogManager.loadSnapshot 과 같은 경로 : 파일 읽기 + 인덱스 생성
+  @Benchmark
+  public FoodCatalog snapshotLoad() throws IOException {
+    return FoodCatalog.build(FoodCatalogSnapshot.read(snapshot).getItems(), 1L);
+  }
+
+  @Benchmark
+  public FoodCatalogSnapshot snapshotRead() throws IOException {
+    return FoodCatalogSnapshot.read(snapshot);
+  }
+
+  // 카탈로그 import 와 같은 writer 로 테이블을 채운다 (id 는 AUTO_INCREMENT)
+  private static void importBundledCsv(JdbcTemplate jdbcTemplate) {
+    List<AgriculturalAndLivestockProducts> agriculturalAndLivestockProducts = new ArrayList<>();
+    List<AquaticProducts> aquaticProducts = new ArrayList<>();
+    List<Food> foods = new ArrayList<>();
+    for (FoodCatalogItem item : FoodCatalogFixtures.bundledCsv()) {
+      switch (item.getCategory()) {
+        case AGRICULTURAL_AND_LIVESTOCK_PRODUCTS:
+          AgriculturalAndLivestockProducts product = new AgriculturalAndLivestockProducts(null,
+              item.getFoodName(), item.getOneTimeSupply(), item.getEnergy(), item.getProtein(),
+              item.getFat(), item.getCarbohydrate(), item.getSugar());
+          product.parseNutrients();
+          product.setRowHash(CatalogRowHasher.hash(product));
+          agriculturalAndLivestockProducts.add(product);
+          break;
+        case AQUATIC_PRODUCTS:
+          AquaticProducts aquatic = new AquaticProducts(null, item.getFoodName(),
+              item.getOneTimeSupply(), item.getEnergy(), item.getProtein(), item.getFat(),
+              item.getCarbohydrate());
+          aquatic.parseNutrients();
+          aquatic.setRowHash(CatalogRowHasher.hash(aquatic));
+          aquaticProducts.add(aquatic);
+          break;
+        default:
+          Food food = new Food(null, item.getFoodName(), item.getOneTimeSupply(),
+              item.getEnergy(), item.getProtein(), item.getFat(), item.getCarbohydrate(),
+              item.getSugar());
+          food.parseNutrients();
+          food.setRowHash(CatalogRowHasher.hash(food));
+          foods.add(food);
+      }
+    }
+    new CatalogJdbcBatchWriter<AgriculturalAndLivestockProducts>(jdbcTemplate,
+        "agricultural_and_livestock_products", false, true)
+        .write(agriculturalAndLivestockProducts);
+    new CatalogJdbcBatchWriter<AquaticProducts>(jdbcTemplate, "aquatic_products", false, false)
+        .write(aquaticProducts);
+    new CatalogJdbcBatchWriter<Food>(jdbcTemplate, "food", false, true).write(foods);
+  }
+}
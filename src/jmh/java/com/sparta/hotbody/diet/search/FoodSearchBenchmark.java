@@ -0,0 +1,73 @@
+package com.sparta.hotbody.diet.search;
+
+import com.sparta.hotbody.diet.dto.FoodResponseDto;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 번들 CSV(src/main/resources/foodData) 로 만든 카탈로그에서 음식 검색 한 번의 비용을 비교한다.
+ * likeScan 은 DB 없이 LIKE '%검색어%' 경로(카테고리 전체를 훑는 포함 검색 + id 내림차순 페이지)를 흉내 낸다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FoodSearchBenchmark {
+
+  // 정확한 이름, 오타(닭가슴살 -> 닭가삼살), 짧은 검색어
+  @Param({"닭가슴살", "닭가삼살", "김치"})
+  private String searchWord;
+
+  private FoodCatalog catalog;
+  private List<FoodCatalogItem> foods;
+  private final PageRequest pageable = PageRequest.of(0, 10);
+
+  @Setup
+  public void setUp() {
+    List<FoodCatalogItem> items = FoodCatalogFixtures.bundledCsv();
+    catalog = FoodCatalog.build(items, 1L);
+    foods = new ArrayList<>();
+    for (FoodCatalogItem item : items) {
+      if (item.getCategory() == FoodCategory.FOOD) {
+        foods.add(item);
+      }
+    }
+    foods.sort(Comparator.comparing(FoodCatalogItem::getId).reversed());
+  }
+
+  @Benchmark
+  public List<FoodResponseDto> likeScan() {
+    String word = searchWord.toLowerCase(Locale.ROOT);
+    List<FoodResponseDto> content = new ArrayList<>(10);
+    int total = 0;
+    for (FoodCatalogItem item : foods) {
+      if (item.getFoodName().toLowerCase(Locale.ROOT).contains(word) && total++ < 10) {
+        content.add(new FoodResponseDto(item));
+      }
+    }
+    return content;
+  }
+
+  @Benchmark
+  public Page<FoodResponseDto> bigramSearch() {
+    return catalog.search(FoodCategory.FOOD, searchWord, pageable);
+  }
+
+  @Benchmark
+  public Page<FoodResponseDto> fuzzySearch() {
+    return catalog.fuzzySearch(FoodCategory.FOOD, searchWord, 2, pageable);
+  }
+}
@@ -7,6 +7,7 @@ import com.sparta.hotbody.admin.dto.FindAdminPwRequestDto;
 import com.sparta.hotbody.admin.dto.FindAdminPwResponseDto;
 import com.sparta.hotbody.admin.service.AdminService;
 import com.sparta.hotbody.comment.dto.CommentModifyRequestDto;
+import com.sparta.hotbody.common.batch.metrics.BatchStepMetricsResponseDto;
 import com.sparta.hotbody.common.GetPageModel;
 import com.sparta.hotbody.post.dto.PostModifyRequestDto;
 import com.sparta.hotbody.report.dto.CommentReportResponseDto;
@@ -18,6 +19,7 @@ import com.sparta.hotbody.user.dto.UserProfileRequestDto;
 import com.sparta.hotbody.user.dto.UserProfileResponseDto;
 import com.sparta.hotbody.user.dto.UsersResponseDto;
 import java.io.UnsupportedEncodingException;
+import java.util.List;
 import javax.mail.MessagingException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -237,4 +239,11 @@ public class AdminController {
   public Page<CommentReportResponseDto> getReportedComments(GetPageModel getPageModel) {
     return adminService.getReportedComments(getPageModel);
   }
-}
\ No newline at end of file
+
+  // 배치 import step 별 처리 시간 / 처리량 (실행 중인 step + 최근 기록)
+  @GetMapping("/batch/metrics")
+  @PreAuthorize("hasRole('ADMIN')")
+  public List<BatchStepMetricsResponseDto> getBatchMetrics() {
+    return adminService.getBatchMetrics();
+  }
+}
@@ -1,9 +1,11 @@
 package com.sparta.hotbody.admin.entity;
 
 import com.sparta.hotbody.admin.dto.AdminSignUpRequestDto;
+import com.sparta.hotbody.common.jwt.PrincipalCacheEvictListener;
 import com.sparta.hotbody.user.entity.UserRole;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
@@ -13,6 +15,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity(name = "admin")
+@EntityListeners(PrincipalCacheEvictListener.class)
 @Getter
 @NoArgsConstructor
 public class Admin {
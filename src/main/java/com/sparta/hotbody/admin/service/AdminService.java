@@ -7,6 +7,7 @@ import com.sparta.hotbody.admin.dto.FindAdminPwRequestDto;
 import com.sparta.hotbody.admin.dto.FindAdminPwResponseDto;
 import com.sparta.hotbody.comment.dto.CommentModifyRequestDto;
 import com.sparta.hotbody.common.GetPageModel;
+import com.sparta.hotbody.common.batch.metrics.BatchStepMetricsResponseDto;
 import com.sparta.hotbody.post.dto.PostModifyRequestDto;
 import com.sparta.hotbody.report.dto.CommentReportResponseDto;
 import com.sparta.hotbody.report.dto.PostReportResponseDto;
@@ -17,6 +18,7 @@ import com.sparta.hotbody.user.dto.UserProfileRequestDto;
 import com.sparta.hotbody.user.dto.UserProfileResponseDto;
 import com.sparta.hotbody.user.dto.UsersResponseDto;
 import java.io.UnsupportedEncodingException;
+import java.util.List;
 import javax.mail.MessagingException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -83,4 +85,6 @@ public interface AdminService {
   Page<PostReportResponseDto> getReportedPosts(GetPageModel getPageModel);
 
   Page<CommentReportResponseDto> getReportedComments(GetPageModel getPageModel);
+
+  List<BatchStepMetricsResponseDto> getBatchMetrics();
 }
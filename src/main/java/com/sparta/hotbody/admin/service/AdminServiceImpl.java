@@ -11,9 +11,9 @@ import com.sparta.hotbody.comment.dto.CommentModifyRequestDto;
 import com.sparta.hotbody.comment.entity.Comment;
 import com.sparta.hotbody.comment.repository.CommentRepository;
 import com.sparta.hotbody.common.GetPageModel;
+import com.sparta.hotbody.common.batch.metrics.BatchMetricsRegistry;
+import com.sparta.hotbody.common.batch.metrics.BatchStepMetricsResponseDto;
 import com.sparta.hotbody.common.jwt.JwtUtil;
-import com.sparta.hotbody.common.jwt.entity.RefreshToken;
-import com.sparta.hotbody.common.jwt.repository.RefreshTokenRedisRepository;
 import com.sparta.hotbody.common.page.PageDto;
 import com.sparta.hotbody.exception.CustomException;
 import com.sparta.hotbody.exception.ExceptionStatus;
@@ -42,6 +42,7 @@ import com.sparta.hotbody.user.repository.UserRepository;
 import java.io.UnsupportedEncodingException;
 import java.security.SecureRandom;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
@@ -74,8 +75,8 @@ public class AdminServiceImpl implements AdminService {
   private final CommentReportRepository commentReportRepository;
   private final PasswordEncoder passwordEncoder;
   private final JwtUtil jwtUtil;
-  private final RefreshTokenRedisRepository refreshTokenRedisRepository;
   private final JavaMailSender javaMailSender;
+  private final BatchMetricsRegistry batchMetricsRegistry;
   @Value("${spring.mail.username}")
   private String from;
 
@@ -114,7 +115,7 @@ public class AdminServiceImpl implements AdminService {
     response.addHeader(jwtUtil.AUTHORIZATION_HEADER, accessToken);
     response.addHeader(jwtUtil.REFRESH_TOKEN, refreshToken);
 
-    refreshTokenRedisRepository.save(new RefreshToken(refreshToken));
+    jwtUtil.saveRefreshToken(refreshToken, admin.getUsername(), admin.getRole());
 
     return ResponseEntity.ok("로그인 완료");
   }
@@ -290,6 +291,7 @@ public class AdminServiceImpl implements AdminService {
     } else {
       throw new CustomException(ExceptionStatus.NOT_USER);
     }
+    jwtUtil.revokeUserSessions(user.getUsername());
     return ResponseEntity.ok("신고 계정으로 전환하였습니다.");
   }
 
@@ -303,6 +305,7 @@ public class AdminServiceImpl implements AdminService {
     } else {
       throw new CustomException(ExceptionStatus.NOT_TRAINER);
     }
+    jwtUtil.revokeUserSessions(user.getUsername());
     return ResponseEntity.ok("신고 계정으로 전환하였습니다.");
   }
 
@@ -339,6 +342,7 @@ public class AdminServiceImpl implements AdminService {
     User user = userRepository.findById(userId).orElseThrow(
         () -> new CustomException(ExceptionStatus.USER_IS_NOT_EXIST));
     userRepository.delete(user);
+    jwtUtil.revokeUserSessions(user.getUsername());
     return ResponseEntity.ok("사용자 계정를 삭제하였습니다.");
   }
 
@@ -378,6 +382,7 @@ public class AdminServiceImpl implements AdminService {
     // 비밀번호 encode 후 저장
     String encodePassword = passwordEncoder.encode(password);
     admin.modifyPassword(encodePassword);
+    jwtUtil.revokeAdminSessions(admin.getUsername());
 
     MimeMessage mimeMessage = javaMailSender.createMimeMessage();
     MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
@@ -431,4 +436,9 @@ public class AdminServiceImpl implements AdminService {
     Page<CommentReportHistory> postPage = commentReportRepository.findAll(pageable);
     return postPage.map(CommentReportResponseDto::new);
   }
+
+  @Override
+  public List<BatchStepMetricsResponseDto> getBatchMetrics() {
+    return batchMetricsRegistry.getMetrics();
+  }
 }
@@ -0,0 +1,159 @@
+package com.sparta.hotbody.common.batch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 변경분만 적재하는 processor. 카탈로그 id 는 식단 음식(food_of_diet.food_id)과 자주 먹는 음식 키가
+ * 참조하므로, 값이 그대로인 행은 건너뛰고 바뀐 행은 같은 이름(+ 제조사)의 기존 행을 UPDATE 해서 id 를 유지한다.
+ * - step 시작 시 fingerprint 가 없는 예전 행은 그 자리에서 row_hash 를 채운다
+ * - 같은 fingerprint 의 행이 테이블에 여러 개면(예전 중복 행) 하나만 남긴다
+ * - step 이 성공하면 이번 파일의 어떤 행과도 짝지어지지 않은 행을 지운다
+ * 병렬 import 에서도 쓸 수 있도록 짝짓기는 동기화한다.
+ */
+@Slf4j
+public class CatalogDeltaProcessor<T extends CatalogFood> extends NutrientParsingProcessor<T>
+    implements StepExecutionListener {
+
+  private static final int BATCH_SIZE = 1000;
+  private static final char SEPARATOR = '\u001F';
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String table;
+  private final boolean hasFactory;
+  private final boolean hasSugar;
+
+  // row_hash -> 그 값을 가진 id (오름차순)
+  private Map<String, Deque<Long>> idsByHash;
+  // 이름 + 제조사 -> 그 이름을 가진 id (오름차순)
+  private Map<String, Deque<Long>> idsByName;
+  // 테이블의 모든 id, 이번 파일의 행과 짝지어진 id
+  private List<Long> ids;
+  private Set<Long> claimed;
+  private Set<String> seen;
+  private int updated;
+
+  public CatalogDeltaProcessor(JdbcTemplate jdbcTemplate, String table, boolean hasFactory,
+      boolean hasSugar) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.table = table;
+    this.hasFactory = hasFactory;
+    this.hasSugar = hasSugar;
+  }
+
+  @Override
+  public synchronized void beforeStep(StepExecution stepExecution) {
+    idsByHash = new HashMap<>();
+    idsByName = new HashMap<>();
+    ids = new ArrayList<>();
+    claimed = new HashSet<>();
+    seen = new HashSet<>();
+    updated = 0;
+
+    List<Object[]> backfill = new ArrayList<>();
+    jdbcTemplate.query("SELECT id, food_name, " + (hasFactory ? "factory" : "NULL")
+        + ", one_time_supply, energy, protein, fat, carbohydrate, "
+        + (hasSugar ? "sugar" : "NULL") + ", row_hash FROM " + table + " ORDER BY id",
+        resultSet -> {
+          long id = resultSet.getLong(1);
+          String rowHash = resultSet.getString(10);
+          if (rowHash == null) {
+            rowHash = CatalogRowHasher.hash(resultSet.getString(2), resultSet.getString(3),
+                resultSet.getString(4), resultSet.getString(5), resultSet.getString(6),
+                resultSet.getString(7), resultSet.getString(8), resultSet.getString(9));
+            backfill.add(new Object[]{rowHash, id});
+          }
+          ids.add(id);
+          idsByHash.computeIfAbsent(rowHash, key -> new ArrayDeque<>()).add(id);
+          idsByName.computeIfAbsent(nameKey(resultSet.getString(2), resultSet.getString(3)),
+              key -> new ArrayDeque<>()).add(id);
+        });
+    for (int from = 0; from < backfill.size(); from += BATCH_SIZE) {
+      jdbcTemplate.batchUpdate("UPDATE " + table + " SET row_hash = ? WHERE id = ?",
+          backfill.subList(from, Math.min(from + BATCH_SIZE, backfill.size())));
+    }
+    if (!backfill.isEmpty()) {
+      log.info("catalog row_hash 채움 : table={}, rows={}", table, backfill.size());
+    }
+  }
+
+  // 그대로인 행과 파일 안의 중복은 null, 바뀐 행은 이어받을 id(없으면 null = 새 행)를 채워 반환
+  @Override
+  public T process(T item) {
+    super.process(item);
+    synchronized (this) {
+      String rowHash = item.getRowHash();
+      if (!seen.add(rowHash)) {
+        return null;
+      }
+      if (claim(idsByHash.get(rowHash)) != null) {
+        return null;
+      }
+      Long id = claim(idsByName.get(nameKey(item.getFoodName(), item.getFactory())));
+      if (id != null) {
+        updated++;
+      }
+      item.setId(id);
+      return item;
+    }
+  }
+
+  @Override
+  public synchronized ExitStatus afterStep(StepExecution stepExecution) {
+    if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+      List<Object[]> stale = new ArrayList<>();
+      for (Long id : ids) {
+        if (!claimed.contains(id)) {
+          stale.add(new Object[]{id});
+        }
+      }
+      for (int from = 0; from < stale.size(); from += BATCH_SIZE) {
+        jdbcTemplate.batchUpdate("DELETE FROM " + table + " WHERE id = ?",
+            stale.subList(from, Math.min(from + BATCH_SIZE, stale.size())));
+      }
+      log.info("catalog delta 적재 : table={}, written={}, updated={}, unchanged={}, deleted={}",
+          table, stepExecution.getWriteCount(), updated, stepExecution.getFilterCount(),
+          stale.size());
+    }
+    idsByHash = null;
+    idsByName = null;
+    ids = null;
+    claimed = null;
+    seen = null;
+    return stepExecution.getExitStatus();
+  }
+
+  // 아직 짝지어지지 않은 가장 작은 id 를 가져가고, 없으면 null
+  private Long claim(Deque<Long> candidates) {
+    if (candidates == null) {
+      return null;
+    }
+    while (!candidates.isEmpty()) {
+      Long id = candidates.poll();
+      if (claimed.add(id)) {
+        return id;
+      }
+    }
+    return null;
+  }
+
+  // 예전 행은 정규화 전 값이므로 이름도 정규화 규칙(공백, NFC)을 맞춰 비교
+  private static String nameKey(String foodName, String factory) {
+    String name = CatalogNormalizingProcessor.text(foodName);
+    return (name == null ? "" : name.toLowerCase(Locale.ROOT)) + SEPARATOR
+        + CatalogNormalizingProcessor.text(factory);
+  }
+}
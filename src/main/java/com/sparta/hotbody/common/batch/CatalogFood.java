@@ -0,0 +1,69 @@
+package com.sparta.hotbody.common.batch;
+
+// 배치로 적재하는 음식 카탈로그 엔티티 4종의 공통 형태
+public interface CatalogFood {
+
+  Long getId();
+
+  // delta 적재에서 값이 바뀐 행이 기존 행의 id 를 이어받을 때 (null 이면 새 행)
+  void setId(Long id);
+
+  String getFoodName();
+
+  void setFoodName(String foodName);
+
+  String getOneTimeSupply();
+
+  void setOneTimeSupply(String oneTimeSupply);
+
+  String getEnergy();
+
+  void setEnergy(String energy);
+
+  String getProtein();
+
+  void setProtein(String protein);
+
+  String getFat();
+
+  void setFat(String fat);
+
+  String getCarbohydrate();
+
+  void setCarbohydrate(String carbohydrate);
+
+  // 가공식품만 제조사 정보가 있다
+  default String getFactory() {
+    return null;
+  }
+
+  default void setFactory(String factory) {
+  }
+
+  // 수산물은 당류 정보가 없다
+  default String getSugar() {
+    return null;
+  }
+
+  default void setSugar(String sugar) {
+  }
+
+  Float getEnergyValue();
+
+  Float getProteinValue();
+
+  Float getFatValue();
+
+  Float getCarbohydrateValue();
+
+  default Float getSugarValue() {
+    return null;
+  }
+
+  String getRowHash();
+
+  void setRowHash(String rowHash);
+
+  // 문자열 영양성분을 숫자 컬럼으로 변환
+  void parseNutrients();
+}
@@ -0,0 +1,83 @@
+package com.sparta.hotbody.common.batch;
+
+import com.sparta.hotbody.common.cluster.ClusterCoordinator;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobExecutionNotRunningException;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 카탈로그 import job 을 실행한다 (spring.batch.job.enabled=false 로 boot 의 자동 실행 대신).
+ * 여러 인스턴스가 동시에 떠도 lease 를 잡은 한 노드만 실행하고, 나머지는 DB 에 적재된 결과를 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogImportJobRunner implements ApplicationRunner {
+
+  public static final String LOCK_NAME = "batch:csvFileItemReaderJob";
+
+  private final JobLauncher jobLauncher;
+  private final JobOperator jobOperator;
+  private final JobExplorer jobExplorer;
+  private final Job csvFileItemReaderJob;
+  private final ClusterCoordinator clusterCoordinator;
+
+  @Value("${batch.import.enabled:true}")
+  private boolean enabled;
+
+  @Value("${batch.import.lock-ttl:60s}")
+  private Duration lockTtl;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!enabled) {
+      return;
+    }
+    clusterCoordinator.runExclusively(LOCK_NAME, lockTtl, this::launch, this::stop);
+  }
+
+  private void launch() {
+    // 매번 새 job instance 로 실행 (바뀌지 않은 파일은 checksum 으로 건너뛴다)
+    JobParameters parameters = new JobParametersBuilder()
+        .addLong("startedAt", System.currentTimeMillis())
+        .addString("node", clusterCoordinator.getNodeId(), false)
+        .toJobParameters();
+    try {
+      JobExecution execution = jobLauncher.run(csvFileItemReaderJob, parameters);
+      log.info("catalog import job 종료 : status={}, node={}", execution.getStatus(),
+          clusterCoordinator.getNodeId());
+    } catch (Exception e) {
+      log.error("catalog import job 실행 실패 : {}", e.getMessage(), e);
+    }
+  }
+
+  // lease 를 잃으면 이 노드가 실행 중인 job 을 멈춘다 (다음 chunk 경계에서 STOPPED 로 끝난다)
+  private void stop() {
+    for (JobExecution execution :
+        jobExplorer.findRunningJobExecutions(csvFileItemReaderJob.getName())) {
+      if (!clusterCoordinator.getNodeId().equals(execution.getJobParameters().getString("node"))) {
+        continue;
+      }
+      try {
+        jobOperator.stop(execution.getId());
+        log.warn("cluster lease 상실로 catalog import job 중지 : executionId={}, node={}",
+            execution.getId(), clusterCoordinator.getNodeId());
+      } catch (NoSuchJobExecutionException | JobExecutionNotRunningException e) {
+        log.info("중지할 catalog import job 이 이미 끝남 : executionId={}", execution.getId());
+      }
+    }
+  }
+}
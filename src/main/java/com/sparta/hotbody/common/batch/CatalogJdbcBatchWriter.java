@@ -0,0 +1,131 @@
+package com.sparta.hotbody.common.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 영속성 컨텍스트를 거치지 않고 chunk 전체를 JDBC batch 한 번으로 넣는 writer.
+ * IDENTITY 키라서 JPA saveAll 은 행마다 INSERT 를 따로 보내지만, 여기서는 id 를 받지 않으므로
+ * 드라이버의 rewriteBatchedStatements 옵션이 켜져 있으면 multi-row INSERT 로 합쳐진다.
+ * delta 적재에서 기존 행의 id 를 이어받은 행은 같은 컬럼을 UPDATE 한다.
+ */
+public class CatalogJdbcBatchWriter<T extends CatalogFood> implements ItemWriter<T> {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean hasFactory;
+  private final boolean hasSugar;
+  private final String insertSql;
+  private final String updateSql;
+
+  public CatalogJdbcBatchWriter(JdbcTemplate jdbcTemplate, String table, boolean hasFactory,
+      boolean hasSugar) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.hasFactory = hasFactory;
+    this.hasSugar = hasSugar;
+    List<String> columns = columns(hasFactory, hasSugar);
+    this.insertSql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+        + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+    this.updateSql = "UPDATE " + table + " SET " + String.join(" = ?, ", columns)
+        + " = ? WHERE id = ?";
+  }
+
+  @Override
+  public void write(List<? extends T> items) {
+    List<T> inserts = new ArrayList<>();
+    List<T> updates = new ArrayList<>();
+    for (T item : items) {
+      (item.getId() == null ? inserts : updates).add(item);
+    }
+    batchUpdate(insertSql, inserts);
+    batchUpdate(updateSql, updates);
+  }
+
+  private void batchUpdate(String sql, List<T> items) {
+    if (items.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+      @Override
+      public void setValues(PreparedStatement ps, int i) throws SQLException {
+        T item = items.get(i);
+        int index = bind(ps, item);
+        if (item.getId() != null) {
+          ps.setLong(index, item.getId());
+        }
+      }
+
+      @Override
+      public int getBatchSize() {
+        return items.size();
+      }
+    });
+  }
+
+  // 컬럼 값을 채우고 다음 파라미터 위치를 반환
+  private int bind(PreparedStatement ps, T item) throws SQLException {
+    int index = 1;
+    ps.setString(index++, item.getFoodName());
+    if (hasFactory) {
+      ps.setString(index++, item.getFactory());
+    }
+    ps.setString(index++, item.getOneTimeSupply());
+    ps.setString(index++, item.getEnergy());
+    ps.setString(index++, item.getProtein());
+    ps.setString(index++, item.getFat());
+    ps.setString(index++, item.getCarbohydrate());
+    if (hasSugar) {
+      ps.setString(index++, item.getSugar());
+    }
+    setFloat(ps, index++, item.getEnergyValue());
+    setFloat(ps, index++, item.getProteinValue());
+    setFloat(ps, index++, item.getFatValue());
+    setFloat(ps, index++, item.getCarbohydrateValue());
+    if (hasSugar) {
+      setFloat(ps, index++, item.getSugarValue());
+    }
+    ps.setString(index++, item.getRowHash());
+    return index;
+  }
+
+  private static void setFloat(PreparedStatement ps, int index, Float value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.FLOAT);
+    } else {
+      ps.setFloat(index, value);
+    }
+  }
+
+  // 엔티티 필드 -> snake_case 컬럼 (SpringPhysicalNamingStrategy 와 같은 이름)
+  private static List<String> columns(boolean hasFactory, boolean hasSugar) {
+    List<String> columns = new ArrayList<>();
+    columns.add("food_name");
+    if (hasFactory) {
+      columns.add("factory");
+    }
+    columns.add("one_time_supply");
+    columns.add("energy");
+    columns.add("protein");
+    columns.add("fat");
+    columns.add("carbohydrate");
+    if (hasSugar) {
+      columns.add("sugar");
+    }
+    columns.add("energy_value");
+    columns.add("protein_value");
+    columns.add("fat_value");
+    columns.add("carbohydrate_value");
+    if (hasSugar) {
+      columns.add("sugar_value");
+    }
+    columns.add("row_hash");
+    return columns;
+  }
+}
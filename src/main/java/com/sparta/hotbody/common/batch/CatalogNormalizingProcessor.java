@@ -0,0 +1,168 @@
+package com.sparta.hotbody.common.batch;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 원본 문자열을 정리하는 첫 번째 processor.
+ * - BOM / zero-width 문자 제거, 앞뒤 공백 제거, 연속 공백 하나로, 유니코드 NFC 정규화
+ * - "정보 없음", "-", 빈 칸 -> null
+ * - 영양성분은 단위를 해석해 기준 단위(g, kcal)의 숫자 문자열로 ("500mg" -> "0.5", "1,234" -> "1234")
+ * - 이름이 없거나, 영양성분이 하나도 없거나, 숫자로 읽을 수 없는 행은 CatalogRowRejectedException
+ * - 같은 원본(step) 안에서 정규화 후 이름 + 제공량 + 영양성분이 같은 행은 중복으로 거절
+ */
+public class CatalogNormalizingProcessor<T extends CatalogFood> implements ItemProcessor<T, T>,
+    StepExecutionListener {
+
+  private static final String NO_INFO = "정보 없음";
+  private static final Pattern INVISIBLE = Pattern.compile("[\\uFEFF\\u200B-\\u200D\\u2060]");
+  private static final Pattern SPACES = Pattern.compile("\\s+");
+  private static final Pattern AMOUNT = Pattern.compile(
+      "([+-]?(?:\\d+(?:\\.\\d*)?|\\.\\d+))\\s*([a-zμ㎉㎎㎍㎏]*)");
+  private static final char SEPARATOR = '\u001F';
+  private static final BigDecimal KJ_PER_KCAL = new BigDecimal("4.184");
+
+  private volatile Set<String> seen = ConcurrentHashMap.newKeySet();
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+    seen = ConcurrentHashMap.newKeySet();
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    seen = ConcurrentHashMap.newKeySet();
+    return stepExecution.getExitStatus();
+  }
+
+  @Override
+  public T process(T item) {
+    String foodName = text(item.getFoodName());
+    if (foodName == null) {
+      throw new CatalogRowRejectedException("식품명 없음");
+    }
+    item.setFoodName(foodName);
+    item.setFactory(text(item.getFactory()));
+    item.setOneTimeSupply(servingSize(item.getOneTimeSupply()));
+    item.setEnergy(amount(item.getEnergy(), true, "에너지"));
+    item.setProtein(amount(item.getProtein(), false, "단백질"));
+    item.setFat(amount(item.getFat(), false, "지방"));
+    item.setCarbohydrate(amount(item.getCarbohydrate(), false, "탄수화물"));
+    item.setSugar(amount(item.getSugar(), false, "당류"));
+
+    if (item.getEnergy() == null && item.getProtein() == null && item.getFat() == null
+        && item.getCarbohydrate() == null && item.getSugar() == null) {
+      throw new CatalogRowRejectedException("영양성분 정보 없음");
+    }
+    if (!seen.add(dedupeKey(item))) {
+      throw new CatalogRowRejectedException("중복");
+    }
+    return item;
+  }
+
+  // 보이지 않는 문자 제거 + NFC + 공백 정리, 값이 없음을 뜻하면 null
+  static String text(String raw) {
+    if (raw == null) {
+      return null;
+    }
+    String value = INVISIBLE.matcher(raw).replaceAll("");
+    value = Normalizer.normalize(value, Normalizer.Form.NFC);
+    value = SPACES.matcher(value).replaceAll(" ").trim();
+    if (value.isEmpty() || value.equals("-") || value.equals(NO_INFO)) {
+      return null;
+    }
+    return value;
+  }
+
+  // 1회 제공량은 g 단위 숫자면 숫자만 남기고, 그 밖의 표기("1인분", "200ml")는 그대로 둔다
+  private static String servingSize(String raw) {
+    String value = text(raw);
+    if (value == null) {
+      return null;
+    }
+    Matcher matcher = AMOUNT.matcher(value.replace(",", "").toLowerCase(Locale.ROOT));
+    if (matcher.matches()) {
+      BigDecimal factor = gramFactor(matcher.group(2));
+      if (factor != null) {
+        return plain(new BigDecimal(matcher.group(1)).multiply(factor));
+      }
+    }
+    return value;
+  }
+
+  private static String amount(String raw, boolean energy, String field) {
+    String value = text(raw);
+    if (value == null) {
+      return null;
+    }
+    String lower = value.replace(",", "").toLowerCase(Locale.ROOT);
+    // 미량(trace)
+    if (lower.equals("tr")) {
+      return "0";
+    }
+    Matcher matcher = AMOUNT.matcher(lower);
+    if (!matcher.matches()) {
+      throw new CatalogRowRejectedException(field + " 값을 읽을 수 없음 : " + value);
+    }
+    BigDecimal number = new BigDecimal(matcher.group(1));
+    String unit = matcher.group(2);
+    if (energy) {
+      if (unit.isEmpty() || unit.equals("kcal") || unit.equals("㎉")) {
+        return plain(number);
+      }
+      if (unit.equals("kj")) {
+        return plain(number.divide(KJ_PER_KCAL, MathContext.DECIMAL64)
+            .setScale(2, RoundingMode.HALF_UP));
+      }
+    } else {
+      BigDecimal factor = gramFactor(unit);
+      if (factor != null) {
+        return plain(number.multiply(factor));
+      }
+    }
+    throw new CatalogRowRejectedException(field + " 단위를 알 수 없음 : " + value);
+  }
+
+  // 단위 -> g 환산 배수, 모르는 단위면 null
+  private static BigDecimal gramFactor(String unit) {
+    switch (unit) {
+      case "":
+      case "g":
+        return BigDecimal.ONE;
+      case "mg":
+      case "㎎":
+        return new BigDecimal("0.001");
+      case "μg":
+      case "ug":
+      case "㎍":
+        return new BigDecimal("0.000001");
+      case "kg":
+      case "㎏":
+        return new BigDecimal("1000");
+      default:
+        return null;
+    }
+  }
+
+  private static String plain(BigDecimal value) {
+    return value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString();
+  }
+
+  private static String dedupeKey(CatalogFood item) {
+    return item.getFoodName().toLowerCase(Locale.ROOT) + SEPARATOR + item.getFactory()
+        + SEPARATOR + item.getOneTimeSupply() + SEPARATOR + item.getEnergy() + SEPARATOR
+        + item.getProtein() + SEPARATOR + item.getFat() + SEPARATOR + item.getCarbohydrate()
+        + SEPARATOR + item.getSugar();
+  }
+}
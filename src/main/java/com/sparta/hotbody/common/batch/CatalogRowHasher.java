@@ -0,0 +1,59 @@
+package com.sparta.hotbody.common.batch;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 파일 / 행 단위 SHA-256 fingerprint
+public class CatalogRowHasher {
+
+  // 필드 사이 구분자 (CSV 값에 나오지 않는 unit separator)
+  private static final char SEPARATOR = '\u001F';
+
+  private CatalogRowHasher() {
+  }
+
+  public static String hash(CatalogFood item) {
+    return hash(item.getFoodName(), item.getFactory(), item.getOneTimeSupply(), item.getEnergy(),
+        item.getProtein(), item.getFat(), item.getCarbohydrate(), item.getSugar());
+  }
+
+  // 테이블에 저장된 컬럼 값으로 계산 (fingerprint 가 없는 예전 행을 채울 때)
+  public static String hash(String foodName, String factory, String oneTimeSupply,
+      String energy, String protein, String fat, String carbohydrate, String sugar) {
+    StringBuilder builder = new StringBuilder(128);
+    append(builder, foodName);
+    append(builder, factory);
+    append(builder, oneTimeSupply);
+    append(builder, energy);
+    append(builder, protein);
+    append(builder, fat);
+    append(builder, carbohydrate);
+    append(builder, sugar);
+    return toHex(newDigest().digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+  }
+
+  public static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static String toHex(byte[] bytes) {
+    StringBuilder builder = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      builder.append(Character.forDigit((b >> 4) & 0xF, 16))
+          .append(Character.forDigit(b & 0xF, 16));
+    }
+    return builder.toString();
+  }
+
+  private static void append(StringBuilder builder, String value) {
+    if (value != null) {
+      builder.append(value);
+    }
+    builder.append(SEPARATOR);
+  }
+}
@@ -0,0 +1,15 @@
+package com.sparta.hotbody.common.batch;
+
+import lombok.Getter;
+
+// 정규화 단계에서 적재하지 않기로 한 행 (step 의 skip 대상, skip 파일에 사유와 함께 기록)
+@Getter
+public class CatalogRowRejectedException extends RuntimeException {
+
+  private final String reason;
+
+  public CatalogRowRejectedException(String reason) {
+    super(reason);
+    this.reason = reason;
+  }
+}
@@ -0,0 +1,74 @@
+package com.sparta.hotbody.common.batch;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정규화 단계에서 거절된 행을 skip 파일에 한 줄씩 남긴다.
+ * 형식 : 시각 \t step \t 사유 \t 식품명 \t 제조사 \t 1회제공량 \t 에너지 \t 단백질 \t 지방 \t 탄수화물 \t 당류
+ */
+@Slf4j
+@Component
+public class CatalogSkipFileListener implements SkipListener<CatalogFood, CatalogFood> {
+
+  @Value("${batch.import.skip-file:logs/catalog-import-skip.tsv}")
+  private String skipFile;
+
+  @Override
+  public void onSkipInRead(Throwable t) {
+  }
+
+  @Override
+  public void onSkipInWrite(CatalogFood item, Throwable t) {
+  }
+
+  @Override
+  public void onSkipInProcess(CatalogFood item, Throwable t) {
+    String reason = t instanceof CatalogRowRejectedException
+        ? ((CatalogRowRejectedException) t).getReason() : t.getMessage();
+    StepExecution stepExecution = StepSynchronizationManager.getContext() == null ? null
+        : StepSynchronizationManager.getContext().getStepExecution();
+    String line = String.join("\t", LocalDateTime.now().toString(),
+        stepExecution == null ? "-" : stepExecution.getStepName(), column(reason),
+        column(item.getFoodName()), column(item.getFactory()), column(item.getOneTimeSupply()),
+        column(item.getEnergy()), column(item.getProtein()), column(item.getFat()),
+        column(item.getCarbohydrate()), column(item.getSugar()));
+    append(line);
+  }
+
+  // chunk 스레드가 여러 개여도 줄이 섞이지 않게 한 번에 한 줄씩
+  private synchronized void append(String line) {
+    if (skipFile == null || skipFile.isBlank()) {
+      return;
+    }
+    Path path = Paths.get(skipFile);
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+          StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        writer.write(line);
+        writer.newLine();
+      }
+    } catch (IOException e) {
+      log.warn("catalog skip 파일 기록 실패 : {}, {}", e.getMessage(), line);
+    }
+  }
+
+  private static String column(String value) {
+    return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+  }
+}
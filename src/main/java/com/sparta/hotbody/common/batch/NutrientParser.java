@@ -0,0 +1,34 @@
+package com.sparta.hotbody.common.batch;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// csv 의 영양성분 문자열("368.8", "100g", "-", "정보 없음")을 숫자로 변환
+public class NutrientParser {
+
+  private static final Pattern NUMBER = Pattern.compile("[+-]?(\\d+(\\.\\d*)?|\\.\\d+)");
+  private static final String NO_INFO = "정보 없음";
+
+  private NutrientParser() {
+  }
+
+  // 값이 없거나 숫자로 시작하지 않으면 null
+  public static Float parse(String raw) {
+    if (raw == null) {
+      return null;
+    }
+    String value = raw.replace("\uFEFF", "").replace(",", "").trim();
+    if (value.isEmpty() || value.equals("-") || value.equals(NO_INFO)) {
+      return null;
+    }
+    Matcher matcher = NUMBER.matcher(value);
+    if (!matcher.lookingAt()) {
+      return null;
+    }
+    try {
+      return Float.parseFloat(matcher.group());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
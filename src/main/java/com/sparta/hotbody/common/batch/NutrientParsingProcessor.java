@@ -0,0 +1,14 @@
+package com.sparta.hotbody.common.batch;
+
+import org.springframework.batch.item.ItemProcessor;
+
+// 적재 전에 문자열 영양성분을 숫자 컬럼으로 채우고, 행 fingerprint 를 계산하는 processor
+public class NutrientParsingProcessor<T extends CatalogFood> implements ItemProcessor<T, T> {
+
+  @Override
+  public T process(T item) {
+    item.parseNutrients();
+    item.setRowHash(CatalogRowHasher.hash(item));
+    return item;
+  }
+}
@@ -0,0 +1,262 @@
+package com.sparta.hotbody.common.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import lombok.Setter;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.DefaultFieldSet;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+import org.springframework.util.ClassUtils;
+
+/**
+ * POI event API(XSSFReader) 로 xlsx 시트를 한 행씩 읽는 reader.
+ * 시트 XML 을 StAX 로 흘려 읽기 때문에 워크북 크기와 상관없이 현재 행만 메모리에 둔다.
+ * 단, 공유 문자열 테이블(xl/sharedStrings.xml)은 셀이 번호로 참조하므로 통째로 heap 에 올라간다.
+ * 그 크기는 시트 행 수가 아니라 서로 다른 문자열 수에 비례하고(대략 압축을 푼 XML 크기의 2~3배),
+ * maxSharedStringsBytes 를 넘는 워크북은 읽기 전에 거절한다.
+ *
+ * names 는 엑셀 열 순서대로 매핑할 필드 이름이고, 비어 있는 이름("")의 열은 버린다.
+ * 변환은 CSV reader 와 같이 FieldSetMapper(BeanWrapperFieldSetMapper) 에 맡긴다.
+ */
+public class XlsxItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+  public static final long DEFAULT_MAX_SHARED_STRINGS_BYTES = 64L * 1024 * 1024;
+
+  @Setter
+  private Resource resource;
+  // 0 부터 시작하는 시트 번호
+  @Setter
+  private int sheetIndex;
+  @Setter
+  private int linesToSkip;
+  @Setter
+  private String[] names;
+  @Setter
+  private FieldSetMapper<T> fieldSetMapper;
+  // 압축을 푼 sharedStrings.xml 의 최대 크기 (bytes)
+  @Setter
+  private long maxSharedStringsBytes = DEFAULT_MAX_SHARED_STRINGS_BYTES;
+
+  private OPCPackage opcPackage;
+  private ReadOnlySharedStringsTable sharedStrings;
+  private InputStream sheetStream;
+  private XMLStreamReader xml;
+  private File tempFile;
+
+  public XlsxItemReader() {
+    setName(ClassUtils.getShortName(XlsxItemReader.class));
+  }
+
+  @Override
+  protected void doOpen() throws Exception {
+    opcPackage = OPCPackage.open(toFile(), PackageAccess.READ);
+    XSSFReader xssfReader = new XSSFReader(opcPackage);
+    checkSharedStringsSize();
+    sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+
+    Iterator<InputStream> sheets = xssfReader.getSheetsData();
+    for (int i = 0; sheets.hasNext(); i++) {
+      InputStream sheet = sheets.next();
+      if (i == sheetIndex) {
+        sheetStream = sheet;
+        break;
+      }
+      sheet.close();
+    }
+    if (sheetStream == null) {
+      throw new IllegalStateException("xlsx 시트를 찾을 수 없습니다 : " + sheetIndex);
+    }
+
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    xml = factory.createXMLStreamReader(sheetStream);
+
+    for (int i = 0; i < linesToSkip; i++) {
+      if (readRow() == null) {
+        break;
+      }
+    }
+  }
+
+  @Override
+  protected T doRead() throws Exception {
+    String[] row;
+    do {
+      row = readRow();
+      if (row == null) {
+        return null;
+      }
+    } while (isBlank(row));
+    return fieldSetMapper.mapFieldSet(toFieldSet(row));
+  }
+
+  @Override
+  protected void doClose() throws Exception {
+    try {
+      if (xml != null) {
+        xml.close();
+      }
+      if (sheetStream != null) {
+        sheetStream.close();
+      }
+      if (opcPackage != null) {
+        // 읽기 전용으로 연 패키지는 저장하지 않고 닫는다
+        opcPackage.revert();
+      }
+    } finally {
+      xml = null;
+      sheetStream = null;
+      opcPackage = null;
+      sharedStrings = null;
+      if (tempFile != null) {
+        Files.deleteIfExists(tempFile.toPath());
+        tempFile = null;
+      }
+    }
+  }
+
+  // 공유 문자열 테이블을 올리기 전에 zip 에 기록된 원본 크기로 상한을 확인
+  private void checkSharedStringsSize() throws InvalidFormatException {
+    for (PackagePart part : opcPackage.getPartsByContentType(
+        XSSFRelation.SHARED_STRINGS.getContentType())) {
+      if (part.getSize() > maxSharedStringsBytes) {
+        throw new IllegalStateException("xlsx 공유 문자열 테이블이 너무 큽니다 : " + part.getSize()
+            + " bytes (batch.import.xlsx.max-shared-strings-bytes=" + maxSharedStringsBytes
+            + ")");
+      }
+    }
+  }
+
+  // 다음 <row> 의 셀 값을 열 번호 위치에 담아 반환, 시트 끝이면 null
+  private String[] readRow() throws XMLStreamException {
+    while (xml.hasNext()) {
+      if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+        return readCells();
+      }
+    }
+    return null;
+  }
+
+  private String[] readCells() throws XMLStreamException {
+    String[] values = new String[names.length];
+    int nextColumn = 0;
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+        return values;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT || !"c".equals(xml.getLocalName())) {
+        continue;
+      }
+      String reference = xml.getAttributeValue(null, "r");
+      int column = reference == null ? nextColumn : columnIndex(reference);
+      String value = readCellValue(xml.getAttributeValue(null, "t"));
+      if (column < values.length) {
+        values[column] = value;
+      }
+      nextColumn = column + 1;
+    }
+    return values;
+  }
+
+  // <c> 안의 <v> 또는 인라인 문자열 <is><t> 를 읽어 셀 타입에 맞게 문자열로 변환
+  private String readCellValue(String type) throws XMLStreamException {
+    StringBuilder text = new StringBuilder();
+    while (xml.hasNext()) {
+      int event = xml.next();
+      if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+        break;
+      }
+      if (event == XMLStreamConstants.START_ELEMENT
+          && ("v".equals(xml.getLocalName()) || "t".equals(xml.getLocalName()))) {
+        text.append(xml.getElementText());
+      }
+    }
+    if (text.length() == 0) {
+      return null;
+    }
+    String raw = text.toString();
+    if ("s".equals(type)) {
+      return sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+    }
+    if ("b".equals(type)) {
+      return "1".equals(raw) ? "TRUE" : "FALSE";
+    }
+    if (type == null || "n".equals(type)) {
+      return plainNumber(raw);
+    }
+    return raw;
+  }
+
+  private DefaultFieldSet toFieldSet(String[] row) {
+    List<String> fieldNames = new ArrayList<>(names.length);
+    List<String> fieldValues = new ArrayList<>(names.length);
+    for (int i = 0; i < names.length; i++) {
+      if (names[i] != null && !names[i].isBlank()) {
+        fieldNames.add(names[i]);
+        fieldValues.add(row[i]);
+      }
+    }
+    return new DefaultFieldSet(fieldValues.toArray(new String[0]),
+        fieldNames.toArray(new String[0]));
+  }
+
+  // 패키지를 파일로 열어야 zip 전체를 메모리에 올리지 않는다 (jar 안의 리소스는 임시 파일로 복사)
+  private File toFile() throws IOException {
+    if (resource.isFile()) {
+      return resource.getFile();
+    }
+    tempFile = File.createTempFile("catalog-", ".xlsx");
+    try (InputStream inputStream = resource.getInputStream()) {
+      Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+    return tempFile;
+  }
+
+  private static boolean isBlank(String[] row) {
+    return Arrays.stream(row).allMatch(value -> value == null || value.isBlank());
+  }
+
+  // "B12" -> 1
+  private static int columnIndex(String reference) {
+    int column = 0;
+    for (int i = 0; i < reference.length(); i++) {
+      char c = reference.charAt(i);
+      if (c < 'A' || c > 'Z') {
+        break;
+      }
+      column = column * 26 + (c - 'A' + 1);
+    }
+    return column - 1;
+  }
+
+  // 엑셀이 저장한 "1.2E-2", "12.0" 같은 숫자를 "0.012", "12" 로
+  private static String plainNumber(String raw) {
+    try {
+      return new BigDecimal(raw).stripTrailingZeros().toPlainString();
+    } catch (NumberFormatException e) {
+      return raw;
+    }
+  }
+}
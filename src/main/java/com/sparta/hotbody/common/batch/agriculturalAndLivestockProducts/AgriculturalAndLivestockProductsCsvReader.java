@@ -6,6 +6,7 @@ import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
 import org.springframework.batch.item.file.mapping.DefaultLineMapper;
 import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
@@ -15,13 +16,17 @@ import org.springframework.core.io.ClassPathResource;
 public class AgriculturalAndLivestockProductsCsvReader {
   @Bean
   @StepScope
-  public FlatFileItemReader<AgriculturalAndLivestockProducts> agriculturalAndLivestockProductsCsvFileItemReader() {
+  public FlatFileItemReader<AgriculturalAndLivestockProducts> agriculturalAndLivestockProductsCsvFileItemReader(
+      @Value("${batch.import.parallel:false}") boolean parallel,
+      @Value("${batch.import.thread-count:4}") int threadCount) {
     /* file read */
     FlatFileItemReader<AgriculturalAndLivestockProducts> flatFileItemReader = new FlatFileItemReader<>();
     flatFileItemReader.setResource(new ClassPathResource(
         "foodData/agriculturalAndLivestockProducts.csv"));
     flatFileItemReader.setLinesToSkip(1); // header line skip
     flatFileItemReader.setEncoding("UTF-8"); // encoding
+    /* 여러 chunk 스레드가 나눠 읽으면 읽은 줄 수가 커밋된 위치가 아니므로 재시작 지점을 저장하지 않음 */
+    flatFileItemReader.setSaveState(!(parallel && threadCount > 1));
 
     /* read하는 데이터를 내부적으로 LineMapper을 통해 Mapping */
     DefaultLineMapper<AgriculturalAndLivestockProducts> defaultLineMapper = new DefaultLineMapper<>();
@@ -1,5 +1,7 @@
 package com.sparta.hotbody.common.batch.aquaticProducts;
 
+import com.sparta.hotbody.common.batch.CatalogFood;
+import com.sparta.hotbody.common.batch.NutrientParser;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -11,7 +13,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-public class AquaticProducts {
+public class AquaticProducts implements CatalogFood {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,6 +31,20 @@ public class AquaticProducts {
   @Column
   String carbohydrate;
 
+  // 정렬, 필터, 합산에 쓰는 숫자 영양성분 (정보가 없으면 null)
+  @Column
+  Float energyValue;
+  @Column
+  Float proteinValue;
+  @Column
+  Float fatValue;
+  @Column
+  Float carbohydrateValue;
+
+  // 이름 + 영양성분 fingerprint, 재적재 시 바뀐 행만 골라내는 데 쓴다
+  @Column(length = 64)
+  String rowHash;
+
   public AquaticProducts(Long id, String foodName, String OneTimeSupply, String energy, String protein,
       String fat, String carbohydrate) {
     this.id = id;
@@ -39,4 +55,12 @@ public class AquaticProducts {
     this.fat = fat;
     this.carbohydrate = carbohydrate;
   }
+
+  @Override
+  public void parseNutrients() {
+    this.energyValue = NutrientParser.parse(energy);
+    this.proteinValue = NutrientParser.parse(protein);
+    this.fatValue = NutrientParser.parse(fat);
+    this.carbohydrateValue = NutrientParser.parse(carbohydrate);
+  }
 }
@@ -0,0 +1,99 @@
+package com.sparta.hotbody.common.batch.checksum;
+
+import com.sparta.hotbody.common.batch.CatalogRowHasher;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 파일 checksum 을 마지막 성공 적재 때와 비교해 바뀌지 않은 파일의 step 을 건너뛴다.
+ * 계산한 checksum 은 job ExecutionContext 에 두었다가 step 이 성공하면 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogChecksumTracker implements StepExecutionListener {
+
+  public static final String UNCHANGED = "UNCHANGED";
+  public static final String CHANGED = "CHANGED";
+  private static final String CHECKSUM_KEY = "catalog.checksum.";
+  private static final String FILE_KEY = "catalog.file.";
+  // 행을 가공하는 규칙(정규화 등)이 바뀌면 올린다 : 파일이 그대로여도 checksum 이 달라져 다시 적재된다
+  private static final String PIPELINE_VERSION = "2";
+
+  private final CatalogImportChecksumRepository catalogImportChecksumRepository;
+
+  public JobExecutionDecider decider(String stepName, Resource resource) {
+    return (jobExecution, stepExecution) -> {
+      if (!resource.exists()) {
+        // 파일이 없으면 step 에서 원래대로 실패하도록 그대로 진행
+        return new FlowExecutionStatus(CHANGED);
+      }
+      String checksum = checksum(resource);
+      boolean unchanged = catalogImportChecksumRepository.findById(stepName)
+          .map(saved -> saved.getChecksum().equals(checksum))
+          .orElse(false);
+      if (unchanged) {
+        log.info("catalog 파일 변경 없음, 적재 건너뜀 : step={}, file={}", stepName,
+            resource.getFilename());
+        return new FlowExecutionStatus(UNCHANGED);
+      }
+      jobExecution.getExecutionContext().putString(CHECKSUM_KEY + stepName, checksum);
+      jobExecution.getExecutionContext().putString(FILE_KEY + stepName, resource.getFilename());
+      return new FlowExecutionStatus(CHANGED);
+    };
+  }
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    String stepName = stepExecution.getStepName();
+    String checksum = (String) stepExecution.getJobExecution().getExecutionContext()
+        .get(CHECKSUM_KEY + stepName);
+    String fileName = (String) stepExecution.getJobExecution().getExecutionContext()
+        .get(FILE_KEY + stepName);
+    if (checksum == null || stepExecution.getStatus() != BatchStatus.COMPLETED) {
+      return stepExecution.getExitStatus();
+    }
+    CatalogImportChecksum saved = catalogImportChecksumRepository.findById(stepName)
+        .orElse(null);
+    if (saved == null) {
+      catalogImportChecksumRepository.save(
+          new CatalogImportChecksum(stepName, fileName, checksum));
+    } else {
+      saved.update(fileName, checksum);
+      catalogImportChecksumRepository.save(saved);
+    }
+    return stepExecution.getExitStatus();
+  }
+
+  private static String checksum(Resource resource) {
+    MessageDigest digest = CatalogRowHasher.newDigest();
+    digest.update(PIPELINE_VERSION.getBytes(StandardCharsets.UTF_8));
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream inputStream = resource.getInputStream()) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("catalog 파일 checksum 계산 실패 : "
+          + resource.getFilename(), e);
+    }
+    return CatalogRowHasher.toHex(digest.digest());
+  }
+}
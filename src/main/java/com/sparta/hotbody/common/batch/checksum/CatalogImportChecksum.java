@@ -0,0 +1,41 @@
+package com.sparta.hotbody.common.batch.checksum;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 마지막으로 적재에 성공한 카탈로그 파일의 checksum
+@Getter
+@NoArgsConstructor
+@Entity
+public class CatalogImportChecksum {
+
+  // import step 이름
+  @Id
+  private String stepName;
+
+  @Column(nullable = false)
+  private String fileName;
+
+  @Column(nullable = false, length = 64)
+  private String checksum;
+
+  @Column(nullable = false)
+  private LocalDateTime importedAt;
+
+  public CatalogImportChecksum(String stepName, String fileName, String checksum) {
+    this.stepName = stepName;
+    this.fileName = fileName;
+    this.checksum = checksum;
+    this.importedAt = LocalDateTime.now();
+  }
+
+  public void update(String fileName, String checksum) {
+    this.fileName = fileName;
+    this.checksum = checksum;
+    this.importedAt = LocalDateTime.now();
+  }
+}
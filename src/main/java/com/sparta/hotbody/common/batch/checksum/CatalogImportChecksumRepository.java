@@ -0,0 +1,7 @@
+package com.sparta.hotbody.common.batch.checksum;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CatalogImportChecksumRepository extends JpaRepository<CatalogImportChecksum, String> {
+
+}
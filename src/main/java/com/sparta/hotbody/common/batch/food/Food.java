@@ -1,5 +1,7 @@
 package com.sparta.hotbody.common.batch.food;
 
+import com.sparta.hotbody.common.batch.CatalogFood;
+import com.sparta.hotbody.common.batch.NutrientParser;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
@@ -11,7 +13,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-public class Food {
+public class Food implements CatalogFood {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +34,22 @@ public class Food {
   @Column
   String sugar;
 
+  // 정렬, 필터, 합산에 쓰는 숫자 영양성분 (정보가 없으면 null)
+  @Column
+  Float energyValue;
+  @Column
+  Float proteinValue;
+  @Column
+  Float fatValue;
+  @Column
+  Float carbohydrateValue;
+  @Column
+  Float sugarValue;
+
+  // 이름 + 영양성분 fingerprint, 재적재 시 바뀐 행만 골라내는 데 쓴다
+  @Column(length = 64)
+  String rowHash;
+
   public Food(Long id, String foodName, String OneTimeSupply, String energy, String protein, String fat,
       String carbohydrate, String sugar) {
     this.id = id;
@@ -43,4 +61,13 @@ public class Food {
     this.carbohydrate = carbohydrate;
     this.sugar = sugar;
   }
+
+  @Override
+  public void parseNutrients() {
+    this.energyValue = NutrientParser.parse(energy);
+    this.proteinValue = NutrientParser.parse(protein);
+    this.fatValue = NutrientParser.parse(fat);
+    this.carbohydrateValue = NutrientParser.parse(carbohydrate);
+    this.sugarValue = NutrientParser.parse(sugar);
+  }
 }
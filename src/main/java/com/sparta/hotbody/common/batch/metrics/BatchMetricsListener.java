@@ -0,0 +1,215 @@
+package com.sparta.hotbody.common.batch.metrics;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * chunk 단위로 read / process / write / commit 시간을 재서 BatchMetricsRegistry 에 모으고,
+ * step / job 이 끝나면 key=value 형식의 한 줄 로그를 남긴다.
+ * 한 chunk 는 한 스레드에서 처리되므로 chunk 안의 측정값은 ThreadLocal 에 둔다.
+ * afterChunk 는 트랜잭션 커밋 뒤에 호출되므로, 마지막 write 이후 afterChunk 까지를 커밋 시간으로 본다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchMetricsListener implements JobExecutionListener, StepExecutionListener,
+    ChunkListener, ItemReadListener<Object>, ItemProcessListener<Object, Object>,
+    ItemWriteListener<Object> {
+
+  private final BatchMetricsRegistry batchMetricsRegistry;
+  private final ThreadLocal<ChunkTimer> timers = ThreadLocal.withInitial(ChunkTimer::new);
+
+  @Override
+  public void beforeJob(JobExecution jobExecution) {
+  }
+
+  @Override
+  public void afterJob(JobExecution jobExecution) {
+    long written = 0;
+    long skipped = 0;
+    for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+      written += stepExecution.getWriteCount();
+      skipped += stepExecution.getSkipCount();
+    }
+    long elapsed = jobExecution.getStartTime() == null ? 0
+        : System.currentTimeMillis() - jobExecution.getStartTime().getTime();
+    log.info("batch.job job={} status={} steps={} write={} skip={} elapsedMs={} itemsPerSec={}",
+        jobExecution.getJobInstance().getJobName(), jobExecution.getStatus(),
+        jobExecution.getStepExecutions().size(), written, skipped, elapsed,
+        elapsed <= 0 ? written : written * 1000 / elapsed);
+  }
+
+  @Override
+  public void beforeStep(StepExecution stepExecution) {
+    batchMetricsRegistry.start(stepExecution);
+  }
+
+  @Override
+  public ExitStatus afterStep(StepExecution stepExecution) {
+    BatchStepMetricsResponseDto metrics = batchMetricsRegistry.finish(stepExecution);
+    if (metrics != null) {
+      log.info("batch.step job={} step={} status={} read={} write={} filter={} readSkip={}"
+              + " processSkip={} writeSkip={} rollback={} chunks={} readMs={} processMs={}"
+              + " writeMs={} commitMs={} avgChunkMs={} maxChunkMs={} maxCommitMs={} elapsedMs={}"
+              + " itemsPerSec={}",
+          metrics.getJobName(), metrics.getStepName(), metrics.getStatus(),
+          metrics.getReadCount(), metrics.getWriteCount(), metrics.getFilterCount(),
+          metrics.getReadSkipCount(), metrics.getProcessSkipCount(), metrics.getWriteSkipCount(),
+          metrics.getRollbackCount(), metrics.getChunks(), metrics.getReadMs(),
+          metrics.getProcessMs(), metrics.getWriteMs(), metrics.getCommitMs(),
+          String.format("%.1f", metrics.getAvgChunkMs()), metrics.getMaxChunkMs(),
+          metrics.getMaxCommitMs(), metrics.getElapsedMs(), metrics.getItemsPerSecond());
+    }
+    return stepExecution.getExitStatus();
+  }
+
+  @Override
+  public void beforeChunk(ChunkContext context) {
+    ChunkTimer timer = timers.get();
+    timer.reset(batchMetricsRegistry.get(context.getStepContext().getStepExecution().getId()));
+  }
+
+  @Override
+  public void afterChunk(ChunkContext context) {
+    ChunkTimer timer = timers.get();
+    BatchStepMetrics metrics = timer.metrics;
+    if (metrics == null) {
+      return;
+    }
+    long now = System.nanoTime();
+    long commit = timer.writeEnd == 0 ? 0 : now - timer.writeEnd;
+    metrics.addChunk(now - timer.chunkStart, commit);
+    if (log.isDebugEnabled()) {
+      log.debug("batch.chunk step={} items={} readMs={} processMs={} writeMs={} commitMs={}",
+          metrics.getStepName(), timer.written, timer.read / 1_000_000,
+          timer.process / 1_000_000, timer.write / 1_000_000, commit / 1_000_000);
+    }
+    timer.metrics = null;
+  }
+
+  @Override
+  public void afterChunkError(ChunkContext context) {
+    ChunkTimer timer = timers.get();
+    if (timer.metrics != null) {
+      timer.metrics.getErrors().increment();
+      timer.metrics = null;
+    }
+  }
+
+  @Override
+  public void beforeRead() {
+    timers.get().phaseStart = System.nanoTime();
+  }
+
+  @Override
+  public void afterRead(Object item) {
+    ChunkTimer timer = timers.get();
+    long nanos = timer.lap();
+    timer.read += nanos;
+    if (timer.metrics != null) {
+      timer.metrics.getReadNanos().add(nanos);
+      timer.metrics.getReadItems().increment();
+    }
+  }
+
+  @Override
+  public void onReadError(Exception ex) {
+    ChunkTimer timer = timers.get();
+    if (timer.metrics != null) {
+      timer.metrics.getReadNanos().add(timer.lap());
+      timer.metrics.getErrors().increment();
+    }
+  }
+
+  @Override
+  public void beforeProcess(Object item) {
+    timers.get().phaseStart = System.nanoTime();
+  }
+
+  @Override
+  public void afterProcess(Object item, Object result) {
+    ChunkTimer timer = timers.get();
+    long nanos = timer.lap();
+    timer.process += nanos;
+    if (timer.metrics != null) {
+      timer.metrics.getProcessNanos().add(nanos);
+      timer.metrics.getProcessedItems().increment();
+    }
+  }
+
+  @Override
+  public void onProcessError(Object item, Exception e) {
+    ChunkTimer timer = timers.get();
+    if (timer.metrics != null) {
+      timer.metrics.getProcessNanos().add(timer.lap());
+      timer.metrics.getErrors().increment();
+    }
+  }
+
+  @Override
+  public void beforeWrite(List<?> items) {
+    timers.get().phaseStart = System.nanoTime();
+  }
+
+  @Override
+  public void afterWrite(List<?> items) {
+    ChunkTimer timer = timers.get();
+    long nanos = timer.lap();
+    timer.write += nanos;
+    timer.written += items.size();
+    timer.writeEnd = System.nanoTime();
+    if (timer.metrics != null) {
+      timer.metrics.getWriteNanos().add(nanos);
+      timer.metrics.getWrittenItems().add(items.size());
+    }
+  }
+
+  @Override
+  public void onWriteError(Exception exception, List<?> items) {
+    ChunkTimer timer = timers.get();
+    if (timer.metrics != null) {
+      timer.metrics.getWriteNanos().add(timer.lap());
+      timer.metrics.getErrors().increment();
+    }
+  }
+
+  // 현재 스레드가 처리 중인 chunk 의 측정값
+  private static class ChunkTimer {
+
+    private BatchStepMetrics metrics;
+    private long chunkStart;
+    private long phaseStart;
+    private long writeEnd;
+    private long read;
+    private long process;
+    private long write;
+    private long written;
+
+    void reset(BatchStepMetrics metrics) {
+      this.metrics = metrics;
+      this.chunkStart = System.nanoTime();
+      this.phaseStart = chunkStart;
+      this.writeEnd = 0;
+      this.read = 0;
+      this.process = 0;
+      this.write = 0;
+      this.written = 0;
+    }
+
+    long lap() {
+      return System.nanoTime() - phaseStart;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.sparta.hotbody.common.batch.metrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+// 실행 중인 step 지표와 최근 끝난 step 지표를 메모리에 보관 (최근 기록은 개수 제한)
+@Component
+public class BatchMetricsRegistry {
+
+  private static final int HISTORY_SIZE = 50;
+
+  private final Map<Long, BatchStepMetrics> running = new ConcurrentHashMap<>();
+  private final Deque<BatchStepMetricsResponseDto> history = new ArrayDeque<>();
+
+  public BatchStepMetrics start(StepExecution stepExecution) {
+    BatchStepMetrics metrics = new BatchStepMetrics(stepExecution.getId(),
+        stepExecution.getJobExecution().getJobInstance().getJobName(),
+        stepExecution.getStepName());
+    running.put(stepExecution.getId(), metrics);
+    return metrics;
+  }
+
+  public BatchStepMetrics get(Long stepExecutionId) {
+    return stepExecutionId == null ? null : running.get(stepExecutionId);
+  }
+
+  public BatchStepMetricsResponseDto finish(StepExecution stepExecution) {
+    BatchStepMetrics metrics = running.remove(stepExecution.getId());
+    if (metrics == null) {
+      return null;
+    }
+    BatchStepMetricsResponseDto result = new BatchStepMetricsResponseDto(metrics, stepExecution);
+    synchronized (history) {
+      history.addFirst(result);
+      while (history.size() > HISTORY_SIZE) {
+        history.removeLast();
+      }
+    }
+    return result;
+  }
+
+  // 실행 중인 step 먼저, 그다음 최근에 끝난 순서
+  public List<BatchStepMetricsResponseDto> getMetrics() {
+    List<BatchStepMetricsResponseDto> metrics = new ArrayList<>();
+    running.values().forEach(step -> metrics.add(new BatchStepMetricsResponseDto(step, null)));
+    synchronized (history) {
+      metrics.addAll(history);
+    }
+    return metrics;
+  }
+}
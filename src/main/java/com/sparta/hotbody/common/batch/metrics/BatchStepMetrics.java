@@ -0,0 +1,42 @@
+package com.sparta.hotbody.common.batch.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+// 실행 중인 step 하나의 누적 측정값 (multi-threaded step 에서도 쓰도록 모두 동시성 카운터)
+@Getter
+public class BatchStepMetrics {
+
+  private final long stepExecutionId;
+  private final String jobName;
+  private final String stepName;
+  private final long startedAt = System.currentTimeMillis();
+
+  private final LongAdder chunks = new LongAdder();
+  private final LongAdder readItems = new LongAdder();
+  private final LongAdder processedItems = new LongAdder();
+  private final LongAdder writtenItems = new LongAdder();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder readNanos = new LongAdder();
+  private final LongAdder processNanos = new LongAdder();
+  private final LongAdder writeNanos = new LongAdder();
+  private final LongAdder commitNanos = new LongAdder();
+  private final LongAdder chunkNanos = new LongAdder();
+  private final AtomicLong maxChunkNanos = new AtomicLong();
+  private final AtomicLong maxCommitNanos = new AtomicLong();
+
+  public BatchStepMetrics(long stepExecutionId, String jobName, String stepName) {
+    this.stepExecutionId = stepExecutionId;
+    this.jobName = jobName;
+    this.stepName = stepName;
+  }
+
+  public void addChunk(long nanos, long commit) {
+    chunks.increment();
+    chunkNanos.add(nanos);
+    commitNanos.add(commit);
+    maxChunkNanos.accumulateAndGet(nanos, Math::max);
+    maxCommitNanos.accumulateAndGet(commit, Math::max);
+  }
+}
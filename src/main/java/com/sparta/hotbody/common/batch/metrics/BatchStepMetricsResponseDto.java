@@ -0,0 +1,65 @@
+package com.sparta.hotbody.common.batch.metrics;
+
+import lombok.Getter;
+import org.springframework.batch.core.StepExecution;
+
+// 관리자 배치 지표 조회 응답 (시간 단위는 ms)
+@Getter
+public class BatchStepMetricsResponseDto {
+
+  private final long stepExecutionId;
+  private final String jobName;
+  private final String stepName;
+  private final String status;
+  private final long startedAt;
+  private final long elapsedMs;
+  private final long chunks;
+  private final long readCount;
+  private final long writeCount;
+  private final long filterCount;
+  private final long readSkipCount;
+  private final long processSkipCount;
+  private final long writeSkipCount;
+  private final long rollbackCount;
+  private final long readMs;
+  private final long processMs;
+  private final long writeMs;
+  private final long commitMs;
+  private final double avgChunkMs;
+  private final long maxChunkMs;
+  private final long maxCommitMs;
+  private final long itemsPerSecond;
+
+  // 실행 중인 step 은 stepExecution 없이 누적값만으로, 끝난 step 은 최종 카운트로 만든다
+  public BatchStepMetricsResponseDto(BatchStepMetrics metrics, StepExecution stepExecution) {
+    long chunks = metrics.getChunks().sum();
+    this.stepExecutionId = metrics.getStepExecutionId();
+    this.jobName = metrics.getJobName();
+    this.stepName = metrics.getStepName();
+    this.status = stepExecution == null ? "STARTED" : stepExecution.getStatus().name();
+    this.startedAt = metrics.getStartedAt();
+    this.elapsedMs = System.currentTimeMillis() - metrics.getStartedAt();
+    this.chunks = chunks;
+    this.readCount = stepExecution == null
+        ? metrics.getReadItems().sum() : stepExecution.getReadCount();
+    this.writeCount = stepExecution == null
+        ? metrics.getWrittenItems().sum() : stepExecution.getWriteCount();
+    this.filterCount = stepExecution == null ? 0 : stepExecution.getFilterCount();
+    this.readSkipCount = stepExecution == null ? 0 : stepExecution.getReadSkipCount();
+    this.processSkipCount = stepExecution == null ? 0 : stepExecution.getProcessSkipCount();
+    this.writeSkipCount = stepExecution == null ? 0 : stepExecution.getWriteSkipCount();
+    this.rollbackCount = stepExecution == null ? 0 : stepExecution.getRollbackCount();
+    this.readMs = millis(metrics.getReadNanos().sum());
+    this.processMs = millis(metrics.getProcessNanos().sum());
+    this.writeMs = millis(metrics.getWriteNanos().sum());
+    this.commitMs = millis(metrics.getCommitNanos().sum());
+    this.avgChunkMs = chunks == 0 ? 0 : metrics.getChunkNanos().sum() / 1_000_000.0 / chunks;
+    this.maxChunkMs = millis(metrics.getMaxChunkNanos().get());
+    this.maxCommitMs = millis(metrics.getMaxCommitNanos().get());
+    this.itemsPerSecond = elapsedMs <= 0 ? writeCount : writeCount * 1000 / elapsedMs;
+  }
+
+  private static long millis(long nanos) {
+    return nanos / 1_000_000;
+  }
+}
@@ -0,0 +1,50 @@
+package com.sparta.hotbody.common.batch.processedfood;
+
+import com.sparta.hotbody.common.batch.XlsxItemReader;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.DefaultResourceLoader;
+
+// 식품영양성분 DB 같은 대용량 xlsx 워크북을 가공식품 카탈로그로 읽는 reader
+@Configuration
+@RequiredArgsConstructor
+public class ProcessedFoodXlsxReader {
+
+  @Bean
+  @StepScope
+  public XlsxItemReader<ProcessedFood> processedFoodXlsxFileItemReader(
+      @Value("${batch.import.xlsx.path:}") String path,
+      @Value("${batch.import.xlsx.sheet:0}") int sheet,
+      @Value("${batch.import.xlsx.lines-to-skip:1}") int linesToSkip,
+      @Value("${batch.import.xlsx.columns:foodName,factory,OneTimeSupply,energy,protein,fat,carbohydrate,sugar}") String columns,
+      @Value("${batch.import.xlsx.max-shared-strings-bytes:67108864}") long maxSharedStringsBytes,
+      @Value("${batch.import.parallel:false}") boolean parallel,
+      @Value("${batch.import.thread-count:4}") int threadCount) {
+    XlsxItemReader<ProcessedFood> xlsxItemReader = new XlsxItemReader<>();
+    /* file:/data/food.xlsx, classpath:foodData/food.xlsx 형식 모두 가능 */
+    xlsxItemReader.setResource(new DefaultResourceLoader().getResource(path));
+    xlsxItemReader.setSheetIndex(sheet);
+    xlsxItemReader.setLinesToSkip(linesToSkip); // header line skip
+    /* 공유 문자열 테이블은 heap 에 통째로 올라가므로 크기 상한 (기본 64MB) */
+    xlsxItemReader.setMaxSharedStringsBytes(maxSharedStringsBytes);
+    /* 여러 chunk 스레드가 나눠 읽으면 읽은 행 수가 커밋된 위치가 아니므로 재시작 지점을 저장하지 않음 */
+    xlsxItemReader.setSaveState(!(parallel && threadCount > 1));
+
+    /* 엑셀 열 순서대로 필드 이름 지정, 쓰지 않는 열은 빈 이름 (예: "foodName,,energy") */
+    xlsxItemReader.setNames(Arrays.stream(columns.split(",", -1))
+        .map(String::trim)
+        .toArray(String[]::new));
+
+    /* beanWrapperFieldSetMapper : 행 데이터를 VO로 바인드 */
+    BeanWrapperFieldSetMapper<ProcessedFood> beanWrapperFieldSetMapper = new BeanWrapperFieldSetMapper<>();
+    beanWrapperFieldSetMapper.setTargetType(ProcessedFood.class);
+    xlsxItemReader.setFieldSetMapper(beanWrapperFieldSetMapper);
+
+    return xlsxItemReader;
+  }
+}
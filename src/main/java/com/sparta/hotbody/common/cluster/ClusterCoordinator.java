@@ -0,0 +1,126 @@
+package com.sparta.hotbody.common.cluster;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 / @Scheduled 작업을 클러스터 전체에서 한 노드만 실행하게 한다.
+ * 작업 이름의 lease 를 잡은 노드만 실행하고, 실행 중에는 ttl 의 1/3 마다 lease 를 연장한다.
+ * 노드가 죽으면 연장이 멈춰 ttl 뒤 다른 노드가 잡을 수 있다.
+ */
+@Slf4j
+@Component
+public class ClusterCoordinator {
+
+  private final ClusterLock clusterLock;
+  @Getter
+  private final String nodeId;
+  private final ScheduledExecutorService renewer;
+
+  public ClusterCoordinator(ClusterLock clusterLock) {
+    this.clusterLock = clusterLock;
+    this.nodeId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "cluster-lease-renewer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * lease 를 잡으면 task 를 실행하고 true, 다른 노드가 실행 중이면 실행하지 않고 false.
+   * 실행 중 lease 를 잃으면(다른 노드가 가져갔거나 ttl 동안 연장하지 못함) onLeaseLost 를 한 번 호출한다.
+   * 그 뒤에는 다른 노드가 같은 작업을 시작할 수 있으므로, task 는 이를 받아 쓰기를 멈춰야 한다.
+   */
+  public boolean runExclusively(String name, Duration ttl, Runnable task, Runnable onLeaseLost) {
+    if (!clusterLock.tryLock(name, nodeId, ttl)) {
+      log.info("cluster lease 획득 실패, 다른 노드가 실행 중 : name={}, node={}", name, nodeId);
+      return false;
+    }
+    long period = Math.max(ttl.toMillis() / 3, 1);
+    LeaseRenewal lease = new LeaseRenewal(name, ttl, onLeaseLost);
+    ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(lease, period, period,
+        TimeUnit.MILLISECONDS);
+    log.info("cluster lease 획득 : name={}, node={}", name, nodeId);
+    try {
+      task.run();
+      return true;
+    } finally {
+      renewal.cancel(false);
+      clusterLock.unlock(name, nodeId);
+      log.info("cluster lease 반납 : name={}, node={}", name, nodeId);
+    }
+  }
+
+  // 어떤 노드든 name 작업을 실행 중인지
+  public boolean isRunning(String name) {
+    return clusterLock.isLocked(name);
+  }
+
+  // renewer 스레드에서만 실행된다
+  private class LeaseRenewal implements Runnable {
+
+    private final String name;
+    private final Duration ttl;
+    private final Runnable onLeaseLost;
+    private long renewedAt = System.nanoTime();
+    private boolean lost;
+
+    private LeaseRenewal(String name, Duration ttl, Runnable onLeaseLost) {
+      this.name = name;
+      this.ttl = ttl;
+      this.onLeaseLost = onLeaseLost;
+    }
+
+    @Override
+    public void run() {
+      if (lost) {
+        return;
+      }
+      try {
+        if (clusterLock.renew(name, nodeId, ttl)) {
+          renewedAt = System.nanoTime();
+          return;
+        }
+        log.warn("cluster lease 연장 실패, 이미 만료되었거나 다른 노드가 가져감 : name={}, node={}",
+            name, nodeId);
+      } catch (RuntimeException e) {
+        // Redis 일시 오류는 lease 가 아직 살아 있을 수 있으므로 ttl 이 지날 때까지 다시 시도한다
+        if (System.nanoTime() - renewedAt < ttl.toNanos()) {
+          log.warn("cluster lease 연장 중 오류, 재시도 : name={}, {}", name, e.getMessage());
+          return;
+        }
+        log.warn("cluster lease 연장 중 오류, ttl 경과 : name={}, {}", name, e.getMessage());
+      }
+      lost = true;
+      try {
+        onLeaseLost.run();
+      } catch (RuntimeException e) {
+        log.error("cluster lease 상실 처리 실패 : name={}, {}", name, e.getMessage(), e);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    renewer.shutdownNow();
+  }
+
+  private static String hostName() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return "unknown";
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.sparta.hotbody.common.cluster;
+
+import java.time.Duration;
+
+/**
+ * 여러 인스턴스가 같은 작업을 한 번만 하도록 잡는 만료 시간(lease) 있는 잠금.
+ * owner 가 일치할 때만 연장/해제되므로 만료 뒤 다른 노드가 잡은 잠금을 건드리지 않는다.
+ */
+public interface ClusterLock {
+
+  // 비어 있으면 owner 로 잡고 true
+  boolean tryLock(String name, String owner, Duration ttl);
+
+  // 아직 owner 가 잡고 있으면 만료 시간을 ttl 로 다시 설정하고 true
+  boolean renew(String name, String owner, Duration ttl);
+
+  void unlock(String name, String owner);
+
+  // 누군가(자기 자신 포함) 잡고 있는지
+  boolean isLocked(String name);
+}
@@ -0,0 +1,60 @@
+package com.sparta.hotbody.common.cluster;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 단일 인스턴스 / 테스트용 (cluster.lock.type=memory) : 같은 JVM 안에서만 배타적
+@Component
+@ConditionalOnProperty(name = "cluster.lock.type", havingValue = "memory")
+public class InMemoryClusterLock implements ClusterLock {
+
+  private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+  @Override
+  public boolean tryLock(String name, String owner, Duration ttl) {
+    Lease lease = new Lease(owner, expiresAt(ttl));
+    return leases.compute(name,
+        (key, current) -> current == null || current.isExpired() ? lease : current) == lease;
+  }
+
+  @Override
+  public boolean renew(String name, String owner, Duration ttl) {
+    Lease renewed = new Lease(owner, expiresAt(ttl));
+    return leases.computeIfPresent(name,
+        (key, current) -> !current.isExpired() && current.owner.equals(owner) ? renewed : current)
+        == renewed;
+  }
+
+  @Override
+  public void unlock(String name, String owner) {
+    leases.computeIfPresent(name, (key, current) -> current.owner.equals(owner) ? null : current);
+  }
+
+  @Override
+  public boolean isLocked(String name) {
+    Lease lease = leases.get(name);
+    return lease != null && !lease.isExpired();
+  }
+
+  private static long expiresAt(Duration ttl) {
+    return System.nanoTime() + ttl.toNanos();
+  }
+
+  private static final class Lease {
+
+    private final String owner;
+    private final long expiresAt;
+
+    private Lease(String owner, long expiresAt) {
+      this.owner = owner;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - expiresAt >= 0;
+    }
+  }
+}
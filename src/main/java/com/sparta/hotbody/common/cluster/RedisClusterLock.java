@@ -0,0 +1,50 @@
+package com.sparta.hotbody.common.cluster;
+
+import java.time.Duration;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// SET NX PX 로 잡고, 연장/해제는 값(owner)을 비교하는 Lua 스크립트로 원자적으로 처리
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cluster.lock.type", havingValue = "redis", matchIfMissing = true)
+public class RedisClusterLock implements ClusterLock {
+
+  private static final String KEY_PREFIX = "lock:";
+  private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+  private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Override
+  public boolean tryLock(String name, String owner, Duration ttl) {
+    return Boolean.TRUE.equals(
+        stringRedisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, owner, ttl));
+  }
+
+  @Override
+  public boolean renew(String name, String owner, Duration ttl) {
+    Long renewed = stringRedisTemplate.execute(RENEW, Collections.singletonList(KEY_PREFIX + name),
+        owner, String.valueOf(ttl.toMillis()));
+    return renewed != null && renewed == 1L;
+  }
+
+  @Override
+  public void unlock(String name, String owner) {
+    stringRedisTemplate.execute(UNLOCK, Collections.singletonList(KEY_PREFIX + name), owner);
+  }
+
+  @Override
+  public boolean isLocked(String name) {
+    return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + name));
+  }
+}
@@ -1,26 +1,62 @@
 package com.sparta.hotbody.common.config;
 
 
+import com.sparta.hotbody.common.batch.CatalogDeltaProcessor;
+import com.sparta.hotbody.common.batch.CatalogFood;
+import com.sparta.hotbody.common.batch.CatalogJdbcBatchWriter;
+import com.sparta.hotbody.common.batch.CatalogNormalizingProcessor;
+import com.sparta.hotbody.common.batch.CatalogRowRejectedException;
+import com.sparta.hotbody.common.batch.CatalogSkipFileListener;
+import com.sparta.hotbody.common.batch.NutrientParsingProcessor;
 import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProducts;
 import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProductsCsvReader;
 import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProductsCsvWriter;
 import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProducts;
 import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProductsCsvReader;
 import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProductsCsvWriter;
+import com.sparta.hotbody.common.batch.checksum.CatalogChecksumTracker;
+import com.sparta.hotbody.common.batch.metrics.BatchMetricsListener;
 import com.sparta.hotbody.common.batch.food.Food;
 import com.sparta.hotbody.common.batch.food.FoodCsvReader;
 import com.sparta.hotbody.common.batch.food.FoodCsvWriter;
 import com.sparta.hotbody.common.batch.processedfood.ProcessedFood;
 import com.sparta.hotbody.common.batch.processedfood.ProcessedFoodCsvReader;
 import com.sparta.hotbody.common.batch.processedfood.ProcessedFoodCsvWriter;
+import com.sparta.hotbody.common.batch.processedfood.ProcessedFoodXlsxReader;
+import com.sparta.hotbody.diet.search.FoodCatalogJobListener;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.builder.FlowJobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.CompositeItemProcessor;
+import org.springframework.batch.item.support.SynchronizedItemStreamReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Slf4j
 @Configuration
@@ -36,59 +72,215 @@ public class FileItemReaderJobConfig {
   private final AquaticProductsCsvWriter aquaticProductsCsvWriter;
   private final ProcessedFoodCsvReader processedFoodCsvReader;
   private final ProcessedFoodCsvWriter processedFoodCsvWriter;
+  private final ProcessedFoodXlsxReader processedFoodXlsxReader;
   private final FoodCsvReader foodCsvReader;
   private final FoodCsvWriter foodCsvWriter;
+  private final FoodCatalogJobListener foodCatalogJobListener;
+  private final BatchMetricsListener batchMetricsListener;
+  private final JdbcTemplate jdbcTemplate;
+  private final CatalogChecksumTracker catalogChecksumTracker;
+  private final CatalogSkipFileListener catalogSkipFileListener;
   private static final int chunkSize = 1000;
 
+  // true 면 4개 step 을 동시에 실행하고, 각 step 도 chunk 단위로 여러 스레드에서 처리
+  @Value("${batch.import.parallel:false}")
+  private boolean parallel;
+
+  @Value("${batch.import.thread-count:4}")
+  private int threadCount;
+
+  // jdbc : JDBC batch INSERT (기본), jpa : repository.saveAll
+  @Value("${batch.import.writer:jdbc}")
+  private String writerType;
+
+  // true 면 변경된 파일만, 그 안에서도 바뀐 행만 적재 (false 면 매번 전체를 다시 INSERT)
+  @Value("${batch.import.delta:true}")
+  private boolean delta;
+
+  // 설정하면 가공식품 카탈로그를 CSV 대신 이 xlsx 워크북에서 적재 (비어 있으면 xlsx step 없음)
+  @Value("${batch.import.xlsx.path:}")
+  private String xlsxPath;
+
+  private TaskExecutor csvImportTaskExecutor;
+
   @Bean
   public Job csvFileItemReaderJob() {
-    return jobBuilderFactory.get("csvFileItemReaderJob")
-        .start(agriculturalAndLivestockProductsCsvFileItemReaderStep())
-        .next(aquaticProductsCsvFileItemReaderStep())
-        .next(processedFoodCsvFileItemReaderStep())
-        .next(foodCsvFileItemReaderStep())
-        .build();
+    List<Flow> flows = importFlows();
+    if (parallel) {
+      // 카테고리별 step 은 서로 다른 테이블에 쓰므로 split 으로 동시에 실행해도 안전
+      Flow splitFlow = new FlowBuilder<Flow>("csvFileItemReaderSplitFlow")
+          .split(new SimpleAsyncTaskExecutor("csv-import-flow-"))
+          .add(flows.toArray(new Flow[0]))
+          .build();
+      // 여러 스레드가 reader 를 공유하면 재시작 지점을 저장하지 않으므로 실패한 실행은 이어서 돌리지 않는다
+      // (delta 모드면 새 실행이 이미 적재된 행을 건너뛴다)
+      return jobBuilderFactory.get("csvFileItemReaderJob")
+          .preventRestart()
+          .listener(foodCatalogJobListener)
+          .listener(batchMetricsListener)
+          .start(splitFlow)
+          .end()
+          .build();
+    }
+    FlowBuilder<FlowJobBuilder> builder = jobBuilderFactory.get("csvFileItemReaderJob")
+        .listener(foodCatalogJobListener)
+        .listener(batchMetricsListener)
+        .start(flows.get(0));
+    for (Flow flow : flows.subList(1, flows.size())) {
+      builder = builder.next(flow);
+    }
+    return builder.end().build();
+  }
+
+  private List<Flow> importFlows() {
+    List<Flow> flows = new ArrayList<>();
+    flows.add(flow(agriculturalAndLivestockProductsCsvFileItemReaderStep(),
+        "foodData/agriculturalAndLivestockProducts.csv"));
+    flows.add(flow(aquaticProductsCsvFileItemReaderStep(), "foodData/aquaticProducts.csv"));
+    // xlsx 를 쓰면 가공식품은 xlsx 만 원본으로 삼는다 (delta 삭제가 서로의 행을 지우지 않게)
+    if (!isXlsxEnabled()) {
+      flows.add(flow(processedFoodCsvFileItemReaderStep(), "foodData/processedFood.csv"));
+    }
+    flows.add(flow(foodCsvFileItemReaderStep(), "foodData/food.csv"));
+    if (isXlsxEnabled()) {
+      flows.add(flow(processedFoodXlsxFileItemReaderStep(),
+          new DefaultResourceLoader().getResource(xlsxPath)));
+    }
+    return flows;
+  }
+
+  private boolean isXlsxEnabled() {
+    return xlsxPath != null && !xlsxPath.isBlank();
   }
 
+  // step 안의 chunk 처리용 스레드 풀 (split 용 스레드와 분리해 서로 기다리다 멈추지 않게 한다)
+  // Executor 를 bean 으로 등록하면 boot 기본 applicationTaskExecutor 가 빠지므로 직접 보관
+  private synchronized TaskExecutor csvImportTaskExecutor() {
+    if (csvImportTaskExecutor != null) {
+      return csvImportTaskExecutor;
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threadCount);
+    executor.setMaxPoolSize(threadCount);
+    executor.setThreadNamePrefix("csv-import-");
+    executor.setDaemon(true);
+    executor.initialize();
+    csvImportTaskExecutor = executor;
+    return executor;
+  }
 
   @Bean
   public Step agriculturalAndLivestockProductsCsvFileItemReaderStep() {
-    return stepBuilderFactory.get("agriculturalAndLivestockProductsCsvFileItemReaderStep")
-        .<AgriculturalAndLivestockProducts, AgriculturalAndLivestockProducts>chunk(chunkSize)
-        .reader(agriculturalAndLivestockProductsCsvReader.agriculturalAndLivestockProductsCsvFileItemReader())
-        .writer(agriculturalAndLivestockProductsCsvWriter)
-        .build();
-
+    return csvStep("agriculturalAndLivestockProductsCsvFileItemReaderStep",
+        agriculturalAndLivestockProductsCsvReader.agriculturalAndLivestockProductsCsvFileItemReader(false, 0),
+        agriculturalAndLivestockProductsCsvWriter, "agricultural_and_livestock_products", false,
+        true);
   }
 
   @Bean
   public Step aquaticProductsCsvFileItemReaderStep() {
-    return stepBuilderFactory.get("aquaticProductsCsvFileItemReaderStep")
-        .<AquaticProducts, AquaticProducts>chunk(chunkSize)
-        .reader(aquaticProductsCsvReader.aquaticProductsCsvFileItemReader())
-        .writer(aquaticProductsCsvWriter)
-        .build();
-
+    return csvStep("aquaticProductsCsvFileItemReaderStep",
+        aquaticProductsCsvReader.aquaticProductsCsvFileItemReader(false, 0),
+        aquaticProductsCsvWriter, "aquatic_products", false, false);
   }
 
   @Bean
   public Step processedFoodCsvFileItemReaderStep() {
-    return stepBuilderFactory.get("processedFoodCsvFileItemReaderStep")
-        .<ProcessedFood, ProcessedFood>chunk(chunkSize)
-        .reader(processedFoodCsvReader.processedFoodCsvFileItemReader())
-        .writer(processedFoodCsvWriter)
-        .build();
-
+    return csvStep("processedFoodCsvFileItemReaderStep",
+        processedFoodCsvReader.processedFoodCsvFileItemReader(false, 0),
+        processedFoodCsvWriter, "processed_food", true, true);
   }
 
   @Bean
   public Step foodCsvFileItemReaderStep() {
-    return stepBuilderFactory.get("processedFoodCsvFileItemReaderStep")
-        .<Food, Food>chunk(chunkSize)
-        .reader(foodCsvReader.foodCsvFileItemReader())
-        .writer(foodCsvWriter)
-        .build();
+    return csvStep("foodCsvFileItemReaderStep",
+        foodCsvReader.foodCsvFileItemReader(false, 0),
+        foodCsvWriter, "food", false, true);
+  }
+
+  @Bean
+  public Step processedFoodXlsxFileItemReaderStep() {
+    return csvStep("processedFoodXlsxFileItemReaderStep",
+        processedFoodXlsxReader.processedFoodXlsxFileItemReader(null, 0, 0, null, 0, false, 0),
+        processedFoodCsvWriter, "processed_food", true, true);
+  }
+
+  // 정규화 -> (delta 면 변경분 골라내기 +) 영양성분 숫자 변환 순서로 처리하고, 정규화에서 거절된 행은 skip
+  // CompositeItemProcessor 로 감싸면 processor 가 step listener 로 자동 등록되지 않으므로 직접 등록
+  private <T extends CatalogFood> Step csvStep(String name, ItemStreamReader<T> reader,
+      ItemWriter<T> jpaWriter, String table, boolean hasFactory, boolean hasSugar) {
+    CatalogNormalizingProcessor<T> normalizingProcessor = new CatalogNormalizingProcessor<>();
+    NutrientParsingProcessor<T> parsingProcessor = delta
+        ? new CatalogDeltaProcessor<>(jdbcTemplate, table, hasFactory, hasSugar)
+        : new NutrientParsingProcessor<>();
+    CompositeItemProcessor<T, T> processor = new CompositeItemProcessor<>();
+    processor.setDelegates(List.of(normalizingProcessor, parsingProcessor));
+
+    FaultTolerantStepBuilder<T, T> builder = stepBuilderFactory.get(name)
+        .<T, T>chunk(chunkSize)
+        .reader(parallel ? synchronizedReader(reader) : reader)
+        .processor(processor)
+        .writer(writer(jpaWriter, table, hasFactory, hasSugar))
+        .faultTolerant()
+        .skip(CatalogRowRejectedException.class)
+        .skipLimit(Integer.MAX_VALUE)
+        // 거절은 그 행만의 문제라 chunk 를 되돌릴 필요가 없다
+        .noRollback(CatalogRowRejectedException.class)
+        // 재시도 때 같은 행을 다시 정규화하면 중복 검사에 걸리므로 처리 결과를 재사용
+        .processorNonTransactional();
+    builder.listener((StepExecutionListener) normalizingProcessor);
+    if (parsingProcessor instanceof StepExecutionListener) {
+      builder.listener((StepExecutionListener) parsingProcessor);
+    }
+    builder.listener((SkipListener<CatalogFood, CatalogFood>) catalogSkipFileListener);
+    // 하나의 listener 가 여러 인터페이스를 구현하므로 종류별로 나눠 등록
+    builder.listener((StepExecutionListener) batchMetricsListener);
+    builder.listener((ChunkListener) batchMetricsListener);
+    builder.listener((ItemReadListener<Object>) batchMetricsListener);
+    builder.listener((ItemProcessListener<Object, Object>) batchMetricsListener);
+    builder.listener((ItemWriteListener<Object>) batchMetricsListener);
+    if (delta) {
+      builder.listener(catalogChecksumTracker);
+    }
+    if (parallel) {
+      builder.taskExecutor(csvImportTaskExecutor())
+          .throttleLimit(threadCount);
+    }
+    return builder.build();
+  }
+
+  private <T extends CatalogFood> ItemWriter<T> writer(ItemWriter<T> jpaWriter, String table,
+      boolean hasFactory, boolean hasSugar) {
+    if ("jpa".equalsIgnoreCase(writerType)) {
+      return jpaWriter;
+    }
+    return new CatalogJdbcBatchWriter<>(jdbcTemplate, table, hasFactory, hasSugar);
+  }
+
+  // FlatFileItemReader 는 스레드 안전하지 않으므로 read 를 동기화해서 여러 chunk 스레드가 공유
+  // (이때 reader 는 saveState=false 로 만들어져 재시작 지점을 저장하지 않는다)
+  private static <T> SynchronizedItemStreamReader<T> synchronizedReader(
+      ItemStreamReader<T> reader) {
+    SynchronizedItemStreamReader<T> synchronizedReader = new SynchronizedItemStreamReader<>();
+    synchronizedReader.setDelegate(reader);
+    return synchronizedReader;
+  }
+
+  // delta 모드에서는 파일 checksum 이 지난번과 같으면 step 을 실행하지 않고 넘어간다
+  private Flow flow(Step step, String path) {
+    return flow(step, new ClassPathResource(path));
+  }
 
+  private Flow flow(Step step, Resource resource) {
+    if (!delta) {
+      return new FlowBuilder<Flow>(step.getName() + "Flow").start(step).build();
+    }
+    JobExecutionDecider decider = catalogChecksumTracker.decider(step.getName(), resource);
+    return new FlowBuilder<Flow>(step.getName() + "Flow")
+        .start(decider)
+        .on(CatalogChecksumTracker.UNCHANGED).end()
+        .from(decider).on("*").to(step)
+        .end();
   }
 
 }
@@ -0,0 +1,58 @@
+package com.sparta.hotbody.common.jwt;
+
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TokenDigest 다이제스트용 Bloom filter. 다이제스트가 이미 SHA-256 이므로 앞 16바이트를 두 해시로 나눠
+ * 이중 해싱(h1 + i * h2)으로 k 개 비트를 고른다. 넣기와 읽기가 동시에 일어나도 되도록 비트는 원자적으로 세운다.
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bits;
+  private final int hashes;
+
+  BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1, expectedInsertions);
+    long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+    this.words = new AtomicLongArray((int) ((m + 63) / 64));
+    this.bits = words.length() * 64L;
+    this.hashes = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+  }
+
+  void put(String digest) {
+    long[] h = hash(digest);
+    for (int i = 0; i < hashes; i++) {
+      long index = Math.floorMod(h[0] + i * h[1], bits);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      do {
+        current = words.get(word);
+      } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  boolean mightContain(String digest) {
+    long[] h = hash(digest);
+    for (int i = 0; i < hashes; i++) {
+      long index = Math.floorMod(h[0] + i * h[1], bits);
+      if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long[] hash(String digest) {
+    byte[] bytes = Base64.getUrlDecoder().decode(digest);
+    long h1 = 0;
+    long h2 = 0;
+    for (int i = 0; i < 8; i++) {
+      h1 = (h1 << 8) | (bytes[i] & 0xff);
+      h2 = (h2 << 8) | (bytes[i + 8] & 0xff);
+    }
+    return new long[]{h1, h2 | 1};
+  }
+}
@@ -32,11 +32,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     log.info(refreshToken1);
     try {
       if (token != null) {
-        if (!jwtUtil.validateToken(token)) {
+        Claims info = jwtUtil.verifyToken(token);
+        if (info == null) {
           jwtExceptionHandler(response, "Invalid JWT signature", HttpStatus.BAD_REQUEST.value());
           return;
         }
-        Claims info = jwtUtil.getUserInfoFromToken(token);
+        if (jwtUtil.isRevoked(token)) {
+          jwtExceptionHandler(response, "Revoked JWT token, 로그아웃된 JWT token 입니다.",
+              HttpStatus.BAD_REQUEST.value());
+          return;
+        }
         setAuthentication(info.getSubject(), info.get(jwtUtil.AUTHORIZATION_KEY).toString());
       }
     } catch (ExpiredJwtException e) {
@@ -46,11 +51,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             HttpStatus.BAD_REQUEST.value());
         return;
       }
-      if (jwtUtil.validateRefreshToken(refreshToken)) {
+      String nextRefreshToken = jwtUtil.useRefreshToken(refreshToken);
+      if (nextRefreshToken != null) {
         String reCreateAccessToken = jwtUtil.reCreateAccessToken(refreshToken);
         Claims info = jwtUtil.getUserInfoFromToken(reCreateAccessToken.substring(7));
 
         response.addHeader(jwtUtil.AUTHORIZATION_HEADER, reCreateAccessToken);
+        if (!nextRefreshToken.substring(7).equals(refreshToken)) {
+          response.addHeader(jwtUtil.REFRESH_TOKEN, nextRefreshToken);
+        }
 
         setAuthentication(info.getSubject(), info.get(jwtUtil.AUTHORIZATION_KEY).toString());
         filterChain.doFilter(request, response);
@@ -3,23 +3,25 @@ package com.sparta.hotbody.common.jwt;
 import com.sparta.hotbody.admin.entity.Admin;
 import com.sparta.hotbody.admin.repository.AdminRepository;
 import com.sparta.hotbody.admin.service.AdminDetailsServiceImpl;
-import com.sparta.hotbody.common.jwt.entity.RefreshToken;
-import com.sparta.hotbody.common.jwt.repository.RefreshTokenRedisRepository;
+import com.sparta.hotbody.common.jwt.repository.RefreshTokenStore;
 import com.sparta.hotbody.user.entity.User;
 import com.sparta.hotbody.user.entity.UserRole;
 import com.sparta.hotbody.user.repository.UserRepository;
 import com.sparta.hotbody.user.service.UserDetailsServiceImpl;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.Optional;
@@ -34,6 +36,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
 
@@ -45,9 +49,12 @@ public class JwtUtil {
 
   private final UserRepository userRepository;
   private final AdminRepository adminRepository;
-  private final RefreshTokenRedisRepository refreshTokenRedisRepository;
+  private final RefreshTokenStore refreshTokenStore;
   private final UserDetailsServiceImpl userDetailsService;
   private final AdminDetailsServiceImpl adminDetailsService;
+  private final PrincipalCache principalCache;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final TokenRevocationList tokenRevocationList;
 
   public static final String AUTHORIZATION_HEADER = "Authorization";
   public static final String REFRESH_TOKEN = "RefreshToken";
@@ -56,15 +63,22 @@ public class JwtUtil {
   private static final long ACCESS_TOKEN_TIME = 60 * 60 * 1000L; // 1시간
   private static final long REFRESH_TOKEN_TIME = 14 * 24 * 60 * 60 * 1000L; // 2주
 
+  // 리프레쉬 토큰으로 재발급할 때 리프레쉬 토큰도 새로 발급해 교체할지 (클라이언트가 새 토큰을 저장해야 한다)
+  @Value("${jwt.refresh-token.rotate:false}")
+  private boolean rotateRefreshToken;
+
   @Value("${jwt.secret.key}")
   private String secretKey;
   private Key key;
+  // 키가 고정이므로 파서는 한 번만 만들어 재사용한다 (스레드 안전)
+  private JwtParser parser;
   private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
   @PostConstruct
   public void init() {
     byte[] bytes = Base64.getDecoder().decode(secretKey);
     key = Keys.hmacShaKeyFor(bytes);
+    parser = Jwts.parserBuilder().setSigningKey(key).build();
   }
 
   // Header 액세스 토큰을 가져오기
@@ -123,23 +137,21 @@ public class JwtUtil {
 
   public String reCreateAccessToken(String token) {
     Claims claims = getUserInfoFromToken(token);
-    System.out.println(claims);
     String role = claims.get(AUTHORIZATION_KEY).toString();
 
     switch (role) {
       case ("USER"):
-        return reCreateUserAccessToken(token);
+        return reCreateUserAccessToken(claims);
 
       case ("ADMIN"):
-        return reCreateAdminAccessToken(token);
+        return reCreateAdminAccessToken(claims);
     }
     return null;
   }
 
   // 유저 액세스 토큰 재발급
-  public String reCreateUserAccessToken(String token) {
+  public String reCreateUserAccessToken(Claims claims) {
     Date date = new Date();
-    Claims claims = getUserInfoFromToken(token);
     String username = claims.getSubject();
     User user = userRepository.findByUsername(username).get();
 
@@ -154,9 +166,8 @@ public class JwtUtil {
   }
 
   // 어드민 액세스 토큰 재발급
-  public String reCreateAdminAccessToken(String token) {
+  public String reCreateAdminAccessToken(Claims claims) {
     Date date = new Date();
-    Claims claims = getUserInfoFromToken(token);
     String username = claims.getSubject();
     Admin admin = adminRepository.findByUsername(username).get();
 
@@ -186,9 +197,14 @@ public class JwtUtil {
 
   public boolean validateToken(String token)
       throws ExpiredJwtException {
+    return verifyToken(token) != null;
+  }
+
+  // 서명과 만료를 한 번에 검증하고 claims 를 돌려준다, 유효하지 않으면 null (만료는 예외로 알린다)
+  public Claims verifyToken(String token)
+      throws ExpiredJwtException {
     try {
-      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-      return true;
+      return getUserInfoFromToken(token);
     } catch (SecurityException | MalformedJwtException e) {
       log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
 
@@ -203,50 +219,118 @@ public class JwtUtil {
       log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
 
     }
-    return false;
+    return null;
   }
 
-  public boolean validateRefreshToken(String token) {
-    if (refreshTokenRedisRepository.findByRefreshToken(BEARER_PREFIX + token).isPresent()) {
-      try {
-        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-        return true;
-      } catch (SecurityException | MalformedJwtException e) {
-        log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+  // 로그인 시 발급한 리프레쉬 토큰 저장
+  public void saveRefreshToken(String refreshToken, String username, UserRole role) {
+    refreshTokenStore.save(refreshToken, sessionOwner(username, role),
+        Duration.ofMillis(REFRESH_TOKEN_TIME));
+  }
 
-      } catch (ExpiredJwtException e) {
-        log.info("Expired JWT token, 만료된 JWT token 입니다.");
+  // 유저의 모든 리프레쉬 토큰을 폐기한다 (정지, 비밀번호 재설정, 탈퇴)
+  public void revokeUserSessions(String username) {
+    afterCommit(() -> {
+      int revoked = refreshTokenStore.deleteAll(sessionOwner(username, UserRole.USER));
+      log.info("유저 세션 폐기 : {}, {}건", username, revoked);
+    });
+  }
 
-      } catch (UnsupportedJwtException e) {
-        log.info("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+  // 어드민의 모든 리프레쉬 토큰을 폐기한다
+  public void revokeAdminSessions(String username) {
+    afterCommit(() -> {
+      int revoked = refreshTokenStore.deleteAll(sessionOwner(username, UserRole.ADMIN));
+      log.info("어드민 세션 폐기 : {}, {}건", username, revoked);
+    });
+  }
 
-      } catch (IllegalArgumentException e) {
-        log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+  // 트랜잭션 안이면 커밋된 뒤에 실행한다 (롤백되면 세션을 끊지 않고, 커밋 전에 끊은 사이 옛 권한으로
+  // 다시 로그인 / 재발급한 세션이 남지 않게 한다), 트랜잭션 밖이면 바로 실행한다
+  private static void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
       }
+    });
+  }
+
+  // users 와 admin 테이블의 username 이 겹칠 수 있어 세션 주인을 구분한다 (유저 권한은 바뀌어도 같은 주인)
+  private static String sessionOwner(String username, UserRole role) {
+    return (role == UserRole.ADMIN ? "ADMIN:" : "USER:") + username;
+  }
+
+  private static String sessionOwner(Claims claims) {
+    return sessionOwner(claims.getSubject(),
+        UserRole.valueOf(claims.get(AUTHORIZATION_KEY).toString()));
+  }
+
+  // 리프레쉬 토큰 사용 : 서명 확인 후 저장소에 있는지 확인하고, 회전이 켜져 있으면 새 토큰으로 교체한다
+  // 사용할 수 있으면 클라이언트가 앞으로 쓸 리프레쉬 토큰(Bearer 포함)을, 아니면 null 을 돌려준다
+  public String useRefreshToken(String token) {
+    Claims claims = verifyQuietly(token);
+    if (claims == null) {
+      return null;
+    }
+    if (!rotateRefreshToken) {
+      return refreshTokenStore.exists(BEARER_PREFIX + token, sessionOwner(claims))
+          ? BEARER_PREFIX + token : null;
     }
-    return false;
+    String next = createRefreshToken(claims.getSubject(),
+        UserRole.valueOf(claims.get(AUTHORIZATION_KEY).toString()));
+    boolean rotated = refreshTokenStore.rotate(BEARER_PREFIX + token, next, sessionOwner(claims),
+        Duration.ofMillis(REFRESH_TOKEN_TIME));
+    return rotated ? next : null;
   }
 
-  //로그아웃
+  // 서명 / 만료 확인, 유효하지 않으면 로그만 남기고 null
+  private Claims verifyQuietly(String token) {
+    try {
+      return getUserInfoFromToken(token);
+    } catch (SecurityException | MalformedJwtException e) {
+      log.info("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
+
+    } catch (ExpiredJwtException e) {
+      log.info("Expired JWT token, 만료된 JWT token 입니다.");
+
+    } catch (UnsupportedJwtException e) {
+      log.info("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
+
+    } catch (IllegalArgumentException e) {
+      log.info("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
+    }
+    return null;
+  }
+
+  //로그아웃 : 리프레쉬 토큰을 지우고, 아직 유효한 액세스 토큰은 만료 시각까지 폐기한다
   public boolean logout(HttpServletRequest request) {
-    String token = resolveRefreshToken(request);
-    if (token != null) {
-      RefreshToken refreshToken = refreshTokenRedisRepository.findByRefreshToken(BEARER_PREFIX + token).get();
-      log.info(refreshToken.toString());
-      refreshTokenRedisRepository.delete(refreshToken);
-      return true;
+    String accessToken = resolveToken(request);
+    if (accessToken != null) {
+      Claims claims = verifyQuietly(accessToken);
+      if (claims != null) {
+        tokenRevocationList.revoke(accessToken, claims.getExpiration());
+      }
     }
-    return false;
+    // 저장소 키가 주인별이라 리프레쉬 토큰에서 주인을 읽는다 (만료됐으면 저장소에서도 이미 지워졌다)
+    String token = resolveRefreshToken(request);
+    Claims claims = token == null ? null : verifyQuietly(token);
+    return claims != null && refreshTokenStore.delete(BEARER_PREFIX + token, sessionOwner(claims));
+  }
+
+  // 로그아웃 등으로 폐기된 액세스 토큰인지 (대부분 메모리 필터에서 끝나고, 필터에 걸린 경우만 Redis 확인)
+  public boolean isRevoked(String token) {
+    return tokenRevocationList.isRevoked(token);
   }
 
   // 중복 로그인 검증
   public boolean validate(HttpServletRequest request) {
     String token = resolveRefreshToken(request);
-    if (token != null && refreshTokenRedisRepository.findByRefreshToken(BEARER_PREFIX + token).isPresent()) {
-      return false;
-    } else {
-      return true;
-    }
+    Claims claims = token == null ? null : verifyQuietly(token);
+    return claims == null || !refreshTokenStore.exists(BEARER_PREFIX + token, sessionOwner(claims));
   }
 
   // 쿠키에 저장하기 위한 인코더
@@ -254,20 +338,22 @@ public class JwtUtil {
     return URLEncoder.encode(token, "utf-8");
   }
 
-  // 유저 인증 객체 생성
+  // 유저 인증 객체 생성 (캐시에 없을 때만 DB 조회)
   public Authentication createAuthentication(String username) {
-    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    UserDetails userDetails = principalCache.getUser(username,
+        userDetailsService::loadUserByUsername);
     return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
   }
 
-  // 어드민 인증 객체 생성
+  // 어드민 인증 객체 생성 (캐시에 없을 때만 DB 조회)
   public Authentication createAdminAuthentication(String username) {
-    UserDetails userDetails = adminDetailsService.loadUserByUsername(username);
+    UserDetails userDetails = principalCache.getAdmin(username,
+        adminDetailsService::loadUserByUsername);
     return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
   }
 
-  // 토큰에서 사용자 정보 가져오기
+  // 토큰에서 사용자 정보 가져오기 (최근에 검증한 토큰은 다시 검증하지 않는다)
   public Claims getUserInfoFromToken(String token) {
-    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    return verifiedTokenCache.get(token, t -> parser.parseClaimsJws(t).getBody());
   }
 }
@@ -0,0 +1,137 @@
+package com.sparta.hotbody.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰으로 인증할 때 쓰는 UserDetails 를 잠시 들고 있는 캐시 (최대 maxSize 명, ttl 동안).
+ * 요청마다 users / admin 행을 읽지 않도록 하고, 권한 변경 / 프로필 수정 / 삭제 시에는
+ * PrincipalCacheEvictListener 가 해당 사용자를 지운다. 지운 키는 Redis pub/sub 으로 다른 노드에도
+ * 알려 모든 노드에서 지운다. (발행에 실패하면 다른 노드는 ttl 뒤에 갱신된다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache implements MessageListener {
+
+  private static final String USER_PREFIX = "USER:";
+  private static final String ADMIN_PREFIX = "ADMIN:";
+  private static final String CHANNEL = "principalCacheEvict";
+  // 키 해시로 나눈 삭제 횟수 칸 수 (2의 거듭제곱)
+  private static final int EVICTION_STRIPES = 1024;
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  @Value("${jwt.principal-cache.max-size:10000}")
+  private int maxSize;
+
+  @Value("${jwt.principal-cache.ttl:5m}")
+  private Duration ttl;
+
+  private Map<String, Entry> entries;
+  // 키별 삭제 횟수 : 읽기 전에 본 값이 저장할 때 바뀌었으면 읽는 사이 삭제된 것이므로 캐시하지 않는다
+  // (칸을 공유하는 다른 키의 삭제로도 한 번 캐시를 건너뛸 수 있지만, 지워야 할 값을 남기지는 않는다)
+  private final AtomicLongArray evictions = new AtomicLongArray(EVICTION_STRIPES);
+
+  @PostConstruct
+  public void init() {
+    entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxSize;
+      }
+    });
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  public UserDetails getUser(String username, Function<String, UserDetails> loader) {
+    return get(USER_PREFIX + username, username, loader);
+  }
+
+  public UserDetails getAdmin(String username, Function<String, UserDetails> loader) {
+    return get(ADMIN_PREFIX + username, username, loader);
+  }
+
+  public void evictUser(String username) {
+    evict(USER_PREFIX + username);
+  }
+
+  public void evictAdmin(String username) {
+    evict(ADMIN_PREFIX + username);
+  }
+
+  // 다른 노드(자신 포함)에서 지운 키
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    remove(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  // 이 노드에서 지우고 다른 노드에도 알린다
+  private void evict(String key) {
+    remove(key);
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL, key);
+    } catch (RuntimeException e) {
+      log.warn("인증 정보 캐시 삭제 전파 실패 : {}", e.getMessage());
+    }
+  }
+
+  // 삭제 횟수 증가와 제거를 저장 확인과 같은 잠금(synchronizedMap 의 mutex) 안에서 한다
+  private void remove(String key) {
+    synchronized (entries) {
+      evictions.incrementAndGet(stripe(key));
+      entries.remove(key);
+    }
+  }
+
+  private UserDetails get(String key, String username, Function<String, UserDetails> loader) {
+    long now = System.nanoTime();
+    Entry entry = entries.get(key);
+    if (entry != null && now - entry.expiresAt < 0) {
+      return entry.userDetails;
+    }
+    int stripe = stripe(key);
+    long version = evictions.get(stripe);
+    UserDetails userDetails = loader.apply(username);
+    synchronized (entries) {
+      // 읽는 동안 권한 변경 등으로 삭제되었다면 읽은 값이 이미 오래된 값일 수 있다
+      if (evictions.get(stripe) == version) {
+        entries.put(key, new Entry(userDetails, now + ttl.toNanos()));
+      }
+    }
+    return userDetails;
+  }
+
+  private static int stripe(String key) {
+    int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & (EVICTION_STRIPES - 1);
+  }
+
+  private static final class Entry {
+
+    private final UserDetails userDetails;
+    private final long expiresAt;
+
+    private Entry(UserDetails userDetails, long expiresAt) {
+      this.userDetails = userDetails;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
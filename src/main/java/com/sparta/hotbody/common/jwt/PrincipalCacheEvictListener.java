@@ -0,0 +1,48 @@
+package com.sparta.hotbody.common.jwt;
+
+import com.sparta.hotbody.admin.entity.Admin;
+import com.sparta.hotbody.user.entity.User;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * users / admin 행이 바뀌거나 삭제되면 캐시된 인증 정보를 지운다.
+ * 권한 변경(TrainerPermission, reportedUserChangeRole 등), 프로필 수정, 탈퇴가 모두 엔티티를 거치므로
+ * 서비스마다 따로 호출하지 않는다. flush 시점과 커밋 뒤에 한 번씩 지워, 그 사이에 다른 요청이
+ * 커밋 전 값을 다시 캐시하더라도 남지 않게 한다. 두 번 모두 PrincipalCache 가 pub/sub 으로
+ * 다른 노드에도 전파한다. (스프링이 생성해 PrincipalCache 를 주입한다)
+ */
+public class PrincipalCacheEvictListener {
+
+  private final PrincipalCache principalCache;
+
+  public PrincipalCacheEvictListener(PrincipalCache principalCache) {
+    this.principalCache = principalCache;
+  }
+
+  @PostUpdate
+  @PostRemove
+  public void evict(Object entity) {
+    Runnable evict;
+    if (entity instanceof User) {
+      String username = ((User) entity).getUsername();
+      evict = () -> principalCache.evictUser(username);
+    } else if (entity instanceof Admin) {
+      String username = ((Admin) entity).getUsername();
+      evict = () -> principalCache.evictAdmin(username);
+    } else {
+      return;
+    }
+    evict.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict.run();
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.sparta.hotbody.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+// 토큰 원문 대신 키로 쓰는 SHA-256 다이제스트 (Base64, 패딩 없음)
+public final class TokenDigest {
+
+  private TokenDigest() {
+  }
+
+  public static String of(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.sparta.hotbody.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 전에 폐기한 액세스 토큰 목록.
+ * Redis 가 원본이다 : revokedToken:<다이제스트> 키(토큰 만료까지 TTL)와, 노드가 목록을 다시 읽을 때 쓰는
+ * revokedTokens ZSET(점수 = 토큰 만료 시각). 각 노드는 다이제스트를 Bloom filter 로 들고 있어서,
+ * 필터에 없으면 Redis 를 보지 않고 통과시키고 필터에 걸린 경우(폐기됐거나 오탐)만 Redis 키로 확인한다.
+ * 새 폐기는 pub/sub 으로 모든 노드 필터에 바로 들어가고, 놓친 메시지와 만료된 항목은 주기적인 재생성으로 정리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList implements MessageListener {
+
+  private static final String KEY_PREFIX = "revokedToken:";
+  private static final String INDEX_KEY = "revokedTokens";
+  private static final String CHANNEL = "revokedTokens";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  // 필터 크기 : 재생성 주기 안에 폐기될 토큰 수 (액세스 토큰 수명 1시간 동안의 로그아웃 수)
+  @Value("${jwt.revocation.expected-insertions:100000}")
+  private long expectedInsertions;
+
+  @Value("${jwt.revocation.false-positive-rate:0.001}")
+  private double falsePositiveRate;
+
+  private final AtomicReference<BloomFilter> current = new AtomicReference<>();
+  // 재생성 중에 들어온 폐기는 새 필터에도 넣는다
+  private volatile BloomFilter rebuilding;
+
+  @PostConstruct
+  public void init() {
+    current.set(new BloomFilter(expectedInsertions, falsePositiveRate));
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuild();
+  }
+
+  // 토큰을 만료 시각까지 폐기한다 (이미 만료된 토큰은 할 일이 없다)
+  public void revoke(String token, Date expiration) {
+    long ttl = expiration.getTime() - System.currentTimeMillis();
+    if (ttl <= 0) {
+      return;
+    }
+    String digest = TokenDigest.of(token);
+    // 토큰 키와 ZSET 은 클러스터에서 다른 slot 이라 한 스크립트로 묶지 않고 순서대로 쓴다.
+    // 토큰 키마다 hash tag 를 붙여 한 slot 에 모으면 모든 isRevoked 확인이 한 노드로 몰린다.
+    // ZSET 을 먼저 써야 이후 시작하는 재생성이 이 토큰을 빠뜨리지 않고(put 주석 참고), 키 쓰기가 실패해도
+    // ZSET 에만 남은 다이제스트는 필터 오탐일 뿐이다 (반대 순서면 다른 노드의 재생성이 폐기를 잊는다)
+    stringRedisTemplate.opsForZSet().add(INDEX_KEY, digest, expiration.getTime());
+    stringRedisTemplate.opsForValue().set(KEY_PREFIX + digest, "1", Duration.ofMillis(ttl));
+    stringRedisTemplate.convertAndSend(CHANNEL, digest);
+    put(digest);
+  }
+
+  public boolean isRevoked(String token) {
+    String digest = TokenDigest.of(token);
+    if (!current.get().mightContain(digest)) {
+      return false;
+    }
+    try {
+      return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + digest));
+    } catch (RuntimeException e) {
+      // 필터에 걸린 토큰만 여기 오므로, 확인할 수 없으면 폐기된 것으로 본다
+      log.warn("토큰 폐기 여부 확인 실패 : {}", e.getMessage());
+      return true;
+    }
+  }
+
+  // 다른 노드에서 폐기한 토큰
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    put(new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+
+  // Bloom filter 는 항목을 뺄 수 없으므로 만료된 항목을 지운 목록으로 새로 만들어 교체한다
+  @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:600000}",
+      initialDelayString = "${jwt.revocation.rebuild-interval-ms:600000}")
+  public synchronized void rebuild() {
+    BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+    rebuilding = next;
+    try {
+      stringRedisTemplate.opsForZSet()
+          .removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+      Set<String> digests = stringRedisTemplate.opsForZSet().range(INDEX_KEY, 0, -1);
+      if (digests != null) {
+        digests.forEach(next::put);
+      }
+      current.set(next);
+      log.info("폐기 토큰 필터 재생성 : {}건", digests == null ? 0 : digests.size());
+    } catch (RuntimeException e) {
+      log.warn("폐기 토큰 필터 재생성 실패, 기존 필터 유지 : {}", e.getMessage());
+    } finally {
+      rebuilding = null;
+    }
+  }
+
+  // 재생성 중인 필터에 먼저 넣고 현재 필터에 넣는다. 현재 필터를 먼저 읽으면 그 사이 교체가 끝나
+  // 버려질 필터에만 들어갈 수 있다. rebuilding 을 읽기 전에 재생성이 시작됐으면 새 필터에 들어가고,
+  // 읽은 뒤에 시작됐으면 이미 ZSET 에 있는 다이제스트이므로 재생성이 읽어 간다.
+  private void put(String digest) {
+    BloomFilter next = rebuilding;
+    if (next != null) {
+      next.put(digest);
+    }
+    current.get().put(digest);
+  }
+}
@@ -0,0 +1,72 @@
+package com.sparta.hotbody.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰의 claims 를 잠시 들고 있는 캐시.
+ * 같은 토큰이 반복해서 들어오면 HMAC 검증과 JSON 파싱을 건너뛴다.
+ * 키는 토큰 원문이 아니라 SHA-256 다이제스트이고, 항목은 ttl 과 토큰 만료 시각 중 이른 쪽까지만 쓴다.
+ * Claims 는 수정 가능한 Map 이므로 요청끼리 같은 객체를 나눠 쓰지 않도록 넣을 때와 꺼낼 때 복사한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  @Value("${jwt.verified-cache.max-size:10000}")
+  private int maxSize;
+
+  @Value("${jwt.verified-cache.ttl:1m}")
+  private Duration ttl;
+
+  private Map<String, Entry> entries;
+
+  @PostConstruct
+  public void init() {
+    entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxSize;
+      }
+    });
+  }
+
+  // 캐시에 없거나 만료됐으면 parser 로 검증한다 (검증 실패 예외는 그대로 던진다)
+  public Claims get(String token, Function<String, Claims> parser) {
+    String key = TokenDigest.of(token);
+    long now = System.currentTimeMillis();
+    Entry entry = entries.get(key);
+    if (entry != null && now < entry.expiresAt) {
+      return Jwts.claims(entry.claims);
+    }
+    Claims claims = parser.apply(token);
+    long expiresAt = now + ttl.toMillis();
+    if (claims.getExpiration() != null) {
+      expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+    }
+    entries.put(key, new Entry(Jwts.claims(claims), expiresAt));
+    return claims;
+  }
+
+  public void evict(String token) {
+    entries.remove(TokenDigest.of(token));
+  }
+
+  private static final class Entry {
+
+    private final Claims claims;
+    private final long expiresAt;
+
+    private Entry(Claims claims, long expiresAt) {
+      this.claims = claims;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
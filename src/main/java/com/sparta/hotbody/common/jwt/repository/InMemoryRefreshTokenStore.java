@@ -0,0 +1,101 @@
+package com.sparta.hotbody.common.jwt.repository;
+
+import com.sparta.hotbody.common.jwt.TokenDigest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 단일 인스턴스 / 테스트용 (jwt.refresh-token.store=memory) : Redis 없이 같은 JVM 안에서만 유지
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+  private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+  // 주인별 다이제스트 목록, 저장할 때 만료된 것을 지운다
+  private final Map<String, Set<String>> sessions = new ConcurrentHashMap<>();
+
+  @Override
+  public void save(String token, String owner, Duration ttl) {
+    String digest = TokenDigest.of(token);
+    tokens.put(digest, new Entry(owner, expiresAt(ttl)));
+    Set<String> digests = sessions.computeIfAbsent(owner, key -> ConcurrentHashMap.newKeySet());
+    digests.removeIf(saved -> {
+      Entry entry = tokens.get(saved);
+      if (entry == null || entry.isExpired()) {
+        tokens.remove(saved, entry);
+        return true;
+      }
+      return false;
+    });
+    digests.add(digest);
+  }
+
+  @Override
+  public boolean exists(String token, String owner) {
+    String key = TokenDigest.of(token);
+    Entry entry = tokens.get(key);
+    if (entry == null || !entry.owner.equals(owner)) {
+      return false;
+    }
+    if (entry.isExpired()) {
+      tokens.remove(key, entry);
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public boolean delete(String token, String owner) {
+    String digest = TokenDigest.of(token);
+    Entry entry = tokens.get(digest);
+    if (entry == null || !entry.owner.equals(owner) || !tokens.remove(digest, entry)) {
+      return false;
+    }
+    Set<String> digests = sessions.get(owner);
+    if (digests != null) {
+      digests.remove(digest);
+    }
+    return !entry.isExpired();
+  }
+
+  @Override
+  public boolean rotate(String oldToken, String newToken, String owner, Duration ttl) {
+    if (!delete(oldToken, owner)) {
+      return false;
+    }
+    save(newToken, owner, ttl);
+    return true;
+  }
+
+  @Override
+  public int deleteAll(String owner) {
+    Set<String> digests = sessions.remove(owner);
+    if (digests == null) {
+      return 0;
+    }
+    digests.forEach(tokens::remove);
+    return digests.size();
+  }
+
+  private static long expiresAt(Duration ttl) {
+    return System.currentTimeMillis() + ttl.toMillis();
+  }
+
+  private static final class Entry {
+
+    private final String owner;
+    private final long expiresAt;
+
+    private Entry(String owner, long expiresAt) {
+      this.owner = owner;
+      this.expiresAt = expiresAt;
+    }
+
+    private boolean isExpired() {
+      return System.currentTimeMillis() >= expiresAt;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.sparta.hotbody.common.jwt.repository;
+
+import com.sparta.hotbody.common.jwt.TokenDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * refreshToken:{owner}:{다이제스트} -> owner 문자열 키, 만료는 키 TTL 로 처리한다.
+ * 주인별 세션 목록은 sessions:{owner} ZSET(점수 = 토큰 만료 시각)으로 두고, 저장할 때마다 만료된 항목을 지우고
+ * ZSET 자체에도 가장 늦은 토큰 만료까지 TTL 을 걸어 쓰지 않는 목록이 남지 않게 한다.
+ * 여러 키를 건드리는 연산은 Lua 스크립트 하나로 처리해 왕복 한 번, 원자적으로 끝낸다.
+ * 키 이름의 {owner} 는 Redis Cluster 해시 태그라서 한 주인의 키는 모두 같은 슬롯에 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+  private static final String KEY_PREFIX = "refreshToken:";
+  private static final String SESSIONS_PREFIX = "sessions:";
+  // 세션 목록 정리 + 등록 (ARGV : 다이제스트, ttl, 현재 시각)
+  private static final String ADD_SESSION =
+      "redis.call('zremrangebyscore', sessions, '-inf', ARGV[3]) "
+          + "redis.call('zadd', sessions, tonumber(ARGV[3]) + tonumber(ARGV[2]), ARGV[1]) "
+          + "if redis.call('pttl', sessions) < tonumber(ARGV[2]) then "
+          + "redis.call('pexpire', sessions, ARGV[2]) end ";
+  private static final RedisScript<Long> SAVE = new DefaultRedisScript<>(
+      "local sessions = KEYS[2] "
+          + "redis.call('set', KEYS[1], ARGV[4], 'PX', ARGV[2]) "
+          + ADD_SESSION + "return 1", Long.class);
+  private static final RedisScript<Long> DELETE = new DefaultRedisScript<>(
+      "if redis.call('del', KEYS[1]) == 0 then return 0 end "
+          + "redis.call('zrem', KEYS[2], ARGV[1]) return 1", Long.class);
+  private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+      "if redis.call('del', KEYS[1]) == 0 then return 0 end "
+          + "local sessions = KEYS[3] "
+          + "redis.call('zrem', sessions, ARGV[5]) "
+          + "redis.call('set', KEYS[2], ARGV[4], 'PX', ARGV[2]) "
+          + ADD_SESSION + "return 1", Long.class);
+  // 토큰 키는 목록의 다이제스트로 만든다 (ARGV[1] = 주인의 토큰 키 접두어, KEYS[1] 과 같은 해시 태그)
+  private static final RedisScript<Long> DELETE_ALL = new DefaultRedisScript<>(
+      "local digests = redis.call('zrange', KEYS[1], 0, -1) "
+          + "for _, digest in ipairs(digests) do "
+          + "redis.call('del', ARGV[1] .. digest) end "
+          + "redis.call('del', KEYS[1]) return #digests", Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  @Override
+  public void save(String token, String owner, Duration ttl) {
+    String digest = TokenDigest.of(token);
+    stringRedisTemplate.execute(SAVE, Arrays.asList(tokenKey(owner, digest), sessionsKey(owner)),
+        digest, String.valueOf(ttl.toMillis()), String.valueOf(System.currentTimeMillis()), owner);
+  }
+
+  @Override
+  public boolean exists(String token, String owner) {
+    return Boolean.TRUE.equals(stringRedisTemplate.hasKey(tokenKey(owner, TokenDigest.of(token))));
+  }
+
+  @Override
+  public boolean delete(String token, String owner) {
+    String digest = TokenDigest.of(token);
+    Long deleted = stringRedisTemplate.execute(DELETE,
+        Arrays.asList(tokenKey(owner, digest), sessionsKey(owner)), digest);
+    return deleted != null && deleted == 1L;
+  }
+
+  @Override
+  public boolean rotate(String oldToken, String newToken, String owner, Duration ttl) {
+    String oldDigest = TokenDigest.of(oldToken);
+    String newDigest = TokenDigest.of(newToken);
+    Long rotated = stringRedisTemplate.execute(ROTATE,
+        Arrays.asList(tokenKey(owner, oldDigest), tokenKey(owner, newDigest), sessionsKey(owner)),
+        newDigest, String.valueOf(ttl.toMillis()), String.valueOf(System.currentTimeMillis()),
+        owner, oldDigest);
+    return rotated != null && rotated == 1L;
+  }
+
+  @Override
+  public int deleteAll(String owner) {
+    Long deleted = stringRedisTemplate.execute(DELETE_ALL,
+        Collections.singletonList(sessionsKey(owner)), tokenKey(owner, ""));
+    return deleted == null ? 0 : deleted.intValue();
+  }
+
+  private static String tokenKey(String owner, String digest) {
+    return KEY_PREFIX + "{" + owner + "}:" + digest;
+  }
+
+  private static String sessionsKey(String owner) {
+    return SESSIONS_PREFIX + "{" + owner + "}";
+  }
+}
@@ -0,0 +1,25 @@
+package com.sparta.hotbody.common.jwt.repository;
+
+import java.time.Duration;
+
+/**
+ * 발급한 리프레쉬 토큰 저장소. 토큰은 발급한 그대로(Bearer 포함) 넘기고, 저장소는 토큰의
+ * SHA-256 다이제스트를 키로 쓴다. 토큰은 세션 주인(owner) 단위로 묶여 주인의 세션을 한 번에 끊을 수 있고,
+ * 한 주인의 키가 한곳(Redis Cluster 의 같은 슬롯)에 모이도록 모든 연산에 주인을 함께 넘긴다.
+ * 모든 연산은 저장소 왕복 한 번으로 끝난다. (jwt.refresh-token.store=redis|memory, 기본 redis)
+ */
+public interface RefreshTokenStore {
+
+  void save(String token, String owner, Duration ttl);
+
+  boolean exists(String token, String owner);
+
+  // 지웠으면 true, 없었으면 false
+  boolean delete(String token, String owner);
+
+  // 이전 토큰이 남아 있을 때만 지우고 같은 주인의 새 토큰을 저장한다 (원자적), 교체했으면 true
+  boolean rotate(String oldToken, String newToken, String owner, Duration ttl);
+
+  // 주인의 모든 세션을 끊는다, 끊은 세션 수 (이미 만료된 것 포함)
+  int deleteAll(String owner);
+}
@@ -1,8 +1,14 @@
 package com.sparta.hotbody.diet.controller;
 
+import com.sparta.hotbody.diet.dto.DailyNutritionResponseDto;
+import com.sparta.hotbody.diet.dto.DietResponseDto;
+import com.sparta.hotbody.diet.dto.FoodNutrientFilterRequestDto;
+import com.sparta.hotbody.diet.dto.FoodOfDietBulkResponseDto;
 import com.sparta.hotbody.diet.dto.FoodOfDietResponseDto;
 import com.sparta.hotbody.diet.dto.FoodOfDietRequestDto;
 import com.sparta.hotbody.diet.dto.FoodResponseDto;
+import com.sparta.hotbody.diet.dto.QuickFoodResponseDto;
+import com.sparta.hotbody.diet.entity.MealSlot;
 import com.sparta.hotbody.diet.service.DietService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -11,7 +17,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,23 +33,56 @@ public class DietController {
 
   private final DietService dietService;
 
-  // 음식 검색
+  // 음식 검색 (foodType=전체 는 4개 카테고리 통합 검색)
+  // minProtein=20&maxEnergy=300&sortBy=protein 처럼 영양성분 조건 / 정렬 지원
   @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
   @GetMapping("/diet/food")
   public Page<FoodResponseDto> searchFood(
       @RequestParam("foodType") String foodType,
       @RequestParam("searchWord") String searchWord,
-      @RequestParam("page") int page) {
-    return dietService.searchFood(foodType, searchWord, page);
+      @RequestParam("page") int page,
+      FoodNutrientFilterRequestDto foodNutrientFilterRequestDto) {
+    return dietService.searchFood(foodType, searchWord, page, foodNutrientFilterRequestDto);
   }
 
-  // 음식을 저장하기 위한 식단 생성
+  // 오타 허용 음식 검색 (예: "닭가슴삻" -> "닭가슴살"), distance 는 자모 단위 편집 거리
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @GetMapping("/diet/food/fuzzy")
+  public Page<FoodResponseDto> fuzzySearchFood(
+      @RequestParam(value = "foodType", defaultValue = "전체") String foodType,
+      @RequestParam("searchWord") String searchWord,
+      @RequestParam(value = "distance", required = false) Integer distance,
+      @RequestParam(value = "page", defaultValue = "1") int page) {
+    return dietService.fuzzySearchFood(foodType, searchWord, distance, page);
+  }
+
+  // 음식 이름 자동완성 (초성 검색 지원)
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @GetMapping("/diet/food/autocomplete")
+  public List<String> autocompleteFood(
+      @RequestParam("keyword") String keyword,
+      @RequestParam(value = "size", defaultValue = "10") int size) {
+    return dietService.autocompleteFood(keyword, size);
+  }
+
+  // 자주 먹은 음식(sort=frequent) / 최근 먹은 음식(sort=recent) 빠른 추가 목록
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @GetMapping("/diet/food/quick")
+  public List<QuickFoodResponseDto> readQuickFoods(
+      @RequestParam(value = "sort", defaultValue = "frequent") String sort,
+      @RequestParam(value = "size", defaultValue = "20") int size,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return dietService.readQuickFoods(sort, size, userDetails);
+  }
+
+  // 음식을 저장하기 위한 식단 생성 (time=yyyy-MM-dd, mealSlot 을 주지 않으면 하루 전체 식단)
   @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
   @PostMapping("/diet")
   public Long createDiet(
       @RequestParam("time") String time,
+      @RequestParam(value = "mealSlot", defaultValue = "DAY") MealSlot mealSlot,
       @AuthenticationPrincipal UserDetails userDetails) {
-    return dietService.saveDiet(userDetails, time);
+    return dietService.saveDiet(userDetails, time, mealSlot);
   }
 
   // 식단에 음식 저장
@@ -49,8 +90,19 @@ public class DietController {
   @PostMapping("/diet/food")
   public ResponseEntity<String> createFood(
       @RequestBody List<FoodOfDietRequestDto> foodOfDietRequestDtoList,
-      @RequestParam("dietId") Long id) {
-    return dietService.saveFood(foodOfDietRequestDtoList, id);
+      @RequestParam("dietId") Long id,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return dietService.saveFood(foodOfDietRequestDtoList, id, userDetails);
+  }
+
+  // 식단에 음식 여러 건을 한 번에 저장하고, 생성된 id 와 식단 영양성분 합계를 응답
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @PostMapping("/diet/food/bulk")
+  public FoodOfDietBulkResponseDto createFoods(
+      @RequestBody List<FoodOfDietRequestDto> foodOfDietRequestDtoList,
+      @RequestParam("dietId") Long id,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return dietService.saveFoods(foodOfDietRequestDtoList, id, userDetails);
   }
 
   @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
@@ -61,4 +113,42 @@ public class DietController {
     return dietService.readDiet(time, userDetails);
   }
 
+  // 기간의 식단과 음식 (from, to 포함, yyyy-MM-dd)
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @GetMapping("/diet/range")
+  public List<DietResponseDto> readDiets(
+      @RequestParam("from") String from,
+      @RequestParam("to") String to,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return dietService.readDiets(from, to, userDetails);
+  }
+
+  // 식단에서 음식 삭제 (식단 / 하루 합계도 함께 차감)
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @DeleteMapping("/diet/food/{foodOfDietId}")
+  public ResponseEntity<String> deleteFood(
+      @PathVariable Long foodOfDietId,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return dietService.deleteFood(foodOfDietId, userDetails);
+  }
+
+  // 하루 영양성분 합계
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @GetMapping("/diet/nutrition")
+  public DailyNutritionResponseDto readDailyNutrition(
+      @RequestParam("time") String time,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return dietService.readDailyNutrition(time, userDetails);
+  }
+
+  // 기간별 하루 영양성분 합계 (from, to 포함, 기록이 있는 날만)
+  @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'TRAINER')")
+  @GetMapping("/diet/nutrition/range")
+  public List<DailyNutritionResponseDto> readDailyNutritions(
+      @RequestParam("from") String from,
+      @RequestParam("to") String to,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return dietService.readDailyNutritions(from, to, userDetails);
+  }
+
 }
@@ -0,0 +1,31 @@
+package com.sparta.hotbody.diet.dto;
+
+import com.sparta.hotbody.diet.entity.DailyNutrition;
+import com.sparta.hotbody.diet.entity.NutritionTotal;
+import lombok.Getter;
+
+@Getter
+public class DailyNutritionResponseDto {
+
+  String time;
+  Float totalEnergy;
+  Float totalProtein;
+  Float totalFat;
+  Float totalCarbohydrate;
+  Float totalSugar;
+  Integer foodCount;
+
+  public DailyNutritionResponseDto(DailyNutrition dailyNutrition) {
+    this(dailyNutrition.getTime(), dailyNutrition.getNutritionTotal());
+  }
+
+  public DailyNutritionResponseDto(String time, NutritionTotal nutritionTotal) {
+    this.time = time;
+    this.totalEnergy = nutritionTotal.getTotalEnergy();
+    this.totalProtein = nutritionTotal.getTotalProtein();
+    this.totalFat = nutritionTotal.getTotalFat();
+    this.totalCarbohydrate = nutritionTotal.getTotalCarbohydrate();
+    this.totalSugar = nutritionTotal.getTotalSugar();
+    this.foodCount = nutritionTotal.getFoodCount();
+  }
+}
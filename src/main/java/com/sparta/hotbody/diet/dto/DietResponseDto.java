@@ -0,0 +1,33 @@
+package com.sparta.hotbody.diet.dto;
+
+import com.sparta.hotbody.diet.entity.Diet;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class DietResponseDto {
+
+  Long id;
+  String date;
+  String mealSlot;
+  String mealSlotLabel;
+  Float totalEnergy;
+  Float totalProtein;
+  Float totalFat;
+  Float totalCarbohydrate;
+  Float totalSugar;
+  List<FoodOfDietResponseDto> foods;
+
+  public DietResponseDto(Diet diet, List<FoodOfDietResponseDto> foods) {
+    this.id = diet.getId();
+    this.date = diet.getDietDate().toString();
+    this.mealSlot = diet.getMealSlot().name();
+    this.mealSlotLabel = diet.getMealSlot().getLabel();
+    this.totalEnergy = diet.getNutritionTotal().getTotalEnergy();
+    this.totalProtein = diet.getNutritionTotal().getTotalProtein();
+    this.totalFat = diet.getNutritionTotal().getTotalFat();
+    this.totalCarbohydrate = diet.getNutritionTotal().getTotalCarbohydrate();
+    this.totalSugar = diet.getNutritionTotal().getTotalSugar();
+    this.foods = foods;
+  }
+}
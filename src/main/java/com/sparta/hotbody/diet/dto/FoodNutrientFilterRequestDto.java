@@ -0,0 +1,43 @@
+package com.sparta.hotbody.diet.dto;
+
+import com.sparta.hotbody.diet.search.FoodNutrient;
+import com.sparta.hotbody.diet.search.FoodNutrientFilter;
+import lombok.Data;
+
+// 음식 검색의 영양성분 범위 조건 (단위: kcal, g), 정렬 기준은 energy / protein / fat / carbohydrate / sugar
+@Data
+public class FoodNutrientFilterRequestDto {
+
+  private Float minEnergy;
+  private Float maxEnergy;
+  private Float minProtein;
+  private Float maxProtein;
+  private Float minFat;
+  private Float maxFat;
+  private Float minCarbohydrate;
+  private Float maxCarbohydrate;
+  private Float minSugar;
+  private Float maxSugar;
+  private String sortBy;
+  private boolean asc;
+
+  public FoodNutrientFilter toFilter() {
+    float[] min = new float[FoodNutrient.values().length];
+    float[] max = new float[FoodNutrient.values().length];
+    set(min, FoodNutrient.ENERGY, minEnergy);
+    set(max, FoodNutrient.ENERGY, maxEnergy);
+    set(min, FoodNutrient.PROTEIN, minProtein);
+    set(max, FoodNutrient.PROTEIN, maxProtein);
+    set(min, FoodNutrient.FAT, minFat);
+    set(max, FoodNutrient.FAT, maxFat);
+    set(min, FoodNutrient.CARBOHYDRATE, minCarbohydrate);
+    set(max, FoodNutrient.CARBOHYDRATE, maxCarbohydrate);
+    set(min, FoodNutrient.SUGAR, minSugar);
+    set(max, FoodNutrient.SUGAR, maxSugar);
+    return new FoodNutrientFilter(min, max, FoodNutrient.fromFieldName(sortBy), asc);
+  }
+
+  private static void set(float[] values, FoodNutrient nutrient, Float value) {
+    values[nutrient.ordinal()] = value == null ? Float.NaN : value;
+  }
+}
@@ -0,0 +1,30 @@
+package com.sparta.hotbody.diet.dto;
+
+import com.sparta.hotbody.diet.entity.NutritionTotal;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class FoodOfDietBulkResponseDto {
+
+  Long dietId;
+  // 요청 순서대로 생성된 식단 음식 id
+  List<Long> foodOfDietIds;
+  // 저장 후 식단 전체의 영양성분 합계
+  Float totalEnergy;
+  Float totalProtein;
+  Float totalFat;
+  Float totalCarbohydrate;
+  Float totalSugar;
+
+  public FoodOfDietBulkResponseDto(Long dietId, List<Long> foodOfDietIds,
+      NutritionTotal nutritionTotal) {
+    this.dietId = dietId;
+    this.foodOfDietIds = foodOfDietIds;
+    this.totalEnergy = nutritionTotal.getTotalEnergy();
+    this.totalProtein = nutritionTotal.getTotalProtein();
+    this.totalFat = nutritionTotal.getTotalFat();
+    this.totalCarbohydrate = nutritionTotal.getTotalCarbohydrate();
+    this.totalSugar = nutritionTotal.getTotalSugar();
+  }
+}
@@ -14,5 +14,11 @@ public class FoodOfDietRequestDto {
   String carbohydrate;
   String sugar;
   String diet;
+  // 카탈로그 참조 모드 : foodId 가 있으면 위 문자열 대신 카탈로그 음식을 저장
+  // (category 는 foodType 과 같은 한글 이름)
+  String category;
+  Long foodId;
+  // 1회 제공량 배수, 없으면 1
+  Float portion;
 
 }
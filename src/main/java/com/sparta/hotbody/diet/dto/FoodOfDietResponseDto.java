@@ -1,11 +1,18 @@
 package com.sparta.hotbody.diet.dto;
 
+import com.sparta.hotbody.common.batch.NutrientParser;
 import com.sparta.hotbody.diet.entity.FoodOfDiet;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import lombok.Getter;
 
 @Getter
 public class FoodOfDietResponseDto {
 
+  private static final String NO_INFO = "정보 없음";
+
+  Long id;
   String foodName;
   String factory;
   String supply;
@@ -14,8 +21,14 @@ public class FoodOfDietResponseDto {
   String fat;
   String carbohydrate;
   String sugar;
+  // 카탈로그 참조 모드일 때만
+  String category;
+  Long foodId;
+  Float portion;
 
+  // 문자열을 복사해 저장한 기존 행
   public FoodOfDietResponseDto(FoodOfDiet foodOfDiet) {
+    this.id = foodOfDiet.getId();
     this.foodName = foodOfDiet.getFoodName();
     this.factory = foodOfDiet.getFactory();
     this.supply = foodOfDiet.getSupply();
@@ -25,4 +38,42 @@ public class FoodOfDietResponseDto {
     this.carbohydrate = foodOfDiet.getCarbohydrate();
     this.sugar = foodOfDiet.getSugar();
   }
+
+  // 카탈로그 참조 행 : 영양성분은 저장할 때 portion 을 곱해 둔 값으로 보여준다 (식단 / 하루 합계와 같은 값,
+  // 카탈로그가 재적재로 바뀌어도 이미 먹은 기록은 바뀌지 않는다)
+  // 제조사와 제공량은 저장하지 않으므로 카탈로그에서, 카탈로그에서 사라진 음식(foodCatalogItem == null)은 정보 없음
+  public FoodOfDietResponseDto(FoodOfDiet foodOfDiet, FoodCatalogItem foodCatalogItem) {
+    this.id = foodOfDiet.getId();
+    this.category = foodOfDiet.getCategory().getLabel();
+    this.foodId = foodOfDiet.getFoodId();
+    this.portion = foodOfDiet.getPortion();
+    this.foodName = foodOfDiet.getFoodName();
+    this.energy = format(foodOfDiet.getEnergyValue());
+    this.protein = format(foodOfDiet.getProteinValue());
+    this.fat = format(foodOfDiet.getFatValue());
+    this.carbohydrate = format(foodOfDiet.getCarbohydrateValue());
+    this.sugar = format(foodOfDiet.getSugarValue());
+    if (foodCatalogItem == null) {
+      this.factory = NO_INFO;
+      this.supply = NO_INFO;
+      return;
+    }
+    this.factory = foodCatalogItem.getFactory() == null ? NO_INFO : foodCatalogItem.getFactory();
+    Float supply = NutrientParser.parse(foodCatalogItem.getOneTimeSupply());
+    this.supply = supply == null ? NO_INFO : format(supply * foodOfDiet.getPortion());
+  }
+
+  // 자주 먹은 음식처럼 지금 추가하면 저장될 값을 보여줄 때
+  static String format(float value, float portion) {
+    return Float.isNaN(value) ? NO_INFO : format(value * portion);
+  }
+
+  // 소수 둘째 자리까지, 뒤의 0 은 생략
+  static String format(Float value) {
+    if (value == null || value.isNaN()) {
+      return NO_INFO;
+    }
+    BigDecimal rounded = BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    return rounded.signum() == 0 ? "0" : rounded.stripTrailingZeros().toPlainString();
+  }
 }
@@ -4,11 +4,16 @@ import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.Agricult
 import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProducts;
 import com.sparta.hotbody.common.batch.food.Food;
 import com.sparta.hotbody.common.batch.processedfood.ProcessedFood;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import com.sparta.hotbody.diet.search.FoodCategory;
 import lombok.Getter;
 
 @Getter
 public class FoodResponseDto {
 
+  // 식단에 카탈로그 참조로 담을 때 쓰는 id
+  Long id;
+  String category = "정보 없음";
   String foodName = "정보 없음";
   String factory = "정보 없음";
   String oneTimeSupply = "정보 없음";
@@ -19,42 +24,67 @@ public class FoodResponseDto {
   String sugar = "정보 없음";
 
   public FoodResponseDto(AgriculturalAndLivestockProducts agriculturalAndLivestockProducts) {
-    this.foodName = agriculturalAndLivestockProducts.getFoodName();
-    this.oneTimeSupply = agriculturalAndLivestockProducts.getOneTimeSupply();
-    this.energy = agriculturalAndLivestockProducts.getEnergy();
-    this.protein = agriculturalAndLivestockProducts.getProtein();
-    this.fat = agriculturalAndLivestockProducts.getFat();
-    this.carbohydrate = agriculturalAndLivestockProducts.getCarbohydrate();
-    this.sugar = agriculturalAndLivestockProducts.getSugar();
+    this.id = agriculturalAndLivestockProducts.getId();
+    this.category = FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS.getLabel();
+    this.foodName = orNoInfo(agriculturalAndLivestockProducts.getFoodName());
+    this.oneTimeSupply = orNoInfo(agriculturalAndLivestockProducts.getOneTimeSupply());
+    this.energy = orNoInfo(agriculturalAndLivestockProducts.getEnergy());
+    this.protein = orNoInfo(agriculturalAndLivestockProducts.getProtein());
+    this.fat = orNoInfo(agriculturalAndLivestockProducts.getFat());
+    this.carbohydrate = orNoInfo(agriculturalAndLivestockProducts.getCarbohydrate());
+    this.sugar = orNoInfo(agriculturalAndLivestockProducts.getSugar());
   }
   public FoodResponseDto(AquaticProducts aquaticProducts) {
-
-    this.foodName = aquaticProducts.getFoodName();
-    this.oneTimeSupply = aquaticProducts.getOneTimeSupply();
-    this.energy = aquaticProducts.getEnergy();
-    this.protein = aquaticProducts.getProtein();
-    this.fat = aquaticProducts.getFat();
-    this.carbohydrate = aquaticProducts.getCarbohydrate();
+    this.id = aquaticProducts.getId();
+    this.category = FoodCategory.AQUATIC_PRODUCTS.getLabel();
+    this.foodName = orNoInfo(aquaticProducts.getFoodName());
+    this.oneTimeSupply = orNoInfo(aquaticProducts.getOneTimeSupply());
+    this.energy = orNoInfo(aquaticProducts.getEnergy());
+    this.protein = orNoInfo(aquaticProducts.getProtein());
+    this.fat = orNoInfo(aquaticProducts.getFat());
+    this.carbohydrate = orNoInfo(aquaticProducts.getCarbohydrate());
   }
 
   public FoodResponseDto(Food food) {
-    this.foodName = food.getFoodName();
-    this.oneTimeSupply = food.getOneTimeSupply();
-    this.energy = food.getEnergy();
-    this.protein = food.getProtein();
-    this.fat = food.getFat();
-    this.carbohydrate = food.getCarbohydrate();
-    this.sugar = food.getSugar();
+    this.id = food.getId();
+    this.category = FoodCategory.FOOD.getLabel();
+    this.foodName = orNoInfo(food.getFoodName());
+    this.oneTimeSupply = orNoInfo(food.getOneTimeSupply());
+    this.energy = orNoInfo(food.getEnergy());
+    this.protein = orNoInfo(food.getProtein());
+    this.fat = orNoInfo(food.getFat());
+    this.carbohydrate = orNoInfo(food.getCarbohydrate());
+    this.sugar = orNoInfo(food.getSugar());
   }
 
   public FoodResponseDto(ProcessedFood processedFood) {
-    this.foodName = processedFood.getFoodName();
-    this.factory = processedFood.getFactory();
-    this.oneTimeSupply = processedFood.getOneTimeSupply();
-    this.energy = processedFood.getEnergy();
-    this.protein = processedFood.getProtein();
-    this.fat = processedFood.getFat();
-    this.carbohydrate = processedFood.getCarbohydrate();
-    this.sugar = processedFood.getSugar();
+    this.id = processedFood.getId();
+    this.category = FoodCategory.PROCESSED_FOOD.getLabel();
+    this.foodName = orNoInfo(processedFood.getFoodName());
+    this.factory = orNoInfo(processedFood.getFactory());
+    this.oneTimeSupply = orNoInfo(processedFood.getOneTimeSupply());
+    this.energy = orNoInfo(processedFood.getEnergy());
+    this.protein = orNoInfo(processedFood.getProtein());
+    this.fat = orNoInfo(processedFood.getFat());
+    this.carbohydrate = orNoInfo(processedFood.getCarbohydrate());
+    this.sugar = orNoInfo(processedFood.getSugar());
+  }
+
+  public FoodResponseDto(FoodCatalogItem foodCatalogItem) {
+    this.id = foodCatalogItem.getId();
+    this.category = foodCatalogItem.getCategory().getLabel();
+    this.foodName = orNoInfo(foodCatalogItem.getFoodName());
+    this.factory = orNoInfo(foodCatalogItem.getFactory());
+    this.oneTimeSupply = orNoInfo(foodCatalogItem.getOneTimeSupply());
+    this.energy = orNoInfo(foodCatalogItem.getEnergy());
+    this.protein = orNoInfo(foodCatalogItem.getProtein());
+    this.fat = orNoInfo(foodCatalogItem.getFat());
+    this.carbohydrate = orNoInfo(foodCatalogItem.getCarbohydrate());
+    this.sugar = orNoInfo(foodCatalogItem.getSugar());
+  }
+
+  // 정규화 단계에서 빈 값은 null 로 적재되므로 응답에서만 "정보 없음" 으로 보여준다
+  private static String orNoInfo(String value) {
+    return value == null ? "정보 없음" : value;
   }
 }
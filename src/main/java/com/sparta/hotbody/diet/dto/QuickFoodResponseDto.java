@@ -0,0 +1,60 @@
+package com.sparta.hotbody.diet.dto;
+
+import com.sparta.hotbody.common.batch.NutrientParser;
+import com.sparta.hotbody.diet.quick.QuickFood;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import com.sparta.hotbody.diet.search.FoodNutrient;
+import lombok.Getter;
+
+// 다시 담기용 음식 : 받은 값을 그대로 식단 저장 요청(FoodOfDietRequestDto)에 넣으면 된다
+@Getter
+public class QuickFoodResponseDto {
+
+  String category;
+  Long foodId;
+  Float portion;
+  String foodName;
+  String factory;
+  String supply;
+  String energy;
+  String protein;
+  String fat;
+  String carbohydrate;
+  String sugar;
+  Long count;
+  Long lastUsedAt;
+
+  // 카탈로그 참조 음식은 현재 카탈로그 값으로 (foodCatalogItem 이 null 이면 이름만)
+  public QuickFoodResponseDto(QuickFood quickFood, FoodCatalogItem foodCatalogItem) {
+    this.category = quickFood.getCategory();
+    this.foodId = quickFood.getFoodId();
+    this.portion = quickFood.getPortion();
+    this.foodName = quickFood.getFoodName();
+    this.factory = quickFood.getFactory();
+    this.supply = quickFood.getSupply();
+    this.energy = quickFood.getEnergy();
+    this.protein = quickFood.getProtein();
+    this.fat = quickFood.getFat();
+    this.carbohydrate = quickFood.getCarbohydrate();
+    this.sugar = quickFood.getSugar();
+    this.count = quickFood.getCount();
+    this.lastUsedAt = quickFood.getLastUsedAt();
+    if (foodCatalogItem != null) {
+      float portion = quickFood.getPortion() == null ? 1f : quickFood.getPortion();
+      this.foodName = foodCatalogItem.getFoodName();
+      this.factory = foodCatalogItem.getFactory();
+      Float supply = NutrientParser.parse(foodCatalogItem.getOneTimeSupply());
+      this.supply = supply == null ? null : FoodOfDietResponseDto.format(supply * portion);
+      this.energy = FoodOfDietResponseDto.format(
+          foodCatalogItem.getNutrient(FoodNutrient.ENERGY), portion);
+      this.protein = FoodOfDietResponseDto.format(
+          foodCatalogItem.getNutrient(FoodNutrient.PROTEIN), portion);
+      this.fat = FoodOfDietResponseDto.format(
+          foodCatalogItem.getNutrient(FoodNutrient.FAT), portion);
+      this.carbohydrate = FoodOfDietResponseDto.format(
+          foodCatalogItem.getNutrient(FoodNutrient.CARBOHYDRATE), portion);
+      this.sugar = FoodOfDietResponseDto.format(
+          foodCatalogItem.getNutrient(FoodNutrient.SUGAR), portion);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.sparta.hotbody.diet.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자의 하루 영양성분 합계, 식단에 음식이 추가 / 삭제될 때마다 증분으로 갱신된다
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_daily_nutrition_user_time",
+    columnNames = {"userId", "time"}))
+public class DailyNutrition {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column
+  private Long id;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  // Diet.time 과 같은 날짜 문자열 (yyyy-MM-dd)
+  @Column(nullable = false)
+  private String time;
+
+  @Embedded
+  private NutritionTotal nutritionTotal = new NutritionTotal();
+}
@@ -1,22 +1,31 @@
 package com.sparta.hotbody.diet.entity;
 
 import com.sparta.hotbody.user.entity.User;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import javax.persistence.Column;
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @NoArgsConstructor
 @Getter
+// (userId, dietDate) 로 시작하는 유니크 인덱스 : 하루 / 기간 조회와 끼니별 중복 방지를 함께 맡는다
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_diet_user_date_slot",
+    columnNames = {"userId", "dietDate", "mealSlot"}))
 public class Diet {
 
   @Id
@@ -24,17 +33,31 @@ public class Diet {
   @Column
   private Long id;
 
+  // 화면에서 받은 날짜 문자열, dietDate 를 yyyy-MM-dd 로 적은 값과 같다
   @Column(nullable = false)
   private String time;
 
+  @Column(nullable = false)
+  private LocalDate dietDate;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private MealSlot mealSlot;
+
   @Column(nullable = false)
   private Long userId;
 
   @OneToMany (mappedBy = "diet")
   private List<FoodOfDiet> foodOfDiets = new ArrayList<>();
 
-  public Diet(Long userId, String time) {
+  // 이 식단의 영양성분 합계 (음식 추가 / 삭제 때 SQL 로 증분 갱신)
+  @Embedded
+  private NutritionTotal nutritionTotal = new NutritionTotal();
+
+  public Diet(Long userId, LocalDate dietDate, MealSlot mealSlot) {
     this.userId = userId;
-    this.time = time;
+    this.dietDate = dietDate;
+    this.time = dietDate.toString();
+    this.mealSlot = mealSlot;
   }
 }
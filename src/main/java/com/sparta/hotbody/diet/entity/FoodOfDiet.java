@@ -1,8 +1,14 @@
 package com.sparta.hotbody.diet.entity;
 
+import com.sparta.hotbody.common.batch.NutrientParser;
 import com.sparta.hotbody.diet.dto.FoodOfDietRequestDto;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import com.sparta.hotbody.diet.search.FoodCategory;
+import com.sparta.hotbody.diet.search.FoodNutrient;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -37,6 +43,26 @@ public class FoodOfDiet {
   String carbohydrate;
   @Column
   String sugar;
+  // 합산, 통계용 숫자 영양성분 (정보가 없으면 null)
+  @Column
+  Float energyValue;
+  @Column
+  Float proteinValue;
+  @Column
+  Float fatValue;
+  @Column
+  Float carbohydrateValue;
+  @Column
+  Float sugarValue;
+  // 카탈로그 참조 모드 : 어떤 카탈로그 음식을 1회 제공량의 몇 배 먹었는지만 저장한다
+  // (문자열 영양성분은 저장하지 않고, 위 숫자 컬럼에 저장 시점의 값에 portion 을 곱해 둔다)
+  @Enumerated(EnumType.STRING)
+  @Column(length = 40)
+  FoodCategory category;
+  @Column
+  Long foodId;
+  @Column
+  Float portion;
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "Diet_ID")
   private Diet diet;
@@ -50,6 +76,34 @@ public class FoodOfDiet {
     this.fat = foodOfDietRequestDto.getFat();
     this.carbohydrate = foodOfDietRequestDto.getCarbohydrate();
     this.sugar = foodOfDietRequestDto.getSugar();
+    this.energyValue = NutrientParser.parse(this.energy);
+    this.proteinValue = NutrientParser.parse(this.protein);
+    this.fatValue = NutrientParser.parse(this.fat);
+    this.carbohydrateValue = NutrientParser.parse(this.carbohydrate);
+    this.sugarValue = NutrientParser.parse(this.sugar);
     this.diet = diet;
   }
+
+  public FoodOfDiet(FoodCatalogItem foodCatalogItem, float portion, Diet diet) {
+    this.category = foodCatalogItem.getCategory();
+    this.foodId = foodCatalogItem.getId();
+    this.portion = portion;
+    // 카탈로그 행이 재적재로 사라졌을 때 보여줄 이름
+    this.foodName = foodCatalogItem.getFoodName();
+    this.energyValue = scale(foodCatalogItem.getNutrient(FoodNutrient.ENERGY), portion);
+    this.proteinValue = scale(foodCatalogItem.getNutrient(FoodNutrient.PROTEIN), portion);
+    this.fatValue = scale(foodCatalogItem.getNutrient(FoodNutrient.FAT), portion);
+    this.carbohydrateValue = scale(foodCatalogItem.getNutrient(FoodNutrient.CARBOHYDRATE),
+        portion);
+    this.sugarValue = scale(foodCatalogItem.getNutrient(FoodNutrient.SUGAR), portion);
+    this.diet = diet;
+  }
+
+  public boolean isCatalogReference() {
+    return foodId != null;
+  }
+
+  private static Float scale(float value, float portion) {
+    return Float.isNaN(value) ? null : value * portion;
+  }
 }
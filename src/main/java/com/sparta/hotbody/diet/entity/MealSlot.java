@@ -0,0 +1,19 @@
+package com.sparta.hotbody.diet.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum MealSlot {
+
+  DAY("하루"), // 끼니 구분 없이 하루 전체 (기존 식단)
+  BREAKFAST("아침"),
+  LUNCH("점심"),
+  DINNER("저녁"),
+  SNACK("간식");
+
+  private final String label;
+
+  MealSlot(String label) {
+    this.label = label;
+  }
+}
@@ -0,0 +1,59 @@
+package com.sparta.hotbody.diet.entity;
+
+import java.util.List;
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 식단 / 하루 단위로 미리 합산해 두는 영양성분 (정보가 없는 음식은 0 으로 더한다)
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class NutritionTotal {
+
+  @Column(nullable = false)
+  private float totalEnergy;
+  @Column(nullable = false)
+  private float totalProtein;
+  @Column(nullable = false)
+  private float totalFat;
+  @Column(nullable = false)
+  private float totalCarbohydrate;
+  @Column(nullable = false)
+  private float totalSugar;
+  @Column(nullable = false)
+  private int foodCount;
+
+  public static NutritionTotal of(List<FoodOfDiet> foodOfDiets) {
+    NutritionTotal total = new NutritionTotal();
+    for (FoodOfDiet foodOfDiet : foodOfDiets) {
+      total.totalEnergy += valueOf(foodOfDiet.getEnergyValue());
+      total.totalProtein += valueOf(foodOfDiet.getProteinValue());
+      total.totalFat += valueOf(foodOfDiet.getFatValue());
+      total.totalCarbohydrate += valueOf(foodOfDiet.getCarbohydrateValue());
+      total.totalSugar += valueOf(foodOfDiet.getSugarValue());
+      total.foodCount++;
+    }
+    return total;
+  }
+
+  public static NutritionTotal of(float totalEnergy, float totalProtein, float totalFat,
+      float totalCarbohydrate, float totalSugar, int foodCount) {
+    return new NutritionTotal(totalEnergy, totalProtein, totalFat, totalCarbohydrate, totalSugar,
+        foodCount);
+  }
+
+  // 음식을 뺄 때 더할 값
+  public NutritionTotal negate() {
+    return new NutritionTotal(-totalEnergy, -totalProtein, -totalFat, -totalCarbohydrate,
+        -totalSugar, -foodCount);
+  }
+
+  private static float valueOf(Float value) {
+    return value == null ? 0f : value;
+  }
+}
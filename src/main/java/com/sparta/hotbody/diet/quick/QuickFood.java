@@ -0,0 +1,64 @@
+package com.sparta.hotbody.diet.quick;
+
+import com.sparta.hotbody.diet.entity.FoodOfDiet;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자가 식단에 담았던 음식 하나 (다시 담을 때 필요한 값 + 사용 횟수 / 마지막 사용 시각)
+@Getter
+@NoArgsConstructor
+public class QuickFood {
+
+  private String key;
+  // 카탈로그 참조로 담은 음식
+  private String category;
+  private Long foodId;
+  private Float portion;
+  // 문자열로 담은 음식 (카탈로그 참조면 foodName 만)
+  private String foodName;
+  private String factory;
+  private String supply;
+  private String energy;
+  private String protein;
+  private String fat;
+  private String carbohydrate;
+  private String sugar;
+  private long count;
+  private long lastUsedAt;
+
+  public static QuickFood of(FoodOfDiet foodOfDiet, long usedAt) {
+    QuickFood quickFood = new QuickFood();
+    if (foodOfDiet.isCatalogReference()) {
+      quickFood.key = "c:" + foodOfDiet.getCategory().name() + ":" + foodOfDiet.getFoodId();
+      quickFood.category = foodOfDiet.getCategory().getLabel();
+      quickFood.foodId = foodOfDiet.getFoodId();
+      quickFood.portion = foodOfDiet.getPortion();
+    } else {
+      quickFood.key = "n:" + foodOfDiet.getFoodName() + "|" + foodOfDiet.getFactory();
+      quickFood.factory = foodOfDiet.getFactory();
+      quickFood.supply = foodOfDiet.getSupply();
+      quickFood.energy = foodOfDiet.getEnergy();
+      quickFood.protein = foodOfDiet.getProtein();
+      quickFood.fat = foodOfDiet.getFat();
+      quickFood.carbohydrate = foodOfDiet.getCarbohydrate();
+      quickFood.sugar = foodOfDiet.getSugar();
+    }
+    quickFood.foodName = foodOfDiet.getFoodName();
+    quickFood.count = 1;
+    quickFood.lastUsedAt = usedAt;
+    return quickFood;
+  }
+
+  // 같은 음식을 다시 담음 : 횟수를 더하고 마지막에 담은 값(섭취량 등)으로 바꾼다
+  void merge(QuickFood used) {
+    this.portion = used.portion;
+    this.supply = used.supply;
+    this.energy = used.energy;
+    this.protein = used.protein;
+    this.fat = used.fat;
+    this.carbohydrate = used.carbohydrate;
+    this.sugar = used.sugar;
+    this.count += used.count;
+    this.lastUsedAt = Math.max(this.lastUsedAt, used.lastUsedAt);
+  }
+}
@@ -0,0 +1,144 @@
+package com.sparta.hotbody.diet.quick;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 자주 / 최근 먹은 음식 목록.
+ * 최근 사용자 목록은 메모리(LRU)에 두고, 사용자별 목록은 Redis hash(quickFood:{userId})에도 저장해
+ * 재시작이나 다른 노드에서도 이어 쓴다. 메모리 목록은 ttl 이 지나면 Redis 에서 다시 읽는다
+ * (여러 노드가 같은 사용자를 갱신하면 마지막에 쓴 노드의 횟수가 남는 근사치).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuickFoodCache {
+
+  private static final String KEY_PREFIX = "quickFood:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  // 사용자별로 기억하는 음식 수
+  @Value("${diet.quick-food.capacity:50}")
+  private int capacity;
+
+  // 메모리에 목록을 들고 있는 최대 사용자 수
+  @Value("${diet.quick-food.max-users:10000}")
+  private int maxUsers;
+
+  @Value("${diet.quick-food.memory-ttl:5m}")
+  private Duration memoryTtl;
+
+  // 사용하지 않는 사용자의 Redis 목록이 지워지기까지
+  @Value("${diet.quick-food.redis-ttl:90d}")
+  private Duration redisTtl;
+
+  private Map<Long, QuickFoodList> users;
+
+  public void record(Long userId, List<QuickFood> usedFoods) {
+    if (usedFoods.isEmpty()) {
+      return;
+    }
+    QuickFoodList quickFoodList = load(userId);
+    Map<String, QuickFood> changed = new LinkedHashMap<>();
+    List<String> evicted = new ArrayList<>();
+    for (QuickFood used : usedFoods) {
+      evicted.addAll(quickFoodList.record(used));
+      QuickFood current = quickFoodList.get(used.getKey());
+      if (current != null) {
+        changed.put(current.getKey(), current);
+      }
+    }
+    evicted.forEach(changed::remove);
+    persist(userId, changed, evicted);
+  }
+
+  public List<QuickFood> frequent(Long userId, int size) {
+    return load(userId).top(QuickFoodList.FREQUENT, size);
+  }
+
+  public List<QuickFood> recent(Long userId, int size) {
+    return load(userId).top(QuickFoodList.RECENT, size);
+  }
+
+  private QuickFoodList load(Long userId) {
+    long now = System.currentTimeMillis();
+    Map<Long, QuickFoodList> users = users();
+    QuickFoodList cached = users.get(userId);
+    if (cached != null && !cached.isOlderThan(now - memoryTtl.toMillis())) {
+      return cached;
+    }
+    QuickFoodList loaded = new QuickFoodList(capacity, read(userId), now);
+    users.put(userId, loaded);
+    return loaded;
+  }
+
+  private List<QuickFood> read(Long userId) {
+    List<QuickFood> saved = new ArrayList<>();
+    try {
+      for (Object json : stringRedisTemplate.opsForHash().values(KEY_PREFIX + userId)) {
+        saved.add(objectMapper.readValue((String) json, QuickFood.class));
+      }
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("자주 먹은 음식 목록을 Redis 에서 읽지 못했습니다 : userId={}, {}", userId,
+          e.getMessage());
+    }
+    return saved;
+  }
+
+  // 바뀐 음식만 HSET, 빠진 음식은 HDEL 하고 만료 시간을 연장 (한 번의 pipeline)
+  private void persist(Long userId, Map<String, QuickFood> changed, List<String> evicted) {
+    String key = KEY_PREFIX + userId;
+    Map<String, String> values = new LinkedHashMap<>();
+    try {
+      for (QuickFood quickFood : changed.values()) {
+        values.put(quickFood.getKey(), objectMapper.writeValueAsString(quickFood));
+      }
+      stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+          if (!values.isEmpty()) {
+            redis.opsForHash().putAll(key, values);
+          }
+          if (!evicted.isEmpty()) {
+            redis.opsForHash().delete(key, evicted.toArray());
+          }
+          redis.expire(key, redisTtl);
+          return null;
+        }
+      });
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("자주 먹은 음식 목록을 Redis 에 저장하지 못했습니다 : userId={}, {}", userId,
+          e.getMessage());
+    }
+  }
+
+  private synchronized Map<Long, QuickFoodList> users() {
+    if (users == null) {
+      users = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, QuickFoodList> eldest) {
+          return size() > maxUsers;
+        }
+      });
+    }
+    return users;
+  }
+}
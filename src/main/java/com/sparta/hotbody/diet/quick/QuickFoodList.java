@@ -0,0 +1,80 @@
+package com.sparta.hotbody.diet.quick;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 한 명의 자주 / 최근 먹은 음식 목록 (최대 capacity 개).
+ * 가득 차면 방금 담은 음식을 빼고 사용 횟수가 가장 적은 음식을, 같으면 가장 오래전에 쓴 음식을 뺀다 (LFU + LRU).
+ */
+class QuickFoodList {
+
+  static final Comparator<QuickFood> FREQUENT = Comparator
+      .comparingLong(QuickFood::getCount).reversed()
+      .thenComparing(Comparator.comparingLong(QuickFood::getLastUsedAt).reversed());
+  static final Comparator<QuickFood> RECENT = Comparator
+      .comparingLong(QuickFood::getLastUsedAt).reversed();
+
+  private final int capacity;
+  private final long loadedAt;
+  private final Map<String, QuickFood> foods = new HashMap<>();
+
+  QuickFoodList(int capacity, Collection<QuickFood> saved, long loadedAt) {
+    this.capacity = capacity;
+    this.loadedAt = loadedAt;
+    for (QuickFood quickFood : saved) {
+      foods.put(quickFood.getKey(), quickFood);
+    }
+    evict(null);
+  }
+
+  // 담은 음식을 반영하고, 빠진 음식의 key 목록을 돌려준다
+  synchronized List<String> record(QuickFood used) {
+    QuickFood current = foods.get(used.getKey());
+    if (current == null) {
+      foods.put(used.getKey(), used);
+    } else {
+      current.merge(used);
+    }
+    return evict(used.getKey());
+  }
+
+  synchronized QuickFood get(String key) {
+    return foods.get(key);
+  }
+
+  synchronized List<QuickFood> top(Comparator<QuickFood> order, int size) {
+    List<QuickFood> sorted = new ArrayList<>(foods.values());
+    sorted.sort(order);
+    return new ArrayList<>(sorted.subList(0, Math.min(size, sorted.size())));
+  }
+
+  boolean isOlderThan(long time) {
+    return loadedAt < time;
+  }
+
+  // capacity 가 작으므로(수십 개) 선형 탐색
+  private List<String> evict(String keep) {
+    List<String> evicted = new ArrayList<>();
+    while (foods.size() > capacity) {
+      QuickFood victim = null;
+      for (QuickFood quickFood : foods.values()) {
+        if (quickFood.getKey().equals(keep)) {
+          continue;
+        }
+        if (victim == null || quickFood.getCount() < victim.getCount()
+            || (quickFood.getCount() == victim.getCount()
+            && quickFood.getLastUsedAt() < victim.getLastUsedAt())) {
+          victim = quickFood;
+        }
+      }
+      foods.remove(victim.getKey());
+      evicted.add(victim.getKey());
+    }
+    return evicted;
+  }
+}
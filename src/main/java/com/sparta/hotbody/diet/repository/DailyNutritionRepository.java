@@ -0,0 +1,15 @@
+package com.sparta.hotbody.diet.repository;
+
+import com.sparta.hotbody.diet.entity.DailyNutrition;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DailyNutritionRepository extends JpaRepository<DailyNutrition, Long> {
+
+  Optional<DailyNutrition> findByUserIdAndTime(Long userId, String time);
+
+  // (userId, time) 유니크 인덱스 범위 조회 : 기간의 일수만큼만 읽는다
+  List<DailyNutrition> findAllByUserIdAndTimeBetweenOrderByTimeAsc(Long userId, String from,
+      String to);
+}
@@ -1,9 +1,22 @@
 package com.sparta.hotbody.diet.repository;
 
 import com.sparta.hotbody.diet.entity.Diet;
+import com.sparta.hotbody.diet.entity.MealSlot;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DietRepository extends JpaRepository<Diet, Long> {
-  Optional<Diet> findByUserIdAndTime(Long id, String time);
+
+  Optional<Diet> findByUserIdAndDietDateAndMealSlot(Long userId, LocalDate dietDate,
+      MealSlot mealSlot);
+
+  // 기간의 식단과 음식을 fetch join 한 번으로 읽는다 (식단마다 음식을 따로 lazy 로딩하지 않게)
+  @Query("select distinct d from Diet d left join fetch d.foodOfDiets"
+      + " where d.userId = :userId and d.dietDate between :from and :to")
+  List<Diet> findAllWithFoodsByUserIdAndDietDateBetween(@Param("userId") Long userId,
+      @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -0,0 +1,92 @@
+package com.sparta.hotbody.diet.repository;
+
+import com.sparta.hotbody.diet.entity.FoodOfDiet;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 식단 음식 여러 건을 JDBC batch 한 번으로 넣는다.
+ * IDENTITY 키라 JPA save 는 행마다 INSERT 를 보내지만, 여기서는 rewriteBatchedStatements 로
+ * multi-row INSERT 하나로 합쳐지고 생성된 id 는 getGeneratedKeys 로 한 번에 받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FoodOfDietJdbcRepository {
+
+  private static final String INSERT_SQL = "INSERT INTO food_of_diet (food_name, factory, supply,"
+      + " energy, protein, fat, carbohydrate, sugar, energy_value, protein_value, fat_value,"
+      + " carbohydrate_value, sugar_value, category, food_id, portion, diet_id)"
+      + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 넣은 순서대로 생성된 id
+  public List<Long> saveAll(List<FoodOfDiet> foodOfDiets, Long dietId) {
+    if (foodOfDiets.isEmpty()) {
+      return new ArrayList<>();
+    }
+    return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+      try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL,
+          Statement.RETURN_GENERATED_KEYS)) {
+        for (FoodOfDiet foodOfDiet : foodOfDiets) {
+          bind(ps, foodOfDiet, dietId);
+          ps.addBatch();
+        }
+        ps.executeBatch();
+        List<Long> ids = new ArrayList<>(foodOfDiets.size());
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+          while (keys.next()) {
+            ids.add(keys.getLong(1));
+          }
+        }
+        return ids;
+      }
+    });
+  }
+
+  private static void bind(PreparedStatement ps, FoodOfDiet foodOfDiet, Long dietId)
+      throws SQLException {
+    ps.setString(1, foodOfDiet.getFoodName());
+    ps.setString(2, foodOfDiet.getFactory());
+    ps.setString(3, foodOfDiet.getSupply());
+    ps.setString(4, foodOfDiet.getEnergy());
+    ps.setString(5, foodOfDiet.getProtein());
+    ps.setString(6, foodOfDiet.getFat());
+    ps.setString(7, foodOfDiet.getCarbohydrate());
+    ps.setString(8, foodOfDiet.getSugar());
+    setFloat(ps, 9, foodOfDiet.getEnergyValue());
+    setFloat(ps, 10, foodOfDiet.getProteinValue());
+    setFloat(ps, 11, foodOfDiet.getFatValue());
+    setFloat(ps, 12, foodOfDiet.getCarbohydrateValue());
+    setFloat(ps, 13, foodOfDiet.getSugarValue());
+    // 카탈로그 참조 행만 값이 있고, 값을 복사해 넣은 행은 NULL (카테고리는 엔티티와 같이 enum 이름)
+    if (foodOfDiet.isCatalogReference()) {
+      ps.setString(14, foodOfDiet.getCategory().name());
+      ps.setLong(15, foodOfDiet.getFoodId());
+      setFloat(ps, 16, foodOfDiet.getPortion());
+    } else {
+      ps.setNull(14, Types.VARCHAR);
+      ps.setNull(15, Types.BIGINT);
+      ps.setNull(16, Types.FLOAT);
+    }
+    ps.setLong(17, dietId);
+  }
+
+  private static void setFloat(PreparedStatement ps, int index, Float value)
+      throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.FLOAT);
+    } else {
+      ps.setFloat(index, value);
+    }
+  }
+}
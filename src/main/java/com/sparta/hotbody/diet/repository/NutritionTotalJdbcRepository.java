@@ -0,0 +1,53 @@
+package com.sparta.hotbody.diet.repository;
+
+import com.sparta.hotbody.diet.entity.NutritionTotal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 식단 / 하루 영양성분 합계를 읽고-더하고-쓰지 않고 SQL 한 문장으로 증분 갱신한다.
+ * 같은 식단에 동시에 음식이 추가되어도 갱신이 사라지지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NutritionTotalJdbcRepository {
+
+  private static final String ADD_TO_DIET_SQL = "UPDATE diet SET"
+      + " total_energy = total_energy + ?, total_protein = total_protein + ?,"
+      + " total_fat = total_fat + ?, total_carbohydrate = total_carbohydrate + ?,"
+      + " total_sugar = total_sugar + ?, food_count = food_count + ? WHERE id = ?";
+  // (user_id, time) 유니크 키로 첫 음식이면 INSERT, 아니면 더하기
+  private static final String ADD_TO_DAY_SQL = "INSERT INTO daily_nutrition (user_id, time,"
+      + " total_energy, total_protein, total_fat, total_carbohydrate, total_sugar, food_count)"
+      + " VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE"
+      + " total_energy = total_energy + VALUES(total_energy),"
+      + " total_protein = total_protein + VALUES(total_protein),"
+      + " total_fat = total_fat + VALUES(total_fat),"
+      + " total_carbohydrate = total_carbohydrate + VALUES(total_carbohydrate),"
+      + " total_sugar = total_sugar + VALUES(total_sugar),"
+      + " food_count = food_count + VALUES(food_count)";
+  private static final String FIND_DIET_TOTAL_SQL = "SELECT total_energy, total_protein,"
+      + " total_fat, total_carbohydrate, total_sugar, food_count FROM diet WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void addToDiet(Long dietId, NutritionTotal delta) {
+    jdbcTemplate.update(ADD_TO_DIET_SQL, delta.getTotalEnergy(), delta.getTotalProtein(),
+        delta.getTotalFat(), delta.getTotalCarbohydrate(), delta.getTotalSugar(),
+        delta.getFoodCount(), dietId);
+  }
+
+  public void addToDay(Long userId, String time, NutritionTotal delta) {
+    jdbcTemplate.update(ADD_TO_DAY_SQL, userId, time, delta.getTotalEnergy(),
+        delta.getTotalProtein(), delta.getTotalFat(), delta.getTotalCarbohydrate(),
+        delta.getTotalSugar(), delta.getFoodCount());
+  }
+
+  // 영속성 컨텍스트에 올라온 Diet 는 위 UPDATE 를 모르므로 갱신된 값은 DB 에서 읽는다
+  public NutritionTotal findDietTotal(Long dietId) {
+    return jdbcTemplate.queryForObject(FIND_DIET_TOTAL_SQL, (rs, rowNum) -> NutritionTotal.of(
+        rs.getFloat(1), rs.getFloat(2), rs.getFloat(3), rs.getFloat(4), rs.getFloat(5),
+        rs.getInt(6)), dietId);
+  }
+}
@@ -0,0 +1,134 @@
+package com.sparta.hotbody.diet.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 음식 이름 자동완성용 정렬 배열 인덱스.
+ * 이름은 (길이, 사전순)으로 정렬해 두어 번호가 작을수록 추천 순위가 높고,
+ * 자모 키 / 초성 키를 정렬한 배열에서 이분 탐색으로 접두어 구간을 찾는다.
+ */
+public class FoodAutocompleteIndex {
+
+  private static final int MAX_SIZE = 50;
+
+  // 추천 순위 순서의 이름 목록
+  private final String[] names;
+  // 정렬된 자모 키와 그 키의 이름 번호
+  private final String[] jamoKeys;
+  private final int[] jamoNames;
+  // 정렬된 초성 키와 그 키의 이름 번호
+  private final String[] chosungKeys;
+  private final int[] chosungNames;
+
+  private FoodAutocompleteIndex(String[] names, String[] jamoKeys, int[] jamoNames,
+      String[] chosungKeys, int[] chosungNames) {
+    this.names = names;
+    this.jamoKeys = jamoKeys;
+    this.jamoNames = jamoNames;
+    this.chosungKeys = chosungKeys;
+    this.chosungNames = chosungNames;
+  }
+
+  public static FoodAutocompleteIndex build(List<FoodCatalogItem> items) {
+    Set<String> distinct = new TreeSet<>(Comparator.comparingInt(String::length)
+        .thenComparing(Comparator.naturalOrder()));
+    for (FoodCatalogItem item : items) {
+      if (item.getFoodName() != null && !item.getFoodName().isBlank()) {
+        distinct.add(item.getFoodName().trim());
+      }
+    }
+    String[] names = distinct.toArray(new String[0]);
+
+    String[] jamo = new String[names.length];
+    String[] chosung = new String[names.length];
+    for (int i = 0; i < names.length; i++) {
+      jamo[i] = HangulUtils.toJamo(names[i]);
+      chosung[i] = HangulUtils.toChosung(names[i]);
+    }
+    Integer[] jamoOrder = sortedOrder(jamo);
+    Integer[] chosungOrder = sortedOrder(chosung);
+
+    return new FoodAutocompleteIndex(names,
+        keysOf(jamo, jamoOrder), toIntArray(jamoOrder),
+        keysOf(chosung, chosungOrder), toIntArray(chosungOrder));
+  }
+
+  // 접두어가 일치하는 이름 중 순위가 높은 size 개를 반환
+  public List<String> suggest(String keyword, int size) {
+    if (keyword == null || keyword.isBlank() || size <= 0) {
+      return new ArrayList<>();
+    }
+    int limit = Math.min(size, MAX_SIZE);
+    if (HangulUtils.isChosungQuery(keyword)) {
+      return collect(chosungKeys, chosungNames, HangulUtils.toChosung(keyword), limit);
+    }
+    return collect(jamoKeys, jamoNames, HangulUtils.toJamo(keyword), limit);
+  }
+
+  private List<String> collect(String[] keys, int[] nameIds, String prefix, int limit) {
+    // 구간 안에서 가장 작은 이름 번호 limit 개를 삽입 정렬로 유지
+    int[] best = new int[limit];
+    int count = 0;
+    for (int i = lowerBound(keys, prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+      int nameId = nameIds[i];
+      if (count == limit && nameId >= best[limit - 1]) {
+        continue;
+      }
+      int position = count < limit ? count++ : limit - 1;
+      while (position > 0 && best[position - 1] > nameId) {
+        best[position] = best[position - 1];
+        position--;
+      }
+      best[position] = nameId;
+    }
+    List<String> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(names[best[i]]);
+    }
+    return result;
+  }
+
+  private static int lowerBound(String[] keys, String prefix) {
+    int low = 0;
+    int high = keys.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (keys[mid].compareTo(prefix) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static Integer[] sortedOrder(String[] keys) {
+    Integer[] order = new Integer[keys.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparing((Integer i) -> keys[i]));
+    return order;
+  }
+
+  private static String[] keysOf(String[] keys, Integer[] order) {
+    String[] sorted = new String[order.length];
+    for (int i = 0; i < order.length; i++) {
+      sorted[i] = keys[order[i]];
+    }
+    return sorted;
+  }
+
+  private static int[] toIntArray(Integer[] values) {
+    int[] result = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = values[i];
+    }
+    return result;
+  }
+}
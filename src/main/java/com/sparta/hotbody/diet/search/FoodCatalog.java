@@ -0,0 +1,441 @@
+package com.sparta.hotbody.diet.search;
+
+import com.sparta.hotbody.diet.dto.FoodResponseDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 음식 카탈로그 4종(농축산물, 수산물, 음식, 가공식품)을 메모리에 올린 불변 스냅샷.
+ * 음절 bigram 역색인으로 DB 의 LIKE '%검색어%' 조회를 대신한다.
+ */
+public class FoodCatalog {
+
+  // FoodCatalogManager 가 매기는 세대 번호 (교체될 때마다 1 씩 증가)
+  private final long generation;
+  // 카테고리 순서대로 묶여 있고, 카테고리 안에서는 기존 조회와 같이 id 내림차순
+  private final FoodCatalogItem[] items;
+  // 소문자로 정규화한 음식 이름 (최종 포함 여부 확인용)
+  private final String[] searchNames;
+  // 카테고리별 시작 위치, categoryStart[ordinal] ~ categoryStart[ordinal + 1]
+  private final int[] categoryStart;
+  // 음절 bigram(한 글자 검색은 unigram) -> 오름차순 문서 번호 목록
+  private final Map<Integer, int[]> postings;
+  // 초성 / 자모 접두어 자동완성
+  private final FoodAutocompleteIndex autocompleteIndex;
+  // 문서 번호를 공유하는 숫자 영양성분 컬럼과 영양성분별 정렬 인덱스
+  private final FoodNutrientColumns nutrientColumns;
+  private final FoodNutrientIndex nutrientIndex;
+  // 자모 편집 거리 기반 오타 허용 검색
+  private final FoodFuzzyIndex fuzzyIndex;
+
+  private FoodCatalog(long generation, FoodCatalogItem[] items, String[] searchNames, int[] categoryStart,
+      Map<Integer, int[]> postings, FoodAutocompleteIndex autocompleteIndex,
+      FoodNutrientColumns nutrientColumns, FoodNutrientIndex nutrientIndex,
+      FoodFuzzyIndex fuzzyIndex) {
+    this.generation = generation;
+    this.items = items;
+    this.searchNames = searchNames;
+    this.categoryStart = categoryStart;
+    this.postings = postings;
+    this.autocompleteIndex = autocompleteIndex;
+    this.nutrientColumns = nutrientColumns;
+    this.nutrientIndex = nutrientIndex;
+    this.fuzzyIndex = fuzzyIndex;
+  }
+
+  public static FoodCatalog build(List<FoodCatalogItem> source, long generation) {
+    FoodCatalogItem[] items = source.toArray(new FoodCatalogItem[0]);
+    Arrays.sort(items, Comparator
+        .comparing((FoodCatalogItem item) -> item.getCategory().ordinal())
+        .thenComparing(FoodCatalogItem::getId, Comparator.nullsLast(Comparator.reverseOrder())));
+
+    FoodCategory[] categories = FoodCategory.values();
+    int[] categoryStart = new int[categories.length + 1];
+    for (FoodCatalogItem item : items) {
+      categoryStart[item.getCategory().ordinal() + 1]++;
+    }
+    for (int i = 0; i < categories.length; i++) {
+      categoryStart[i + 1] += categoryStart[i];
+    }
+
+    String[] searchNames = new String[items.length];
+    Map<Integer, IntBuffer> buffers = new HashMap<>();
+    for (int doc = 0; doc < items.length; doc++) {
+      String name = normalize(items[doc].getFoodName());
+      searchNames[doc] = name;
+      for (int i = 0; i < name.length(); i++) {
+        buffers.computeIfAbsent(unigram(name.charAt(i)), key -> new IntBuffer()).addOnce(doc);
+        if (i + 1 < name.length()) {
+          buffers.computeIfAbsent(bigram(name.charAt(i), name.charAt(i + 1)),
+              key -> new IntBuffer()).addOnce(doc);
+        }
+      }
+    }
+
+    Map<Integer, int[]> postings = new HashMap<>(buffers.size() * 2);
+    buffers.forEach((key, buffer) -> postings.put(key, buffer.toArray()));
+    FoodNutrientColumns nutrientColumns = FoodNutrientColumns.build(items);
+    return new FoodCatalog(generation, items, searchNames, categoryStart, postings,
+        FoodAutocompleteIndex.build(source), nutrientColumns,
+        FoodNutrientIndex.build(nutrientColumns, categoryStart), FoodFuzzyIndex.build(items));
+  }
+
+  public long getGeneration() {
+    return generation;
+  }
+
+  public int size() {
+    return items.length;
+  }
+
+  // 카테고리 구간 안에서 id 내림차순이므로 이진 탐색, 없으면 null
+  public FoodCatalogItem find(FoodCategory category, Long id) {
+    if (category == null || id == null) {
+      return null;
+    }
+    int low = categoryStart[category.ordinal()];
+    int high = categoryStart[category.ordinal() + 1] - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      Long midId = items[mid].getId();
+      int compare = midId == null ? 1 : Long.compare(id, midId);
+      if (compare == 0) {
+        return items[mid];
+      }
+      // 내림차순 : 찾는 id 가 더 크면 앞쪽
+      if (compare > 0) {
+        high = mid - 1;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return null;
+  }
+
+  // 기본 정렬 순서의 doc 번째 음식
+  FoodCatalogItem item(int doc) {
+    return items[doc];
+  }
+
+  // 초성("ㄷㄱㅂ") 또는 입력 중인 글자("닭가")로 시작하는 음식 이름 추천
+  public List<String> autocomplete(String keyword, int size) {
+    return autocompleteIndex.suggest(keyword, size);
+  }
+
+  // findAllByFoodNameContaining 과 같은 결과(포함 검색, id 내림차순)를 페이지 단위로 반환
+  public Page<FoodResponseDto> search(FoodCategory category, String searchWord,
+      Pageable pageable) {
+    return search(category, searchWord, null, pageable);
+  }
+
+  // 검색어 + 영양성분 범위 조건으로 찾고, 정렬 기준이 있으면 해당 영양성분 순서로 반환
+  public Page<FoodResponseDto> search(FoodCategory category, String searchWord,
+      FoodNutrientFilter filter, Pageable pageable) {
+    return find(category, normalize(searchWord), filter, pageable, false);
+  }
+
+  /**
+   * 4개 카테고리를 한 번에 검색한다.
+   * 정렬 기준이 없으면 일치(이름 == 검색어) > 접두어 > 포함 순으로, 같은 등급 안에서는
+   * 짧은 이름, 카테고리 순서, id 내림차순으로 정렬한다. 검색어가 없으면 기본 정렬 순서다.
+   */
+  public Page<FoodResponseDto> searchAll(String searchWord, FoodNutrientFilter filter,
+      Pageable pageable) {
+    return find(null, normalize(searchWord), filter, pageable, true);
+  }
+
+  /**
+   * 오타를 허용하는 검색. 이름 전체나 이름의 단어 중 하나가 자모 기준 편집 거리
+   * maxDistance 이내면 결과에 포함하고, 거리 > 짧은 이름 > 기본 정렬 순으로 반환한다.
+   * 짧은 검색어는 자모 길이에 따라 허용 거리가 더 줄어든다 (FoodFuzzyIndex.distanceLimit).
+   * category 가 null 이면 4개 카테고리를 모두 검색한다.
+   */
+  public Page<FoodResponseDto> fuzzySearch(FoodCategory category, String searchWord,
+      int maxDistance, Pageable pageable) {
+    int from = category == null ? 0 : categoryStart[category.ordinal()];
+    int to = category == null ? items.length : categoryStart[category.ordinal() + 1];
+    long[] matches = fuzzyIndex.search(searchWord, maxDistance, from, to);
+
+    int total = matches.length;
+    long[] ranked = new long[total];
+    for (int i = 0; i < total; i++) {
+      int doc = (int) matches[i];
+      long distance = matches[i] >>> 32;
+      long length = Math.min(searchNames[doc].length(), 0xFFFFFF);
+      ranked[i] = (distance << 56) | (length << 32) | doc;
+    }
+    Arrays.sort(ranked, 0, total);
+
+    int offset = (int) pageable.getOffset();
+    int size = pageable.getPageSize();
+    List<FoodResponseDto> content = new ArrayList<>(size);
+    for (int i = offset; i < total && content.size() < size; i++) {
+      content.add(new FoodResponseDto(items[(int) ranked[i]]));
+    }
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  // category 가 null 이면 4개 카테고리 전체, 일치한 문서만 모아 정렬하므로 비용은 결과 수에 비례
+  private Page<FoodResponseDto> find(FoodCategory category, String word,
+      FoodNutrientFilter filter, Pageable pageable, boolean relevance) {
+    int from = category == null ? 0 : categoryStart[category.ordinal()];
+    int to = category == null ? items.length : categoryStart[category.ordinal() + 1];
+    FoodNutrient sortBy = filter == null ? null : filter.getSortBy();
+    boolean asc = filter == null || filter.isAsc();
+    boolean hasRange = filter != null && filter.hasRange();
+    int offset = (int) pageable.getOffset();
+    int size = pageable.getPageSize();
+
+    // 조건이 없으면 후보를 모으지 않고 기본 순서나 정렬 인덱스에서 페이지만 잘라낸다
+    if (word.isEmpty() && !hasRange) {
+      List<FoodResponseDto> content = sortBy == null
+          ? pageOfRange(from, to, offset, size)
+          : pageOfRangeInNutrientOrder(category, from, to, sortBy, asc, offset, size);
+      return new PageImpl<>(content, pageable, to - from);
+    }
+
+    int[] matched = hasRange
+        ? rangeMatches(category, from, to, word, filter)
+        : textMatches(from, to, word);
+    List<FoodResponseDto> content;
+    if (sortBy != null) {
+      content = pageInNutrientOrder(matched, sortBy, asc, offset, size);
+    } else if (relevance) {
+      content = pageInRelevanceOrder(matched, word, offset, size);
+    } else {
+      content = pageInDocOrder(matched, offset, size);
+    }
+    return new PageImpl<>(content, pageable, matched.length);
+  }
+
+  // 검색어만 있을 때는 bigram 역색인으로 후보를 찾는다 (문서 번호 오름차순)
+  private int[] textMatches(int from, int to, String word) {
+    int[][] lists = candidateLists(word);
+    if (lists == null) {
+      return new int[0];
+    }
+
+    int[] shortest = lists[0];
+    int[] cursors = new int[lists.length];
+    for (int k = 1; k < lists.length; k++) {
+      cursors[k] = lowerBound(lists[k], from);
+    }
+
+    IntBuffer matched = new IntBuffer();
+    for (int p = lowerBound(shortest, from); p < shortest.length && shortest[p] < to; p++) {
+      int doc = shortest[p];
+      if (containsAll(lists, cursors, doc) && searchNames[doc].contains(word)) {
+        matched.addOnce(doc);
+      }
+    }
+    return matched.toArray();
+  }
+
+  // 카테고리 구간 안에서 가장 좁은 영양성분 구간을 후보로 삼고, 나머지 조건은 컬럼 값으로 확인
+  private int[] rangeMatches(FoodCategory category, int from, int to, String word,
+      FoodNutrientFilter filter) {
+    FoodNutrient narrowest = null;
+    int low = 0;
+    int high = 0;
+    for (FoodNutrient nutrient : FoodNutrient.values()) {
+      if (!filter.hasRange(nutrient)) {
+        continue;
+      }
+      int nutrientLow = nutrientIndex.lowerBound(nutrient, category, filter.getMin(nutrient));
+      int nutrientHigh = nutrientIndex.upperBound(nutrient, category, filter.getMax(nutrient));
+      if (narrowest == null || nutrientHigh - nutrientLow < high - low) {
+        narrowest = nutrient;
+        low = nutrientLow;
+        high = nutrientHigh;
+      }
+    }
+
+    int[] docs = nutrientIndex.sortedDocs(narrowest, category);
+    int[] matched = new int[Math.max(high - low, 0)];
+    int count = 0;
+    for (int rank = low; rank < high; rank++) {
+      int doc = docs[rank];
+      if (filter.matches(nutrientColumns, doc) && searchNames[doc].contains(word)) {
+        matched[count++] = doc;
+      }
+    }
+    // 값 순서로 모였으므로 문서 번호 순서로 되돌린다
+    Arrays.sort(matched, 0, count);
+    return Arrays.copyOf(matched, count);
+  }
+
+  // 조건 없는 기본 정렬(카테고리, id 내림차순) 페이지
+  private List<FoodResponseDto> pageOfRange(int from, int to, int offset, int size) {
+    List<FoodResponseDto> content = new ArrayList<>(size);
+    for (int doc = from + offset; doc < to && content.size() < size; doc++) {
+      content.add(new FoodResponseDto(items[doc]));
+    }
+    return content;
+  }
+
+  // 조건 없는 영양성분 정렬 페이지, 값이 없는 음식은 맨 뒤에 기본 정렬로 붙인다
+  private List<FoodResponseDto> pageOfRangeInNutrientOrder(FoodCategory category, int from,
+      int to, FoodNutrient sortBy, boolean asc, int offset, int size) {
+    List<FoodResponseDto> content = new ArrayList<>(size);
+    int[] docs = nutrientIndex.sortedDocs(sortBy, category);
+    int start = nutrientIndex.start(sortBy, category);
+    int end = nutrientIndex.end(sortBy, category);
+    int ranked = end - start;
+    for (int i = offset; i < ranked && content.size() < size; i++) {
+      content.add(new FoodResponseDto(items[docs[asc ? start + i : end - 1 - i]]));
+    }
+
+    int[] missing = nutrientIndex.missingDocs(sortBy);
+    int missingEnd = lowerBound(missing, to);
+    for (int m = lowerBound(missing, from) + Math.max(offset - ranked, 0);
+        m < missingEnd && content.size() < size; m++) {
+      content.add(new FoodResponseDto(items[missing[m]]));
+    }
+    return content;
+  }
+
+  // 기본 정렬(카테고리, id 내림차순) 순서로 페이지 구성
+  private List<FoodResponseDto> pageInDocOrder(int[] matched, int offset, int size) {
+    List<FoodResponseDto> content = new ArrayList<>(size);
+    for (int i = offset; i < matched.length && content.size() < size; i++) {
+      content.add(new FoodResponseDto(items[matched[i]]));
+    }
+    return content;
+  }
+
+  // (등급 << 56 | 이름 길이 << 32 | 문서 번호) 로 묶어 long 정렬 한 번으로 순위를 매긴다
+  private List<FoodResponseDto> pageInRelevanceOrder(int[] matched, String word, int offset,
+      int size) {
+    long[] ranked = new long[matched.length];
+    for (int i = 0; i < matched.length; i++) {
+      int doc = matched[i];
+      String name = searchNames[doc];
+      long tier = name.equals(word) ? 0 : name.startsWith(word) ? 1 : 2;
+      long length = Math.min(name.length(), 0xFFFFFF);
+      ranked[i] = (tier << 56) | (length << 32) | doc;
+    }
+    Arrays.sort(ranked);
+
+    List<FoodResponseDto> content = new ArrayList<>(size);
+    for (int i = offset; i < ranked.length && content.size() < size; i++) {
+      content.add(new FoodResponseDto(items[(int) ranked[i]]));
+    }
+    return content;
+  }
+
+  // 일치한 문서만 영양성분 값으로 정렬해 페이지 구성, 값이 없는 음식은 맨 뒤에 기본 정렬로 붙인다
+  private List<FoodResponseDto> pageInNutrientOrder(int[] matched, FoodNutrient sortBy,
+      boolean asc, int offset, int size) {
+    long[] keys = new long[matched.length];
+    int[] missing = new int[matched.length];
+    int ranked = 0;
+    int missingCount = 0;
+    for (int doc : matched) {
+      float value = nutrientColumns.value(sortBy, doc);
+      if (Float.isNaN(value)) {
+        missing[missingCount++] = doc;
+      } else {
+        keys[ranked++] = FoodNutrientIndex.sortKey(value, doc);
+      }
+    }
+    Arrays.sort(keys, 0, ranked);
+
+    List<FoodResponseDto> content = new ArrayList<>(size);
+    for (int i = offset; i < ranked + missingCount && content.size() < size; i++) {
+      int doc = i < ranked ? (int) keys[asc ? i : ranked - 1 - i] : missing[i - ranked];
+      content.add(new FoodResponseDto(items[doc]));
+    }
+    return content;
+  }
+
+  // 검색어의 bigram 별 posting 목록을 짧은 순서로 반환, 하나라도 없으면 null
+  private int[][] candidateLists(String word) {
+    int[][] lists;
+    if (word.length() == 1) {
+      lists = new int[][]{postings.get(unigram(word.charAt(0)))};
+    } else {
+      lists = new int[word.length() - 1][];
+      for (int i = 0; i + 1 < word.length(); i++) {
+        lists[i] = postings.get(bigram(word.charAt(i), word.charAt(i + 1)));
+      }
+    }
+    for (int[] list : lists) {
+      if (list == null) {
+        return null;
+      }
+    }
+    Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+    return lists;
+  }
+
+  // 커서를 앞으로만 옮기면서 doc 이 나머지 목록에 모두 있는지 확인
+  private static boolean containsAll(int[][] lists, int[] cursors, int doc) {
+    for (int k = 1; k < lists.length; k++) {
+      int[] list = lists[k];
+      int cursor = cursors[k];
+      while (cursor < list.length && list[cursor] < doc) {
+        cursor++;
+      }
+      cursors[k] = cursor;
+      if (cursor == list.length || list[cursor] != doc) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int lowerBound(int[] list, int value) {
+    int low = 0;
+    int high = list.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (list[mid] < value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  static String normalize(String value) {
+    return value == null ? "" : value.toLowerCase(Locale.ROOT);
+  }
+
+  private static int unigram(char c) {
+    return c;
+  }
+
+  private static int bigram(char first, char second) {
+    return (first << 16) | second;
+  }
+
+  // 인덱스 생성과 후보 수집에 쓰는 가변 int 배열 (오름차순으로만 추가)
+  private static class IntBuffer {
+
+    private int[] values = new int[4];
+    private int size;
+
+    void addOnce(int value) {
+      if (size > 0 && values[size - 1] == value) {
+        return;
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.sparta.hotbody.diet.search;
+
+import java.util.Arrays;
+
+/**
+ * 카탈로그 테이블 내용의 fingerprint : 카테고리별 행 수와 (id, row_hash) 쌍 해시의 합.
+ * 합이라 행 순서와 무관하고, delta import 가 같은 id 로 값만 바꿔도 row_hash 가 바뀌므로 드러난다.
+ * 세대를 만들 때 읽은 엔티티로 계산해 두고, 주기적으로 DB 에서 다시 계산해 비교한다.
+ */
+public class FoodCatalogFingerprint {
+
+  private final long[] counts = new long[FoodCategory.values().length];
+  private final long[] sums = new long[FoodCategory.values().length];
+
+  public void add(FoodCategory category, Long id, String rowHash) {
+    counts[category.ordinal()]++;
+    sums[category.ordinal()] += mix(id == null ? 0 : id, rowHash);
+  }
+
+  public boolean matches(FoodCatalogFingerprint other, FoodCategory category) {
+    return counts[category.ordinal()] == other.counts[category.ordinal()]
+        && sums[category.ordinal()] == other.sums[category.ordinal()];
+  }
+
+  long count(FoodCategory category) {
+    return counts[category.ordinal()];
+  }
+
+  long sum(FoodCategory category) {
+    return sums[category.ordinal()];
+  }
+
+  // 스냅샷에서 읽은 값으로 복원
+  static FoodCatalogFingerprint of(long[] counts, long[] sums) {
+    FoodCatalogFingerprint fingerprint = new FoodCatalogFingerprint();
+    System.arraycopy(counts, 0, fingerprint.counts, 0, fingerprint.counts.length);
+    System.arraycopy(sums, 0, fingerprint.sums, 0, fingerprint.sums.length);
+    return fingerprint;
+  }
+
+  // row_hash 는 SHA-256 hex 이므로 앞 16자리(64비트)면 충분하고, id 와 섞어 행 하나의 값으로 만든다
+  private static long mix(long id, String rowHash) {
+    long hash = 0;
+    if (rowHash != null) {
+      hash = rowHash.length() >= 16
+          ? Long.parseUnsignedLong(rowHash.substring(0, 16), 16) : rowHash.hashCode();
+    }
+    long z = id * 0x9E3779B97F4A7C15L + hash;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof FoodCatalogFingerprint)) {
+      return false;
+    }
+    FoodCatalogFingerprint that = (FoodCatalogFingerprint) o;
+    return Arrays.equals(counts, that.counts) && Arrays.equals(sums, that.sums);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(counts) + Arrays.hashCode(sums);
+  }
+}
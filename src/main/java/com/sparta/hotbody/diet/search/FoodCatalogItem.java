@@ -0,0 +1,143 @@
+package com.sparta.hotbody.diet.search;
+
+import com.sparta.hotbody.common.batch.NutrientParser;
+import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProducts;
+import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProducts;
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.common.batch.processedfood.ProcessedFood;
+import lombok.Getter;
+
+// 검색 인덱스가 들고 있는 음식 한 건 (DB 엔티티와 분리된 불변 객체)
+@Getter
+public class FoodCatalogItem {
+
+  private static final String NO_INFO = "정보 없음";
+
+  private final FoodCategory category;
+  private final Long id;
+  private final String foodName;
+  private final String factory;
+  private final String oneTimeSupply;
+  private final String energy;
+  private final String protein;
+  private final String fat;
+  private final String carbohydrate;
+  private final String sugar;
+  // FoodNutrient 순서의 숫자 영양성분, 정보가 없으면 NaN
+  private final float[] nutrients;
+
+  public FoodCatalogItem(AgriculturalAndLivestockProducts agriculturalAndLivestockProducts) {
+    this.category = FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS;
+    this.id = agriculturalAndLivestockProducts.getId();
+    this.foodName = agriculturalAndLivestockProducts.getFoodName();
+    this.factory = NO_INFO;
+    this.oneTimeSupply = agriculturalAndLivestockProducts.getOneTimeSupply();
+    this.energy = agriculturalAndLivestockProducts.getEnergy();
+    this.protein = agriculturalAndLivestockProducts.getProtein();
+    this.fat = agriculturalAndLivestockProducts.getFat();
+    this.carbohydrate = agriculturalAndLivestockProducts.getCarbohydrate();
+    this.sugar = agriculturalAndLivestockProducts.getSugar();
+    this.nutrients = nutrients(
+        agriculturalAndLivestockProducts.getEnergyValue(), agriculturalAndLivestockProducts.getEnergy(),
+        agriculturalAndLivestockProducts.getProteinValue(), agriculturalAndLivestockProducts.getProtein(),
+        agriculturalAndLivestockProducts.getFatValue(), agriculturalAndLivestockProducts.getFat(),
+        agriculturalAndLivestockProducts.getCarbohydrateValue(), agriculturalAndLivestockProducts.getCarbohydrate(),
+        agriculturalAndLivestockProducts.getSugarValue(), agriculturalAndLivestockProducts.getSugar());
+  }
+
+  public FoodCatalogItem(AquaticProducts aquaticProducts) {
+    this.category = FoodCategory.AQUATIC_PRODUCTS;
+    this.id = aquaticProducts.getId();
+    this.foodName = aquaticProducts.getFoodName();
+    this.factory = NO_INFO;
+    this.oneTimeSupply = aquaticProducts.getOneTimeSupply();
+    this.energy = aquaticProducts.getEnergy();
+    this.protein = aquaticProducts.getProtein();
+    this.fat = aquaticProducts.getFat();
+    this.carbohydrate = aquaticProducts.getCarbohydrate();
+    this.sugar = NO_INFO;
+    this.nutrients = nutrients(
+        aquaticProducts.getEnergyValue(), aquaticProducts.getEnergy(),
+        aquaticProducts.getProteinValue(), aquaticProducts.getProtein(),
+        aquaticProducts.getFatValue(), aquaticProducts.getFat(),
+        aquaticProducts.getCarbohydrateValue(), aquaticProducts.getCarbohydrate(),
+        null, null);
+  }
+
+  public FoodCatalogItem(Food food) {
+    this.category = FoodCategory.FOOD;
+    this.id = food.getId();
+    this.foodName = food.getFoodName();
+    this.factory = NO_INFO;
+    this.oneTimeSupply = food.getOneTimeSupply();
+    this.energy = food.getEnergy();
+    this.protein = food.getProtein();
+    this.fat = food.getFat();
+    this.carbohydrate = food.getCarbohydrate();
+    this.sugar = food.getSugar();
+    this.nutrients = nutrients(
+        food.getEnergyValue(), food.getEnergy(),
+        food.getProteinValue(), food.getProtein(),
+        food.getFatValue(), food.getFat(),
+        food.getCarbohydrateValue(), food.getCarbohydrate(),
+        food.getSugarValue(), food.getSugar());
+  }
+
+  public FoodCatalogItem(ProcessedFood processedFood) {
+    this.category = FoodCategory.PROCESSED_FOOD;
+    this.id = processedFood.getId();
+    this.foodName = processedFood.getFoodName();
+    this.factory = processedFood.getFactory();
+    this.oneTimeSupply = processedFood.getOneTimeSupply();
+    this.energy = processedFood.getEnergy();
+    this.protein = processedFood.getProtein();
+    this.fat = processedFood.getFat();
+    this.carbohydrate = processedFood.getCarbohydrate();
+    this.sugar = processedFood.getSugar();
+    this.nutrients = nutrients(
+        processedFood.getEnergyValue(), processedFood.getEnergy(),
+        processedFood.getProteinValue(), processedFood.getProtein(),
+        processedFood.getFatValue(), processedFood.getFat(),
+        processedFood.getCarbohydrateValue(), processedFood.getCarbohydrate(),
+        processedFood.getSugarValue(), processedFood.getSugar());
+  }
+
+  // 바이너리 스냅샷에서 읽은 값으로 복원
+  FoodCatalogItem(FoodCategory category, Long id, String foodName, String factory,
+      String oneTimeSupply, String energy, String protein, String fat, String carbohydrate,
+      String sugar, float[] nutrients) {
+    this.category = category;
+    this.id = id;
+    this.foodName = foodName;
+    this.factory = factory;
+    this.oneTimeSupply = oneTimeSupply;
+    this.energy = energy;
+    this.protein = protein;
+    this.fat = fat;
+    this.carbohydrate = carbohydrate;
+    this.sugar = sugar;
+    this.nutrients = nutrients;
+  }
+
+  public float getNutrient(FoodNutrient nutrient) {
+    return nutrients[nutrient.ordinal()];
+  }
+
+  // 숫자 컬럼이 비어 있는 예전 데이터는 문자열을 직접 변환
+  private static float[] nutrients(Float energyValue, String energy, Float proteinValue,
+      String protein, Float fatValue, String fat, Float carbohydrateValue, String carbohydrate,
+      Float sugarValue, String sugar) {
+    float[] nutrients = new float[FoodNutrient.values().length];
+    nutrients[FoodNutrient.ENERGY.ordinal()] = toFloat(energyValue, energy);
+    nutrients[FoodNutrient.PROTEIN.ordinal()] = toFloat(proteinValue, protein);
+    nutrients[FoodNutrient.FAT.ordinal()] = toFloat(fatValue, fat);
+    nutrients[FoodNutrient.CARBOHYDRATE.ordinal()] = toFloat(carbohydrateValue, carbohydrate);
+    nutrients[FoodNutrient.SUGAR.ordinal()] = toFloat(sugarValue, sugar);
+    return nutrients;
+  }
+
+  private static float toFloat(Float value, String raw) {
+    Float parsed = value != null ? value : NutrientParser.parse(raw);
+    return parsed == null ? Float.NaN : parsed;
+  }
+}
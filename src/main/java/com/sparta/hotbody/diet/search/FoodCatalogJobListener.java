@@ -0,0 +1,37 @@
+package com.sparta.hotbody.diet.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+// csv import job 동안은 기존 세대로 검색하고, 끝나면 DB 에 적재된 내용으로 새 세대를 만들어 교체한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodCatalogJobListener implements JobExecutionListener {
+
+  private final FoodCatalogManager foodCatalogManager;
+
+  @Override
+  public void beforeJob(JobExecution jobExecution) {
+    try {
+      foodCatalogManager.beginImport();
+    } catch (RuntimeException e) {
+      log.error("음식 검색 인덱스 생성 실패 : {}", e.getMessage());
+    }
+  }
+
+  @Override
+  public void afterJob(JobExecution jobExecution) {
+    try {
+      // 변경 없는 파일의 step 은 실행되지 않으므로, 실행된 step 이 없으면 테이블도 그대로다
+      foodCatalogManager.endImport(jobExecution.getStatus() == BatchStatus.COMPLETED,
+          !jobExecution.getStepExecutions().isEmpty());
+    } catch (RuntimeException e) {
+      log.error("음식 검색 인덱스 갱신 실패 : {}", e.getMessage());
+    }
+  }
+}
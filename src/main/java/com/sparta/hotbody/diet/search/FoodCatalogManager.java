@@ -0,0 +1,235 @@
+package com.sparta.hotbody.diet.search;
+
+import com.sparta.hotbody.common.batch.CatalogImportJobRunner;
+import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProductsRepository;
+import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProductsRepository;
+import com.sparta.hotbody.common.batch.food.FoodRepository;
+import com.sparta.hotbody.common.batch.processedfood.ProcessedFoodRepository;
+import com.sparta.hotbody.common.cluster.ClusterCoordinator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import javax.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음식 검색 인덱스를 세대(generation) 단위로 만들고 교체하는 컴포넌트.
+ * 새 세대는 서비스 중인 세대와 별개로 만들어지고, 완성된 뒤 참조 하나를 바꾸는 것으로 교체된다.
+ * 검색은 요청마다 현재 세대 참조를 한 번 읽어 끝까지 그 세대만 보므로 교체 중에도 멈추지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodCatalogManager {
+
+  private final AgriculturalAndLivestockProductsRepository agriculturalAndLivestockProductsRepository;
+  private final AquaticProductsRepository aquaticProductsRepository;
+  private final FoodRepository foodRepository;
+  private final ProcessedFoodRepository processedFoodRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ClusterCoordinator clusterCoordinator;
+
+  // 바이너리 스냅샷 파일 경로, 비어 있으면 스냅샷을 쓰지 않는다
+  @Value("${food.catalog.snapshot.path:}")
+  private String snapshotPath;
+
+  private final AtomicReference<FoodCatalog> current = new AtomicReference<>();
+  // 현재 세대를 만들 때 읽은 DB 내용 (세대보다 먼저 바꾼다)
+  private volatile FoodCatalogFingerprint fingerprint;
+  private final AtomicLong generations = new AtomicLong();
+  // 배치 import 가 카탈로그 테이블을 쓰는 중인지
+  private volatile boolean importing;
+  // 현재 세대가 스냅샷에서 올라와 아직 DB 와 비교하지 않았는지
+  private volatile boolean unverifiedSnapshot;
+
+  // DB 나 배치를 기다리지 않고 스냅샷으로 첫 세대를 띄운다
+  @PostConstruct
+  public void loadSnapshot() {
+    Path path = snapshotPath();
+    if (path == null || !Files.isRegularFile(path)) {
+      return;
+    }
+    try {
+      long start = System.nanoTime();
+      FoodCatalogSnapshot loaded = FoodCatalogSnapshot.read(path);
+      long read = System.nanoTime();
+      FoodCatalog snapshot = FoodCatalog.build(loaded.getItems(), generations.incrementAndGet());
+      fingerprint = loaded.getFingerprint();
+      current.compareAndSet(null, snapshot);
+      unverifiedSnapshot = true;
+      log.info("음식 검색 인덱스 스냅샷 로드 : {}건, {} bytes, 읽기 {}ms, 인덱스 {}ms", snapshot.size(),
+          Files.size(path), (read - start) / 1_000_000, (System.nanoTime() - read) / 1_000_000);
+    } catch (IOException | RuntimeException e) {
+      log.warn("음식 검색 인덱스 스냅샷을 읽지 못해 DB 에서 생성합니다 : {}", e.getMessage());
+    }
+  }
+
+  // 기동 시 배치가 돌지 않았거나 실패했다면 여기서 인덱스를 만든다
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    if (current.get() == null && !importing) {
+      reload();
+    } else if (unverifiedSnapshot && !importing) {
+      // 스냅샷으로 먼저 서비스하고, DB 와의 비교는 뒤에서
+      CompletableFuture.runAsync(this::verifySnapshot);
+    }
+  }
+
+  // import 시작 : 테이블이 바뀌기 전에 서비스할 세대를 확보해 두고, 이후 검색은 DB 를 보지 않는다
+  public void beginImport() {
+    if (current.get() == null) {
+      reload();
+    }
+    importing = true;
+  }
+
+  // import 종료 : 테이블이 바뀌었으면 새 세대를 만들어 교체, 실패했으면 기존 세대를 유지
+  public void endImport(boolean completed, boolean changed) {
+    try {
+      if (current.get() == null || (completed && changed)) {
+        reload();
+      } else if (completed) {
+        log.info("카탈로그 변경 없음, 음식 검색 인덱스 세대 {} 유지", current.get().getGeneration());
+      } else {
+        log.warn("배치 import 실패, 음식 검색 인덱스 세대 {} 유지", current.get().getGeneration());
+      }
+    } finally {
+      importing = false;
+    }
+  }
+
+  public boolean isImporting() {
+    return importing;
+  }
+
+  public synchronized void reload() {
+    long start = System.currentTimeMillis();
+    List<FoodCatalogItem> items = new ArrayList<>();
+    FoodCatalogFingerprint nextFingerprint = new FoodCatalogFingerprint();
+    agriculturalAndLivestockProductsRepository.findAll()
+        .forEach(agriculturalAndLivestockProducts -> {
+          items.add(new FoodCatalogItem(agriculturalAndLivestockProducts));
+          nextFingerprint.add(FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS,
+              agriculturalAndLivestockProducts.getId(),
+              agriculturalAndLivestockProducts.getRowHash());
+        });
+    aquaticProductsRepository.findAll()
+        .forEach(aquaticProducts -> {
+          items.add(new FoodCatalogItem(aquaticProducts));
+          nextFingerprint.add(FoodCategory.AQUATIC_PRODUCTS, aquaticProducts.getId(),
+              aquaticProducts.getRowHash());
+        });
+    foodRepository.findAll().forEach(food -> {
+      items.add(new FoodCatalogItem(food));
+      nextFingerprint.add(FoodCategory.FOOD, food.getId(), food.getRowHash());
+    });
+    processedFoodRepository.findAll()
+        .forEach(processedFood -> {
+          items.add(new FoodCatalogItem(processedFood));
+          nextFingerprint.add(FoodCategory.PROCESSED_FOOD, processedFood.getId(),
+              processedFood.getRowHash());
+        });
+
+    FoodCatalog next = FoodCatalog.build(items, generations.incrementAndGet());
+    fingerprint = nextFingerprint;
+    FoodCatalog previous = current.getAndSet(next);
+    unverifiedSnapshot = false;
+    log.info("음식 검색 인덱스 세대 교체 : {} -> {}, {}건, {}ms",
+        previous == null ? 0 : previous.getGeneration(), next.getGeneration(), next.size(),
+        System.currentTimeMillis() - start);
+    writeSnapshot(next, nextFingerprint);
+  }
+
+  // 스냅샷으로 띄운 세대를 DB 와 비교해 다르면 DB 에서 다시 만든다
+  public void verifySnapshot() {
+    FoodCatalog catalog = current.get();
+    if (catalog == null || !unverifiedSnapshot) {
+      return;
+    }
+    try {
+      if (matchesDatabase(catalog)) {
+        unverifiedSnapshot = false;
+        log.info("음식 검색 인덱스 스냅샷 DB 일치 확인 : 세대 {}", catalog.getGeneration());
+      } else {
+        reload();
+      }
+    } catch (RuntimeException e) {
+      log.error("음식 검색 인덱스 스냅샷 확인 실패 : {}", e.getMessage());
+    }
+  }
+
+  // 다른 노드가 import 한 결과를 따라간다 : import 가 끝난 뒤 DB 와 다르면 새 세대로 교체
+  @Scheduled(fixedDelayString = "${food.catalog.sync-interval-ms:60000}",
+      initialDelayString = "${food.catalog.sync-interval-ms:60000}")
+  public void syncWithDatabase() {
+    FoodCatalog catalog = current.get();
+    if (catalog == null || importing) {
+      return;
+    }
+    try {
+      if (clusterCoordinator.isRunning(CatalogImportJobRunner.LOCK_NAME)
+          || matchesDatabase(catalog)) {
+        return;
+      }
+      reload();
+    } catch (RuntimeException e) {
+      log.warn("음식 검색 인덱스 DB 동기화 확인 실패 : {}", e.getMessage());
+    }
+  }
+
+  // 세대를 만들 때의 fingerprint 를 DB 에서 다시 계산한 값과 카테고리별로 비교
+  // (delta import 는 바뀐 행을 같은 id 로 UPDATE 하므로 건수 / id 만으로는 드러나지 않는다)
+  private boolean matchesDatabase(FoodCatalog catalog) {
+    FoodCatalogFingerprint expected = fingerprint;
+    if (expected == null) {
+      return false;
+    }
+    for (FoodCategory category : FoodCategory.values()) {
+      FoodCatalogFingerprint actual = new FoodCatalogFingerprint();
+      jdbcTemplate.query("SELECT id, row_hash FROM " + category.getTable(),
+          (RowCallbackHandler) resultSet -> actual.add(category, resultSet.getLong(1),
+              resultSet.getString(2)));
+      if (!expected.matches(actual, category)) {
+        log.warn("음식 검색 인덱스가 DB 와 다릅니다 : {}, 세대 {}", category.getLabel(),
+            catalog.getGeneration());
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void writeSnapshot(FoodCatalog catalog, FoodCatalogFingerprint catalogFingerprint) {
+    Path path = snapshotPath();
+    if (path == null) {
+      return;
+    }
+    try {
+      FoodCatalogSnapshot.write(catalog, catalogFingerprint, path);
+    } catch (IOException e) {
+      log.warn("음식 검색 인덱스 스냅샷 저장 실패 : {}", e.getMessage());
+    }
+  }
+
+  private Path snapshotPath() {
+    return snapshotPath == null || snapshotPath.isBlank() ? null : Paths.get(snapshotPath);
+  }
+
+  // 현재 서비스 중인 세대, 인덱스가 아직 없으면 null
+  public FoodCatalog getCatalog() {
+    return current.get();
+  }
+}
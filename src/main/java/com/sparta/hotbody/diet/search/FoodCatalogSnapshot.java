@@ -0,0 +1,190 @@
+package com.sparta.hotbody.diet.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import lombok.Getter;
+
+/**
+ * 음식 카탈로그 바이너리 스냅샷.
+ *
+ * <pre>
+ * int   magic ("HBFC")
+ * int   version
+ * int   count
+ * int   카테고리 수
+ * long  카테고리별 FoodCatalogFingerprint (행 수, 해시 합) * 카테고리 수
+ * 레코드 * count
+ *   byte   category ordinal
+ *   long   id
+ *   string foodName, factory, oneTimeSupply, energy, protein, fat, carbohydrate, sugar
+ *          (int 바이트 길이 + UTF-8, null 은 길이 -1)
+ *   float  FoodNutrient 순서의 숫자 영양성분 (없으면 NaN)
+ * long  fingerprint + 레코드 영역 CRC32
+ * </pre>
+ *
+ * 읽을 때는 FileChannel.map 으로 파일을 힙 밖에 매핑하고 바로 디코딩하므로,
+ * 파일 내용을 힙 버퍼로 한 번 더 복사하지 않는다.
+ */
+@Getter
+public class FoodCatalogSnapshot {
+
+  private static final int MAGIC = 0x48424643;
+  // 2 : 세대를 만들 때의 DB fingerprint 추가
+  private static final int VERSION = 2;
+  private static final int HEADER_BYTES = Integer.BYTES * 3;
+
+  private final List<FoodCatalogItem> items;
+  // 스냅샷을 만든 세대가 읽은 DB 내용, 기동 후 DB 와 비교한다
+  private final FoodCatalogFingerprint fingerprint;
+
+  private FoodCatalogSnapshot(List<FoodCatalogItem> items, FoodCatalogFingerprint fingerprint) {
+    this.items = items;
+    this.fingerprint = fingerprint;
+  }
+
+  // 임시 파일에 쓴 뒤 이름을 바꿔서, 읽는 쪽이 쓰다 만 파일을 보지 않게 한다
+  public static void write(FoodCatalog catalog, FoodCatalogFingerprint fingerprint, Path path)
+      throws IOException {
+    ByteArrayOutputStream records = new ByteArrayOutputStream(catalog.size() * 128);
+    DataOutputStream out = new DataOutputStream(records);
+    FoodCategory[] categories = FoodCategory.values();
+    out.writeInt(categories.length);
+    for (FoodCategory category : categories) {
+      out.writeLong(fingerprint.count(category));
+      out.writeLong(fingerprint.sum(category));
+    }
+    FoodNutrient[] nutrients = FoodNutrient.values();
+    for (int doc = 0; doc < catalog.size(); doc++) {
+      FoodCatalogItem item = catalog.item(doc);
+      out.writeByte(item.getCategory().ordinal());
+      out.writeLong(item.getId() == null ? 0 : item.getId());
+      writeString(out, item.getFoodName());
+      writeString(out, item.getFactory());
+      writeString(out, item.getOneTimeSupply());
+      writeString(out, item.getEnergy());
+      writeString(out, item.getProtein());
+      writeString(out, item.getFat());
+      writeString(out, item.getCarbohydrate());
+      writeString(out, item.getSugar());
+      for (FoodNutrient nutrient : nutrients) {
+        out.writeFloat(item.getNutrient(nutrient));
+      }
+    }
+    out.flush();
+    byte[] body = records.toByteArray();
+    CRC32 crc = new CRC32();
+    crc.update(body);
+
+    ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    header.putInt(MAGIC).putInt(VERSION).putInt(catalog.size()).flip();
+    ByteBuffer footer = ByteBuffer.allocate(Long.BYTES);
+    footer.putLong(crc.getValue()).flip();
+
+    Path parent = path.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temp = Files.createTempFile(parent, "food-catalog", ".tmp");
+    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+      ByteBuffer[] buffers = {header, ByteBuffer.wrap(body), footer};
+      while (footer.hasRemaining()) {
+        channel.write(buffers);
+      }
+      channel.force(true);
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  public static FoodCatalogSnapshot read(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size < HEADER_BYTES + Long.BYTES || size > Integer.MAX_VALUE) {
+        throw new IOException("잘못된 음식 카탈로그 스냅샷 크기 : " + size);
+      }
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IOException("지원하지 않는 음식 카탈로그 스냅샷 형식");
+      }
+      int count = buffer.getInt();
+
+      // 레코드 영역 무결성 확인 (매핑된 버퍼를 그대로 넘겨 복사 없이 계산)
+      CRC32 crc = new CRC32();
+      ByteBuffer body = buffer.duplicate();
+      body.limit((int) size - Long.BYTES);
+      crc.update(body);
+      if (crc.getValue() != buffer.getLong((int) size - Long.BYTES)) {
+        throw new IOException("음식 카탈로그 스냅샷 checksum 불일치");
+      }
+
+      FoodCategory[] categories = FoodCategory.values();
+      int nutrientCount = FoodNutrient.values().length;
+      List<FoodCatalogItem> items = new ArrayList<>(count);
+      FoodCatalogFingerprint fingerprint;
+      try {
+        if (buffer.getInt() != categories.length) {
+          throw new IOException("음식 카탈로그 스냅샷의 카테고리 수가 다릅니다");
+        }
+        long[] counts = new long[categories.length];
+        long[] sums = new long[categories.length];
+        for (int c = 0; c < categories.length; c++) {
+          counts[c] = buffer.getLong();
+          sums[c] = buffer.getLong();
+        }
+        fingerprint = FoodCatalogFingerprint.of(counts, sums);
+        for (int i = 0; i < count; i++) {
+          FoodCategory category = categories[buffer.get()];
+          long id = buffer.getLong();
+          String foodName = readString(buffer);
+          String factory = readString(buffer);
+          String oneTimeSupply = readString(buffer);
+          String energy = readString(buffer);
+          String protein = readString(buffer);
+          String fat = readString(buffer);
+          String carbohydrate = readString(buffer);
+          String sugar = readString(buffer);
+          float[] nutrients = new float[nutrientCount];
+          for (int n = 0; n < nutrientCount; n++) {
+            nutrients[n] = buffer.getFloat();
+          }
+          items.add(new FoodCatalogItem(category, id, foodName, factory, oneTimeSupply, energy,
+              protein, fat, carbohydrate, sugar, nutrients));
+        }
+      } catch (RuntimeException e) {
+        throw new IOException("음식 카탈로그 스냅샷을 읽을 수 없습니다", e);
+      }
+      return new FoodCatalogSnapshot(items, fingerprint);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
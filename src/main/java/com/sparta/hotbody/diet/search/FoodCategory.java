@@ -0,0 +1,34 @@
+package com.sparta.hotbody.diet.search;
+
+import lombok.Getter;
+
+@Getter
+public enum FoodCategory {
+  // 순서 번호가 스냅샷 파일과 fingerprint 에 쓰이므로 새 카테고리는 끝에만 추가 (food_of_diet 에는 이름으로 저장)
+  AGRICULTURAL_AND_LIVESTOCK_PRODUCTS("농축산물", "agricultural_and_livestock_products"),
+  AQUATIC_PRODUCTS("수산물", "aquatic_products"),
+  FOOD("음식", "food"),
+  PROCESSED_FOOD("가공식품", "processed_food");
+
+  // 4개 카테고리 통합 검색을 요청할 때 쓰는 foodType
+  public static final String ALL_LABEL = "전체";
+
+  private final String label;
+  // 카탈로그 테이블 이름 (스냅샷과 DB 비교용)
+  private final String table;
+
+  FoodCategory(String label, String table) {
+    this.label = label;
+    this.table = table;
+  }
+
+  // 프론트에서 넘어오는 foodType(한글)을 카테고리로 변환, 없으면 null
+  public static FoodCategory fromLabel(String label) {
+    for (FoodCategory category : values()) {
+      if (category.label.equals(label)) {
+        return category;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,195 @@
+package com.sparta.hotbody.diet.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오타 허용 검색용 BK-tree.
+ * 음식 이름 전체와 이름을 쉼표 / 공백 / 괄호로 나눈 단어를 자모로 풀어 키로 쓰고,
+ * 자모 단위 편집 거리(Levenshtein)로 가까운 키를 찾는다.
+ */
+public class FoodFuzzyIndex {
+
+  static final String TOKEN_DELIMITER = "[,\\s()\\[\\]/]+";
+
+  // 노드 번호 -> 자모 키, 그 키를 가진 문서 번호들
+  private final String[] keys;
+  private final int[][] docs;
+  // 자식은 firstChild 부터 nextSibling 으로 이어지고, edge 는 부모와의 거리
+  private final int[] firstChild;
+  private final int[] nextSibling;
+  private final int[] edge;
+  private final int maxKeyLength;
+
+  private FoodFuzzyIndex(String[] keys, int[][] docs, int[] firstChild, int[] nextSibling,
+      int[] edge, int maxKeyLength) {
+    this.keys = keys;
+    this.docs = docs;
+    this.firstChild = firstChild;
+    this.nextSibling = nextSibling;
+    this.edge = edge;
+    this.maxKeyLength = maxKeyLength;
+  }
+
+  public static FoodFuzzyIndex build(FoodCatalogItem[] items) {
+    Map<String, List<Integer>> keyDocs = new LinkedHashMap<>();
+    for (int doc = 0; doc < items.length; doc++) {
+      String name = items[doc].getFoodName();
+      if (name == null || name.isBlank()) {
+        continue;
+      }
+      addKey(keyDocs, HangulUtils.toJamo(name), doc);
+      for (String token : name.split(TOKEN_DELIMITER)) {
+        addKey(keyDocs, HangulUtils.toJamo(token), doc);
+      }
+    }
+
+    int size = keyDocs.size();
+    String[] keys = new String[size];
+    int[][] docs = new int[size][];
+    int[] firstChild = new int[size];
+    int[] nextSibling = new int[size];
+    int[] edge = new int[size];
+    Arrays.fill(firstChild, -1);
+    Arrays.fill(nextSibling, -1);
+
+    int maxKeyLength = 0;
+    int[] row = new int[1];
+    int[] previous = new int[1];
+    int node = 0;
+    for (Map.Entry<String, List<Integer>> entry : keyDocs.entrySet()) {
+      keys[node] = entry.getKey();
+      docs[node] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+      maxKeyLength = Math.max(maxKeyLength, keys[node].length());
+      if (row.length <= maxKeyLength) {
+        row = new int[maxKeyLength + 1];
+        previous = new int[maxKeyLength + 1];
+      }
+      if (node > 0) {
+        insert(keys, firstChild, nextSibling, edge, node, row, previous);
+      }
+      node++;
+    }
+    return new FoodFuzzyIndex(keys, docs, firstChild, nextSibling, edge, maxKeyLength);
+  }
+
+  /**
+   * 검색어와의 편집 거리가 허용 거리 이하인 문서를 문서 번호 from ~ to 구간에서 찾는다.
+   * 허용 거리는 maxDistance 와 검색어 자모 길이에 따른 상한 중 작은 값이다.
+   * 결과는 문서마다 하나씩 (최소 거리 << 32 | 문서 번호) 를 문서 번호 순으로 담는다.
+   */
+  public long[] search(String word, int maxDistance, int from, int to) {
+    String query = HangulUtils.toJamo(word);
+    int limit = Math.min(maxDistance, distanceLimit(query.length()));
+    if (keys.length == 0 || query.isEmpty() || limit < 0) {
+      return new long[0];
+    }
+
+    // 후보는 (문서 번호 << 32 | 거리) 로 모았다가 정렬해 문서별 최소 거리만 남긴다
+    long[] found = new long[16];
+    int count = 0;
+    int bufferLength = Math.max(query.length(), maxKeyLength) + 1;
+    int[] row = new int[bufferLength];
+    int[] previous = new int[bufferLength];
+    Deque<Integer> stack = new ArrayDeque<>();
+    stack.push(0);
+    while (!stack.isEmpty()) {
+      int node = stack.pop();
+      int distance = distance(query, keys[node], row, previous);
+      if (distance <= limit) {
+        for (int doc : docs[node]) {
+          if (doc >= from && doc < to) {
+            if (count == found.length) {
+              found = Arrays.copyOf(found, count * 2);
+            }
+            found[count++] = ((long) doc << 32) | distance;
+          }
+        }
+      }
+      // 삼각 부등식: |d - edge| <= limit 인 자식만 내려간다
+      for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+        if (Math.abs(edge[child] - distance) <= limit) {
+          stack.push(child);
+        }
+      }
+    }
+
+    Arrays.sort(found, 0, count);
+    long[] result = new long[count];
+    int size = 0;
+    int lastDoc = -1;
+    for (int i = 0; i < count; i++) {
+      int doc = (int) (found[i] >>> 32);
+      if (doc != lastDoc) {
+        result[size++] = ((found[i] & 0xFFFFFFFFL) << 32) | doc;
+        lastDoc = doc;
+      }
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  // 짧은 검색어는 자모 한두 개만 바뀌어도 다른 음식이 되므로 길이에 따라 허용 거리를 줄인다
+  static int distanceLimit(int queryLength) {
+    if (queryLength < 3) {
+      return 0;
+    }
+    if (queryLength < 6) {
+      return 1;
+    }
+    return Integer.MAX_VALUE;
+  }
+
+  private static void addKey(Map<String, List<Integer>> keyDocs, String key, int doc) {
+    if (key.isEmpty()) {
+      return;
+    }
+    List<Integer> docs = keyDocs.computeIfAbsent(key, k -> new ArrayList<>());
+    if (docs.isEmpty() || docs.get(docs.size() - 1) != doc) {
+      docs.add(doc);
+    }
+  }
+
+  private static void insert(String[] keys, int[] firstChild, int[] nextSibling, int[] edge,
+      int node, int[] row, int[] previous) {
+    int parent = 0;
+    while (true) {
+      int distance = distance(keys[node], keys[parent], row, previous);
+      int child = firstChild[parent];
+      while (child >= 0 && edge[child] != distance) {
+        child = nextSibling[child];
+      }
+      if (child < 0) {
+        edge[node] = distance;
+        nextSibling[node] = firstChild[parent];
+        firstChild[parent] = node;
+        return;
+      }
+      parent = child;
+    }
+  }
+
+  // 두 줄짜리 DP 배열을 재사용하는 Levenshtein 거리 (버퍼는 두 문자열보다 길어야 한다)
+  static int distance(String source, String target, int[] row, int[] previous) {
+    int targetLength = target.length();
+    for (int j = 0; j <= targetLength; j++) {
+      previous[j] = j;
+    }
+    for (int i = 1; i <= source.length(); i++) {
+      row[0] = i;
+      char c = source.charAt(i - 1);
+      for (int j = 1; j <= targetLength; j++) {
+        int cost = c == target.charAt(j - 1) ? 0 : 1;
+        row[j] = Math.min(Math.min(row[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+      }
+      int[] swap = previous;
+      previous = row;
+      row = swap;
+    }
+    return previous[targetLength];
+  }
+}
@@ -0,0 +1,29 @@
+package com.sparta.hotbody.diet.search;
+
+import lombok.Getter;
+
+@Getter
+public enum FoodNutrient {
+  ENERGY("energy"),
+  PROTEIN("protein"),
+  FAT("fat"),
+  CARBOHYDRATE("carbohydrate"),
+  SUGAR("sugar");
+
+  // 요청 파라미터, 응답 필드에서 쓰는 이름
+  private final String fieldName;
+
+  FoodNutrient(String fieldName) {
+    this.fieldName = fieldName;
+  }
+
+  // 필드 이름으로 영양성분을 찾고, 없으면 null
+  public static FoodNutrient fromFieldName(String fieldName) {
+    for (FoodNutrient nutrient : values()) {
+      if (nutrient.fieldName.equalsIgnoreCase(fieldName)) {
+        return nutrient;
+      }
+    }
+    return null;
+  }
+}
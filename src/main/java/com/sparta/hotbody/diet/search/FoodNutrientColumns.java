@@ -0,0 +1,35 @@
+package com.sparta.hotbody.diet.search;
+
+/**
+ * 카탈로그의 숫자 영양성분을 영양성분별 float 배열로 들고 있는 컬럼 저장소.
+ * 모든 배열은 FoodCatalog 의 문서 번호를 인덱스로 공유하고, 정보가 없는 값은 NaN 이다.
+ */
+public class FoodNutrientColumns {
+
+  // [FoodNutrient.ordinal()][문서 번호]
+  private final float[][] columns;
+  private final int size;
+
+  private FoodNutrientColumns(float[][] columns, int size) {
+    this.columns = columns;
+    this.size = size;
+  }
+
+  public static FoodNutrientColumns build(FoodCatalogItem[] items) {
+    float[][] columns = new float[FoodNutrient.values().length][items.length];
+    for (int doc = 0; doc < items.length; doc++) {
+      for (FoodNutrient nutrient : FoodNutrient.values()) {
+        columns[nutrient.ordinal()][doc] = items[doc].getNutrient(nutrient);
+      }
+    }
+    return new FoodNutrientColumns(columns, items.length);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public float value(FoodNutrient nutrient, int doc) {
+    return columns[nutrient.ordinal()][doc];
+  }
+}
@@ -0,0 +1,68 @@
+package com.sparta.hotbody.diet.search;
+
+import java.util.Arrays;
+
+// 영양성분 범위 조건 + 정렬 기준 (조건이 없는 값은 NaN)
+public class FoodNutrientFilter {
+
+  private final float[] min;
+  private final float[] max;
+  private final FoodNutrient sortBy;
+  private final boolean asc;
+
+  public FoodNutrientFilter(float[] min, float[] max, FoodNutrient sortBy, boolean asc) {
+    this.min = Arrays.copyOf(min, FoodNutrient.values().length);
+    this.max = Arrays.copyOf(max, FoodNutrient.values().length);
+    this.sortBy = sortBy;
+    this.asc = asc;
+  }
+
+  public float getMin(FoodNutrient nutrient) {
+    return min[nutrient.ordinal()];
+  }
+
+  public float getMax(FoodNutrient nutrient) {
+    return max[nutrient.ordinal()];
+  }
+
+  public FoodNutrient getSortBy() {
+    return sortBy;
+  }
+
+  public boolean isAsc() {
+    return asc;
+  }
+
+  public boolean hasRange(FoodNutrient nutrient) {
+    return !Float.isNaN(min[nutrient.ordinal()]) || !Float.isNaN(max[nutrient.ordinal()]);
+  }
+
+  public boolean hasRange() {
+    for (FoodNutrient nutrient : FoodNutrient.values()) {
+      if (hasRange(nutrient)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public boolean isEmpty() {
+    return sortBy == null && !hasRange();
+  }
+
+  // 조건이 걸린 영양성분은 값이 있어야 하고 범위 안이어야 한다
+  public boolean matches(FoodNutrientColumns columns, int doc) {
+    for (FoodNutrient nutrient : FoodNutrient.values()) {
+      if (!hasRange(nutrient)) {
+        continue;
+      }
+      float value = columns.value(nutrient, doc);
+      if (Float.isNaN(value)
+          || (!Float.isNaN(getMin(nutrient)) && value < getMin(nutrient))
+          || (!Float.isNaN(getMax(nutrient)) && value > getMax(nutrient))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
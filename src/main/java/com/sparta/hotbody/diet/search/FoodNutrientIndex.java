@@ -0,0 +1,181 @@
+package com.sparta.hotbody.diet.search;
+
+import java.util.Arrays;
+
+/**
+ * 영양성분별로 값 오름차순 정렬한 문서 번호 배열.
+ * 범위 조건은 이분 탐색 두 번으로 구간을 찾고, 정렬 조회는 이 순서를 그대로 따라간다.
+ * 전체 순서와 별도로 카테고리 구간마다 정렬한 순서도 들고 있어, 카테고리 검색이 다른 카테고리를
+ * 건너뛰며 읽지 않는다. 값이 없는(NaN) 문서는 정렬 순서에 넣지 않고 따로 모아 둔다.
+ */
+public class FoodNutrientIndex {
+
+  // [FoodNutrient.ordinal()][순위] -> 문서 번호 / 값 (전체)
+  private final int[][] sortedDocs;
+  private final float[][] sortedValues;
+  // [FoodNutrient.ordinal()][순위] -> 문서 번호 / 값 (카테고리 순으로 묶고 카테고리 안에서 값 순서)
+  private final int[][] categorySortedDocs;
+  private final float[][] categorySortedValues;
+  // [FoodNutrient.ordinal()][카테고리 ordinal] -> 카테고리 구간의 시작 순위 (마지막은 끝)
+  private final int[][] categoryRankStart;
+  // [FoodNutrient.ordinal()] -> 값이 없는 문서 번호 (오름차순)
+  private final int[][] missingDocs;
+
+  private FoodNutrientIndex(int[][] sortedDocs, float[][] sortedValues,
+      int[][] categorySortedDocs, float[][] categorySortedValues, int[][] categoryRankStart,
+      int[][] missingDocs) {
+    this.sortedDocs = sortedDocs;
+    this.sortedValues = sortedValues;
+    this.categorySortedDocs = categorySortedDocs;
+    this.categorySortedValues = categorySortedValues;
+    this.categoryRankStart = categoryRankStart;
+    this.missingDocs = missingDocs;
+  }
+
+  // categoryStart : FoodCatalog 의 카테고리별 문서 번호 시작 위치
+  public static FoodNutrientIndex build(FoodNutrientColumns columns, int[] categoryStart) {
+    int nutrientCount = FoodNutrient.values().length;
+    int categoryCount = categoryStart.length - 1;
+    int[][] sortedDocs = new int[nutrientCount][];
+    float[][] sortedValues = new float[nutrientCount][];
+    int[][] categorySortedDocs = new int[nutrientCount][];
+    float[][] categorySortedValues = new float[nutrientCount][];
+    int[][] categoryRankStart = new int[nutrientCount][categoryCount + 1];
+    int[][] missingDocs = new int[nutrientCount][];
+
+    for (FoodNutrient nutrient : FoodNutrient.values()) {
+      int n = nutrient.ordinal();
+      long[] keys = sortedKeys(columns, nutrient, 0, columns.size());
+      sortedDocs[n] = docsOf(keys);
+      sortedValues[n] = valuesOf(columns, nutrient, sortedDocs[n]);
+
+      long[] categoryKeys = new long[keys.length];
+      int count = 0;
+      for (int c = 0; c < categoryCount; c++) {
+        categoryRankStart[n][c] = count;
+        long[] slice = sortedKeys(columns, nutrient, categoryStart[c], categoryStart[c + 1]);
+        System.arraycopy(slice, 0, categoryKeys, count, slice.length);
+        count += slice.length;
+      }
+      categoryRankStart[n][categoryCount] = count;
+      categorySortedDocs[n] = docsOf(categoryKeys);
+      categorySortedValues[n] = valuesOf(columns, nutrient, categorySortedDocs[n]);
+
+      int[] missing = new int[columns.size() - keys.length];
+      int m = 0;
+      for (int doc = 0; doc < columns.size(); doc++) {
+        if (Float.isNaN(columns.value(nutrient, doc))) {
+          missing[m++] = doc;
+        }
+      }
+      missingDocs[n] = missing;
+    }
+    return new FoodNutrientIndex(sortedDocs, sortedValues, categorySortedDocs,
+        categorySortedValues, categoryRankStart, missingDocs);
+  }
+
+  // category 가 null 이면 전체 순서, 아니면 카테고리별 순서 (순위는 start ~ end 구간)
+  public int[] sortedDocs(FoodNutrient nutrient, FoodCategory category) {
+    return category == null ? sortedDocs[nutrient.ordinal()]
+        : categorySortedDocs[nutrient.ordinal()];
+  }
+
+  public int start(FoodNutrient nutrient, FoodCategory category) {
+    return category == null ? 0 : categoryRankStart[nutrient.ordinal()][category.ordinal()];
+  }
+
+  public int end(FoodNutrient nutrient, FoodCategory category) {
+    return category == null ? sortedDocs[nutrient.ordinal()].length
+        : categoryRankStart[nutrient.ordinal()][category.ordinal() + 1];
+  }
+
+  // 값이 없는 문서 번호, 오름차순
+  public int[] missingDocs(FoodNutrient nutrient) {
+    return missingDocs[nutrient.ordinal()];
+  }
+
+  // start ~ end 구간에서 min 이상인 첫 순위 (min 이 NaN 이면 start)
+  public int lowerBound(FoodNutrient nutrient, FoodCategory category, float min) {
+    int low = start(nutrient, category);
+    if (Float.isNaN(min)) {
+      return low;
+    }
+    float[] values = values(nutrient, category);
+    int high = end(nutrient, category);
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] < min) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  // start ~ end 구간에서 max 보다 큰 첫 순위 (max 가 NaN 이면 end)
+  public int upperBound(FoodNutrient nutrient, FoodCategory category, float max) {
+    int high = end(nutrient, category);
+    if (Float.isNaN(max)) {
+      return high;
+    }
+    float[] values = values(nutrient, category);
+    int low = start(nutrient, category);
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] <= max) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private float[] values(FoodNutrient nutrient, FoodCategory category) {
+    return category == null ? sortedValues[nutrient.ordinal()]
+        : categorySortedValues[nutrient.ordinal()];
+  }
+
+  // (정렬 가능한 float 비트 << 32 | 문서 번호) 로 묶어 long 정렬 한 번으로 처리
+  static long sortKey(float value, int doc) {
+    return ((long) sortableBits(value) << 32) | doc;
+  }
+
+  private static long[] sortedKeys(FoodNutrientColumns columns, FoodNutrient nutrient, int from,
+      int to) {
+    long[] keys = new long[to - from];
+    int count = 0;
+    for (int doc = from; doc < to; doc++) {
+      float value = columns.value(nutrient, doc);
+      if (!Float.isNaN(value)) {
+        keys[count++] = sortKey(value, doc);
+      }
+    }
+    Arrays.sort(keys, 0, count);
+    return Arrays.copyOf(keys, count);
+  }
+
+  private static int[] docsOf(long[] keys) {
+    int[] docs = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      docs[i] = (int) keys[i];
+    }
+    return docs;
+  }
+
+  private static float[] valuesOf(FoodNutrientColumns columns, FoodNutrient nutrient,
+      int[] docs) {
+    float[] values = new float[docs.length];
+    for (int i = 0; i < docs.length; i++) {
+      values[i] = columns.value(nutrient, docs[i]);
+    }
+    return values;
+  }
+
+  // 음수는 하위 31비트를 뒤집어 int 비교 순서가 float 값 순서와 같아지도록 한다
+  private static int sortableBits(float value) {
+    int bits = Float.floatToIntBits(value);
+    return bits ^ ((bits >> 31) & 0x7fffffff);
+  }
+}
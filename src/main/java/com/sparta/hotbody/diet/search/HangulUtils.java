@@ -0,0 +1,115 @@
+package com.sparta.hotbody.diet.search;
+
+import java.util.Locale;
+
+// 한글 음절을 자모 / 초성으로 분해하는 유틸
+public class HangulUtils {
+
+  private static final char SYLLABLE_BEGIN = 0xAC00; // '가'
+  private static final char SYLLABLE_END = 0xD7A3; // '힣'
+  private static final char COMPAT_JAMO_BEGIN = 0x3131; // 'ㄱ'
+  private static final char COMPAT_JAMO_END = 0x3163; // 'ㅣ'
+  private static final char COMPAT_CONSONANT_END = 0x314E; // 'ㅎ'
+
+  private static final String[] CHOSUNG = {
+      "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 겹모음은 입력 순서대로 풀어서 저장 (ㅘ -> ㅗㅏ)
+  private static final String[] JUNGSUNG = {
+      "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+      "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+  };
+
+  // 겹받침도 입력 순서대로 풀어서 저장 (ㄺ -> ㄹㄱ)
+  private static final String[] JONGSUNG = {
+      "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+      "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+      "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+  };
+
+  // 호환용 자모(ㄱ~ㅣ) 한 글자를 풀어쓴 값, 홑자모는 자기 자신
+  private static final String[] COMPAT_JAMO = new String[COMPAT_JAMO_END - COMPAT_JAMO_BEGIN + 1];
+
+  static {
+    for (int i = 0; i < COMPAT_JAMO.length; i++) {
+      COMPAT_JAMO[i] = String.valueOf((char) (COMPAT_JAMO_BEGIN + i));
+    }
+    String[][] compounds = {
+        {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"},
+        {"ㄼ", "ㄹㅂ"}, {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"},
+        {"ㅄ", "ㅂㅅ"}, {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"},
+        {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+    };
+    for (String[] compound : compounds) {
+      COMPAT_JAMO[compound[0].charAt(0) - COMPAT_JAMO_BEGIN] = compound[1];
+    }
+  }
+
+  private HangulUtils() {
+  }
+
+  // "닭갈비" -> "ㄷㅏㄹㄱㄱㅏㄹㅂㅣ", 공백은 제거하고 영문은 소문자로
+  public static String toJamo(String value) {
+    if (value == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(value.length() * 3);
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (isSyllable(c)) {
+        int code = c - SYLLABLE_BEGIN;
+        sb.append(CHOSUNG[code / (21 * 28)])
+            .append(JUNGSUNG[(code % (21 * 28)) / 28])
+            .append(JONGSUNG[code % 28]);
+      } else if (isCompatJamo(c)) {
+        sb.append(COMPAT_JAMO[c - COMPAT_JAMO_BEGIN]);
+      } else if (!Character.isWhitespace(c)) {
+        sb.append(c);
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  // "닭갈비" -> "ㄷㄱㅂ", 공백은 제거하고 한글이 아닌 글자는 그대로 둔다
+  public static String toChosung(String value) {
+    if (value == null) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (isSyllable(c)) {
+        sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / (21 * 28)]);
+      } else if (!Character.isWhitespace(c)) {
+        sb.append(c);
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  // 공백을 뺀 모든 글자가 자음(ㄱ~ㅎ)인 경우 초성 검색으로 본다
+  public static boolean isChosungQuery(String value) {
+    boolean hasConsonant = false;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (Character.isWhitespace(c)) {
+        continue;
+      }
+      if (c < COMPAT_JAMO_BEGIN || c > COMPAT_CONSONANT_END) {
+        return false;
+      }
+      hasConsonant = true;
+    }
+    return hasConsonant;
+  }
+
+  private static boolean isSyllable(char c) {
+    return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+  }
+
+  private static boolean isCompatJamo(char c) {
+    return c >= COMPAT_JAMO_BEGIN && c <= COMPAT_JAMO_END;
+  }
+}
@@ -1,6 +1,12 @@
 package com.sparta.hotbody.diet.service;
 
+import com.sparta.hotbody.diet.dto.DailyNutritionResponseDto;
+import com.sparta.hotbody.diet.dto.DietResponseDto;
+import com.sparta.hotbody.diet.dto.FoodNutrientFilterRequestDto;
+import com.sparta.hotbody.diet.dto.FoodOfDietBulkResponseDto;
 import com.sparta.hotbody.diet.dto.FoodOfDietRequestDto;
+import com.sparta.hotbody.diet.dto.QuickFoodResponseDto;
+import com.sparta.hotbody.diet.entity.MealSlot;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -8,11 +14,31 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 public interface DietService {
 
-  Page searchFood(String FoodTyp0e, String searchWord, int page);
+  Page searchFood(String FoodTyp0e, String searchWord, int page,
+      FoodNutrientFilterRequestDto foodNutrientFilterRequestDto);
 
-  Long saveDiet(UserDetails userDetails, String time);
+  Page fuzzySearchFood(String foodType, String searchWord, Integer distance, int page);
+
+  List<String> autocompleteFood(String keyword, int size);
+
+  List<QuickFoodResponseDto> readQuickFoods(String sort, int size, UserDetails userDetails);
+
+  Long saveDiet(UserDetails userDetails, String time, MealSlot mealSlot);
 
   ResponseEntity<List> readDiet(String time, UserDetails userDetails);
 
-  ResponseEntity<String> saveFood(List<FoodOfDietRequestDto> foodOfDietRequestDto, Long id);
+  List<DietResponseDto> readDiets(String from, String to, UserDetails userDetails);
+
+  ResponseEntity<String> saveFood(List<FoodOfDietRequestDto> foodOfDietRequestDto, Long id,
+      UserDetails userDetails);
+
+  FoodOfDietBulkResponseDto saveFoods(List<FoodOfDietRequestDto> foodOfDietRequestDto, Long id,
+      UserDetails userDetails);
+
+  ResponseEntity<String> deleteFood(Long foodOfDietId, UserDetails userDetails);
+
+  DailyNutritionResponseDto readDailyNutrition(String time, UserDetails userDetails);
+
+  List<DailyNutritionResponseDto> readDailyNutritions(String from, String to,
+      UserDetails userDetails);
 }
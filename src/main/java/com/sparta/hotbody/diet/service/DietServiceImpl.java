@@ -8,19 +8,44 @@ import com.sparta.hotbody.common.batch.food.Food;
 import com.sparta.hotbody.common.batch.food.FoodRepository;
 import com.sparta.hotbody.common.batch.processedfood.ProcessedFood;
 import com.sparta.hotbody.common.batch.processedfood.ProcessedFoodRepository;
+import com.sparta.hotbody.diet.dto.DailyNutritionResponseDto;
+import com.sparta.hotbody.diet.dto.DietResponseDto;
+import com.sparta.hotbody.diet.dto.FoodNutrientFilterRequestDto;
+import com.sparta.hotbody.diet.dto.FoodOfDietBulkResponseDto;
 import com.sparta.hotbody.diet.dto.FoodOfDietResponseDto;
 import com.sparta.hotbody.diet.dto.FoodOfDietRequestDto;
 import com.sparta.hotbody.diet.dto.FoodResponseDto;
+import com.sparta.hotbody.diet.dto.QuickFoodResponseDto;
+import com.sparta.hotbody.diet.entity.DailyNutrition;
 import com.sparta.hotbody.diet.entity.Diet;
 import com.sparta.hotbody.diet.entity.FoodOfDiet;
+import com.sparta.hotbody.diet.entity.MealSlot;
+import com.sparta.hotbody.diet.entity.NutritionTotal;
+import com.sparta.hotbody.diet.quick.QuickFood;
+import com.sparta.hotbody.diet.quick.QuickFoodCache;
+import com.sparta.hotbody.diet.repository.DailyNutritionRepository;
 import com.sparta.hotbody.diet.repository.DietRepository;
+import com.sparta.hotbody.diet.repository.FoodOfDietJdbcRepository;
 import com.sparta.hotbody.diet.repository.FoodOfDietRepository;
+import com.sparta.hotbody.diet.repository.NutritionTotalJdbcRepository;
+import com.sparta.hotbody.diet.search.FoodCatalog;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import com.sparta.hotbody.diet.search.FoodCatalogManager;
+import com.sparta.hotbody.diet.search.FoodCategory;
+import com.sparta.hotbody.diet.search.FoodNutrientFilter;
 import com.sparta.hotbody.exception.CustomException;
 import com.sparta.hotbody.exception.ExceptionStatus;
 import com.sparta.hotbody.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +56,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -42,13 +69,48 @@ public class DietServiceImpl implements DietService {
   private final ProcessedFoodRepository processedFoodRepository;
   private final DietRepository dietRepository;
   private final FoodOfDietRepository foodOfDietRepository;
+  private final FoodOfDietJdbcRepository foodOfDietJdbcRepository;
+  private final NutritionTotalJdbcRepository nutritionTotalJdbcRepository;
+  private final DailyNutritionRepository dailyNutritionRepository;
+  private final QuickFoodCache quickFoodCache;
   private final UserRepository userRepository;
+  private final FoodCatalogManager foodCatalogManager;
+
+  @Value("${food.search.fuzzy.max-distance:2}")
+  private int fuzzyMaxDistance;
+
+  // 식단 기간 조회에서 한 번에 읽을 수 있는 최대 일수
+  @Value("${diet.range.max-days:93}")
+  private int maxDietRangeDays;
+
+  // 카탈로그 참조로 담을 때 허용하는 최대 1회 제공량 배수
+  @Value("${diet.food.max-portion:100}")
+  private float maxPortion;
 
   @Override
-  public Page<FoodResponseDto> searchFood(String FoodType, String searchWord, int page) {
+  public Page<FoodResponseDto> searchFood(String FoodType, String searchWord, int page,
+      FoodNutrientFilterRequestDto foodNutrientFilterRequestDto) {
     Sort sort = Sort.by(Direction.DESC, "id");
     Pageable pageable = PageRequest.of(page - 1, 10, sort);
 
+    // 메모리 검색 인덱스가 준비되어 있으면 DB 조회 없이 응답
+    FoodCatalog catalog = foodCatalogManager.getCatalog();
+    FoodCategory category = FoodCategory.fromLabel(FoodType);
+    FoodNutrientFilter filter = foodNutrientFilterRequestDto == null
+        ? null : foodNutrientFilterRequestDto.toFilter();
+    boolean searchAll = FoodCategory.ALL_LABEL.equals(FoodType);
+    if (catalog != null && searchAll) {
+      return catalog.searchAll(searchWord, filter, pageable);
+    }
+    if (catalog != null && category != null) {
+      return catalog.search(category, searchWord, filter, pageable);
+    }
+    // 통합 검색과 영양성분 조건은 인덱스로만 처리하고, import 중에는 적재 중인 테이블을 조회하지 않는다
+    if (searchAll || (filter != null && !filter.isEmpty())
+        || foodCatalogManager.isImporting()) {
+      throw new CustomException(ExceptionStatus.FOOD_CATALOG_IS_NOT_READY);
+    }
+
     switch (FoodType) {
       case ("농축산물"):
         Page<AgriculturalAndLivestockProducts> agr
@@ -86,39 +148,266 @@ public class DietServiceImpl implements DietService {
     }
     return null;
   }
-  @Transactional
+
   @Override
-  public Long saveDiet(UserDetails userDetails, String time) {
+  public Page<FoodResponseDto> fuzzySearchFood(String foodType, String searchWord,
+      Integer distance, int page) {
+    FoodCatalog catalog = foodCatalogManager.getCatalog();
+    if (catalog == null) {
+      throw new CustomException(ExceptionStatus.FOOD_CATALOG_IS_NOT_READY);
+    }
+    // 허용 거리는 설정값을 넘을 수 없다 (거리가 커질수록 탐색 범위가 급격히 늘어남)
+    int maxDistance = distance == null
+        ? fuzzyMaxDistance : Math.max(0, Math.min(distance, fuzzyMaxDistance));
+    Pageable pageable = PageRequest.of(page - 1, 10);
+    return catalog.fuzzySearch(FoodCategory.fromLabel(foodType), searchWord, maxDistance,
+        pageable);
+  }
+
+  @Override
+  public List<String> autocompleteFood(String keyword, int size) {
+    FoodCatalog catalog = foodCatalogManager.getCatalog();
+    if (catalog == null) {
+      return new ArrayList<>();
+    }
+    return catalog.autocomplete(keyword, size);
+  }
+
+  // 같은 끼니를 동시에 만들면 한쪽 INSERT 가 uk_diet_user_date_slot 에 걸린다.
+  // 바깥 트랜잭션 없이 save 를 자체 트랜잭션으로 실행해, 실패한 쪽은 그 INSERT 만 롤백하고 먼저 만든 식단을 다시 읽는다.
+  @Override
+  public Long saveDiet(UserDetails userDetails, String time, MealSlot mealSlot) {
     Long id = userRepository.findByUsername(userDetails.getUsername()).get().getId();
-    if (dietRepository.findByUserIdAndTime(id, time).isPresent()) {
-      return dietRepository.findByUserIdAndTime(id, time).get().getId();
+    LocalDate dietDate = parseDate(time);
+    Optional<Diet> diet = dietRepository.findByUserIdAndDietDateAndMealSlot(id, dietDate,
+        mealSlot);
+    if (diet.isPresent()) {
+      return diet.get().getId();
+    }
+    try {
+      return dietRepository.save(new Diet(id, dietDate, mealSlot)).getId();
+    } catch (DataIntegrityViolationException e) {
+      return dietRepository.findByUserIdAndDietDateAndMealSlot(id, dietDate, mealSlot)
+          .orElseThrow(() -> e)
+          .getId();
     }
-    return dietRepository.save(new Diet(id, time)).getId();
   }
 
+  // 그 날의 모든 끼니 음식을 fetch join 한 번으로 읽는다
+  @Transactional(readOnly = true)
   @Override
   public ResponseEntity<List> readDiet(String time, UserDetails userDetails) {
+    Long id = userRepository.findByUsername(userDetails.getUsername()).get().getId();
+    LocalDate dietDate = parseDate(time);
+    List<Diet> diets = sortBySlot(
+        dietRepository.findAllWithFoodsByUserIdAndDietDateBetween(id, dietDate, dietDate));
+    if (diets.isEmpty()) {
+      throw new CustomException(ExceptionStatus.DIET_IS_NOT_EXIST);
+    }
+    FoodCatalog catalog = foodCatalogManager.getCatalog();
     List<FoodOfDietResponseDto> foodOfDietResponseDtoList = new ArrayList<>();
+    for (Diet diet : diets) {
+      foodOfDietResponseDtoList.addAll(toResponseDtoList(diet.getFoodOfDiets(), catalog));
+    }
+    return ResponseEntity.ok(foodOfDietResponseDtoList);
+  }
+
+  // 주간 / 월간 달력용 : 기간의 식단과 음식을 쿼리 한 번으로
+  @Transactional(readOnly = true)
+  @Override
+  public List<DietResponseDto> readDiets(String from, String to, UserDetails userDetails) {
     Long id = userRepository.findByUsername(userDetails.getUsername()).get().getId();
-    if (dietRepository.findByUserIdAndTime(id, time).isPresent()) {
-      Diet diet = dietRepository.findByUserIdAndTime(id, time).get();
-      for (FoodOfDiet foodOfDiet : diet.getFoodOfDiets()) {
-        foodOfDietResponseDtoList.add(new FoodOfDietResponseDto(foodOfDiet));
-      }
-      return ResponseEntity.ok(foodOfDietResponseDtoList);
+    LocalDate fromDate = parseDate(from);
+    LocalDate toDate = parseDate(to);
+    if (toDate.isBefore(fromDate)
+        || ChronoUnit.DAYS.between(fromDate, toDate) >= maxDietRangeDays) {
+      throw new CustomException(ExceptionStatus.DIET_RANGE_IS_NOT_CORRECT);
+    }
+    FoodCatalog catalog = foodCatalogManager.getCatalog();
+    List<DietResponseDto> dietResponseDtoList = new ArrayList<>();
+    for (Diet diet : sortBySlot(
+        dietRepository.findAllWithFoodsByUserIdAndDietDateBetween(id, fromDate, toDate))) {
+      dietResponseDtoList.add(
+          new DietResponseDto(diet, toResponseDtoList(diet.getFoodOfDiets(), catalog)));
+    }
+    return dietResponseDtoList;
+  }
+
+  // 날짜순, 같은 날은 아침 -> 점심 -> 저녁 -> 간식 순
+  private static List<Diet> sortBySlot(List<Diet> diets) {
+    diets.sort(Comparator.comparing(Diet::getDietDate).thenComparing(Diet::getMealSlot));
+    return diets;
+  }
+
+  private static LocalDate parseDate(String time) {
+    try {
+      return LocalDate.parse(time.trim());
+    } catch (DateTimeParseException | NullPointerException e) {
+      throw new CustomException(ExceptionStatus.DIET_DATE_IS_NOT_CORRECT);
     }
-    throw new CustomException(ExceptionStatus.DIET_IS_NOT_EXIST);
   }
 
   @Transactional
   @Override
   public ResponseEntity<String> saveFood(
-      List<FoodOfDietRequestDto> foodOfDietRequestDtoList, Long id) {
-    Diet diet = dietRepository.findById(id).get();
+      List<FoodOfDietRequestDto> foodOfDietRequestDtoList, Long id, UserDetails userDetails) {
+    insertFoods(foodOfDietRequestDtoList, id, userDetails);
+    return ResponseEntity.ok("음식 저장 성공");
+  }
+
+  @Transactional
+  @Override
+  public FoodOfDietBulkResponseDto saveFoods(
+      List<FoodOfDietRequestDto> foodOfDietRequestDtoList, Long id, UserDetails userDetails) {
+    // 합계는 insertFoods 에서 본인 식단임을 확인한 뒤에만 읽는다
+    List<Long> foodOfDietIds = insertFoods(foodOfDietRequestDtoList, id, userDetails);
+    return new FoodOfDietBulkResponseDto(id, foodOfDietIds,
+        nutritionTotalJdbcRepository.findDietTotal(id));
+  }
+
+  @Transactional
+  @Override
+  public ResponseEntity<String> deleteFood(Long foodOfDietId, UserDetails userDetails) {
+    FoodOfDiet foodOfDiet = foodOfDietRepository.findById(foodOfDietId).orElseThrow(
+        () -> new CustomException(ExceptionStatus.FOOD_OF_DIET_IS_NOT_EXIST));
+    Diet diet = foodOfDiet.getDiet();
+    Long userId = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(
+        () -> new CustomException(ExceptionStatus.USER_IS_NOT_EXIST)).getId();
+    if (!diet.getUserId().equals(userId)) {
+      throw new CustomException(ExceptionStatus.AUTHORIZED_EXCEPTION);
+    }
+    foodOfDietRepository.delete(foodOfDiet);
+    addNutritionTotal(diet, NutritionTotal.of(List.of(foodOfDiet)).negate());
+    return ResponseEntity.ok("음식 삭제 성공");
+  }
+
+  // 하루 합계는 (userId, time) 인덱스 한 번으로 읽고, 기록이 없는 날은 0
+  @Transactional(readOnly = true)
+  @Override
+  public DailyNutritionResponseDto readDailyNutrition(String time, UserDetails userDetails) {
+    Long userId = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(
+        () -> new CustomException(ExceptionStatus.USER_IS_NOT_EXIST)).getId();
+    return dailyNutritionRepository.findByUserIdAndTime(userId, time)
+        .map(DailyNutritionResponseDto::new)
+        .orElseGet(() -> new DailyNutritionResponseDto(time, new NutritionTotal()));
+  }
+
+  // 주간 / 월간 차트용 : 음식 수와 상관없이 기록이 있는 날 수만큼만 읽는다
+  @Transactional(readOnly = true)
+  @Override
+  public List<DailyNutritionResponseDto> readDailyNutritions(String from, String to,
+      UserDetails userDetails) {
+    Long userId = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(
+        () -> new CustomException(ExceptionStatus.USER_IS_NOT_EXIST)).getId();
+    List<DailyNutritionResponseDto> dailyNutritionResponseDtoList = new ArrayList<>();
+    for (DailyNutrition dailyNutrition
+        : dailyNutritionRepository.findAllByUserIdAndTimeBetweenOrderByTimeAsc(userId, from, to)) {
+      dailyNutritionResponseDtoList.add(new DailyNutritionResponseDto(dailyNutrition));
+    }
+    return dailyNutritionResponseDtoList;
+  }
+
+  // 식단은 한 번만 확인하고, 음식은 행마다 save 하지 않고 batch INSERT 한 번으로 저장
+  private List<Long> insertFoods(List<FoodOfDietRequestDto> foodOfDietRequestDtoList, Long id,
+      UserDetails userDetails) {
+    Diet diet = dietRepository.findById(id).orElseThrow(
+        () -> new CustomException(ExceptionStatus.DIET_IS_NOT_EXIST));
+    Long userId = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(
+        () -> new CustomException(ExceptionStatus.USER_IS_NOT_EXIST)).getId();
+    if (!diet.getUserId().equals(userId)) {
+      throw new CustomException(ExceptionStatus.AUTHORIZED_EXCEPTION);
+    }
+    List<FoodOfDiet> foodOfDiets = new ArrayList<>();
     for (FoodOfDietRequestDto foodOfDietRequestDto : foodOfDietRequestDtoList) {
-      FoodOfDiet foodOfDiet = new FoodOfDiet(foodOfDietRequestDto, diet);
-      foodOfDietRepository.save(foodOfDiet);
+      foodOfDiets.add(foodOfDietRequestDto.getFoodId() == null
+          ? new FoodOfDiet(foodOfDietRequestDto, diet)
+          : catalogFoodOfDiet(foodOfDietRequestDto, diet));
     }
-    return ResponseEntity.ok("음식 저장 성공");
+    List<Long> foodOfDietIds = foodOfDietJdbcRepository.saveAll(foodOfDiets, diet.getId());
+    addNutritionTotal(diet, NutritionTotal.of(foodOfDiets));
+    recordQuickFoods(diet.getUserId(), foodOfDiets);
+    return foodOfDietIds;
+  }
+
+  // 자주 / 최근 먹은 음식은 저장이 커밋된 뒤에 반영 (롤백된 음식이 목록에 남지 않게)
+  private void recordQuickFoods(Long userId, List<FoodOfDiet> foodOfDiets) {
+    long now = System.currentTimeMillis();
+    List<QuickFood> usedFoods = new ArrayList<>();
+    for (FoodOfDiet foodOfDiet : foodOfDiets) {
+      usedFoods.add(QuickFood.of(foodOfDiet, now));
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      quickFoodCache.record(userId, usedFoods);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        quickFoodCache.record(userId, usedFoods);
+      }
+    });
+  }
+
+  // 자주 먹은 음식(sort=frequent) 또는 최근 먹은 음식(sort=recent), 검색 없이 메모리에서 응답
+  @Override
+  public List<QuickFoodResponseDto> readQuickFoods(String sort, int size,
+      UserDetails userDetails) {
+    Long userId = userRepository.findByUsername(userDetails.getUsername()).orElseThrow(
+        () -> new CustomException(ExceptionStatus.USER_IS_NOT_EXIST)).getId();
+    int limit = Math.max(1, Math.min(size, 50));
+    List<QuickFood> quickFoods = "recent".equalsIgnoreCase(sort)
+        ? quickFoodCache.recent(userId, limit) : quickFoodCache.frequent(userId, limit);
+    FoodCatalog catalog = foodCatalogManager.getCatalog();
+    List<QuickFoodResponseDto> quickFoodResponseDtoList = new ArrayList<>();
+    for (QuickFood quickFood : quickFoods) {
+      FoodCatalogItem foodCatalogItem = catalog == null || quickFood.getFoodId() == null ? null
+          : catalog.find(FoodCategory.fromLabel(quickFood.getCategory()), quickFood.getFoodId());
+      quickFoodResponseDtoList.add(new QuickFoodResponseDto(quickFood, foodCatalogItem));
+    }
+    return quickFoodResponseDtoList;
+  }
+
+  // 카탈로그 참조 모드 : 카탈로그에 있는 음식인지 확인하고 id 와 portion 만 저장
+  private FoodOfDiet catalogFoodOfDiet(FoodOfDietRequestDto foodOfDietRequestDto, Diet diet) {
+    FoodCatalog catalog = foodCatalogManager.getCatalog();
+    if (catalog == null) {
+      throw new CustomException(ExceptionStatus.FOOD_CATALOG_IS_NOT_READY);
+    }
+    FoodCatalogItem foodCatalogItem = catalog.find(
+        FoodCategory.fromLabel(foodOfDietRequestDto.getCategory()),
+        foodOfDietRequestDto.getFoodId());
+    if (foodCatalogItem == null) {
+      throw new CustomException(ExceptionStatus.FOOD_IS_NOT_EXIST);
+    }
+    float portion = foodOfDietRequestDto.getPortion() == null
+        ? 1f : foodOfDietRequestDto.getPortion();
+    if (!(portion > 0 && portion <= maxPortion)) {
+      throw new CustomException(ExceptionStatus.PORTION_IS_NOT_CORRECT);
+    }
+    return new FoodOfDiet(foodCatalogItem, portion, diet);
+  }
+
+  // 카탈로그 참조 행의 영양성분은 저장된 값 (식단 / 하루 합계와 같은 값), 제조사와 제공량만 카탈로그에서
+  private static List<FoodOfDietResponseDto> toResponseDtoList(List<FoodOfDiet> foodOfDiets,
+      FoodCatalog catalog) {
+    List<FoodOfDietResponseDto> foodOfDietResponseDtoList = new ArrayList<>();
+    for (FoodOfDiet foodOfDiet : foodOfDiets) {
+      if (foodOfDiet.isCatalogReference()) {
+        foodOfDietResponseDtoList.add(new FoodOfDietResponseDto(foodOfDiet, catalog == null
+            ? null : catalog.find(foodOfDiet.getCategory(), foodOfDiet.getFoodId())));
+      } else {
+        foodOfDietResponseDtoList.add(new FoodOfDietResponseDto(foodOfDiet));
+      }
+    }
+    return foodOfDietResponseDtoList;
+  }
+
+  // 식단 합계와 그 날의 합계를 같은 트랜잭션에서 함께 갱신
+  private void addNutritionTotal(Diet diet, NutritionTotal delta) {
+    if (delta.getFoodCount() == 0) {
+      return;
+    }
+    nutritionTotalJdbcRepository.addToDiet(diet.getId(), delta);
+    nutritionTotalJdbcRepository.addToDay(diet.getUserId(), diet.getTime(), delta);
   }
 }
@@ -9,6 +9,10 @@ public enum ExceptionStatus {
 
   ALREADY_LOGIN_EXCEPTION(200, "이미 로그인 되었습니다."),
 
+  DIET_DATE_IS_NOT_CORRECT(400, "날짜는 yyyy-MM-dd 형식이어야 합니다."),
+  DIET_RANGE_IS_NOT_CORRECT(400, "조회 기간이 올바르지 않습니다."),
+  PORTION_IS_NOT_CORRECT(400, "섭취량(1회 제공량 배수)이 올바르지 않습니다."),
+
   AUTHENTICATED_EXCEPTION(401, "인증에 실패했습니다."),
   USERNAME_PASSWORD_DO_NOT_MATCH(401,"아이디와 비빌번호를 확인바랍니다."),
   PASSWORD_DO_NOT_MATCH(401,"비빌번호가 일치하지 않습니다."),
@@ -38,9 +42,13 @@ public enum ExceptionStatus {
   PAGINATION_IS_NOT_EXIST(404, "검색 결과가 없습니다."),
   ID_OR_EMAIL_IS_NOT_EXIST(404, "요청하신 페이지가 존재하지 않습니다."),
   DIET_IS_NOT_EXIST(404, "식단이 존재하지 않습니다."),
+  FOOD_OF_DIET_IS_NOT_EXIST(404, "식단에 해당 음식이 존재하지 않습니다."),
+  FOOD_IS_NOT_EXIST(404, "음식이 존재하지 않습니다."),
   EXERCISE_RECORD_IS_NOT_EXIST(404, "운동 기록이 존재하지 않습니다."),
 
-  USERNAME_IS_EXIST(409, "이미 등록된 아이디입니다.");
+  USERNAME_IS_EXIST(409, "이미 등록된 아이디입니다."),
+
+  FOOD_CATALOG_IS_NOT_READY(503, "음식 검색을 준비 중입니다. 잠시 후 다시 시도해 주세요.");
 
   private final int statusCode;
   private final String message;
@@ -1,6 +1,7 @@
 package com.sparta.hotbody.user.entity;
 
 import com.sparta.hotbody.comment.entity.Comment;
+import com.sparta.hotbody.common.jwt.PrincipalCacheEvictListener;
 import com.sparta.hotbody.common.timestamp.TimeStamp;
 import com.sparta.hotbody.exerciseRecord.entity.ExerciseRecord;
 import com.sparta.hotbody.post.entity.Post;
@@ -15,6 +16,7 @@ import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.DiscriminatorColumn;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
@@ -33,6 +35,7 @@ import lombok.NoArgsConstructor;
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE) // JOINED는 다른 DB 생성. SINGLE은 안에 둘 다 있음
 @DiscriminatorColumn
 @Entity(name = "users")
+@EntityListeners(PrincipalCacheEvictListener.class)
 public class User extends TimeStamp {
 
   @Id
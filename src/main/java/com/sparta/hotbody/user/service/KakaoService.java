@@ -4,8 +4,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.hotbody.common.jwt.JwtUtil;
-import com.sparta.hotbody.common.jwt.entity.RefreshToken;
-import com.sparta.hotbody.common.jwt.repository.RefreshTokenRedisRepository;
 import com.sparta.hotbody.user.dto.KakaoUserInfoDto;
 import com.sparta.hotbody.user.entity.User;
 import com.sparta.hotbody.user.entity.UserRole;
@@ -33,7 +31,6 @@ import org.springframework.web.client.RestTemplate;
 public class KakaoService {
   private final PasswordEncoder passwordEncoder;
   private final UserRepository userRepository;
-  private final RefreshTokenRedisRepository refreshTokenRedisRepository;
   private final JwtUtil jwtUtil;
 
   @Value("${kakao.login.restapi.key}")
@@ -56,7 +53,7 @@ public class KakaoService {
 
     response.addHeader(jwtUtil.REFRESH_TOKEN, refreshToken);
     response.addHeader(jwtUtil.AUTHORIZATION_HEADER, accessToken);
-    refreshTokenRedisRepository.save(new RefreshToken(refreshToken)); // 리프레쉬 토큰 저장소에 리프레쉬 토큰을 저장
+    jwtUtil.saveRefreshToken(refreshToken, kakaoUser.getUsername(), kakaoUser.getRole()); // 리프레쉬 토큰 저장소에 리프레쉬 토큰을 저장
 
     return "로그인 완료";
   }
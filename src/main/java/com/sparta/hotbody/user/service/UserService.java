@@ -3,8 +3,6 @@ package com.sparta.hotbody.user.service;
 import com.sparta.hotbody.common.GetPageModel;
 import com.sparta.hotbody.common.dto.MessageResponseDto;
 import com.sparta.hotbody.common.jwt.JwtUtil;
-import com.sparta.hotbody.common.jwt.entity.RefreshToken;
-import com.sparta.hotbody.common.jwt.repository.RefreshTokenRedisRepository;
 import com.sparta.hotbody.common.page.PageDto;
 import com.sparta.hotbody.exception.CustomException;
 import com.sparta.hotbody.exception.ExceptionStatus;
@@ -67,7 +65,6 @@ public class UserService {
   // 회원가입 로직
   private final UserRepository userRepository;
   private final PromoteRepository promoteRepository;
-  private final RefreshTokenRedisRepository refreshTokenRedisRepository; // 리프레쉬 토큰을 서버에 저장하기 위한 저장소
   private final JwtUtil jwtUtil;
   private final PasswordEncoder passwordEncoder;
   private final UploadService uploadService;
@@ -126,8 +123,7 @@ public class UserService {
     response.addHeader(jwtUtil.REFRESH_TOKEN, refreshToken);
     response.addHeader(jwtUtil.AUTHORIZATION_HEADER, accessToken);
 
-    refreshTokenRedisRepository.save(
-        new RefreshToken(refreshToken)); // 리프레쉬 토큰 저장소에 리프레쉬 토큰을 저장
+    jwtUtil.saveRefreshToken(refreshToken, user.getUsername(), user.getRole()); // 리프레쉬 토큰 저장소에 리프레쉬 토큰을 저장
 
     return ResponseEntity.ok("로그인 완료");
   }
@@ -149,6 +145,7 @@ public class UserService {
       passwordEncoder.matches(deleteRequestDto.getPassword(), user.getPassword())) {
 
       userRepository.deleteByUsername(user.getUsername());
+      jwtUtil.revokeUserSessions(user.getUsername());
       return ResponseEntity.ok("회원탈퇴를 완료하였습니다.");
     }
     throw new CustomException(ExceptionStatus.PASSWORD_DO_NOT_MATCH);
@@ -257,6 +254,8 @@ public class UserService {
       String encodePassword = passwordEncoder.encode(password);
       user.modifyPassword(encodePassword);
       userRepository.save(user);
+      // 비밀번호가 바뀌었으므로 기존에 로그인한 기기는 다시 로그인해야 한다
+      jwtUtil.revokeUserSessions(user.getUsername());
 
       MimeMessage mimeMessage = javaMailSender.createMimeMessage();
       MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
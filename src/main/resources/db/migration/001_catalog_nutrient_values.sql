@@ -0,0 +1,38 @@
+-- 카탈로그 4종과 식단 음식에 숫자 영양성분 컬럼 추가
+-- spring.jpa.hibernate.ddl-auto 가 validate 이므로 배포 전에 실행해야 한다.
+-- 기존 행은 NULL 로 남고, 카탈로그는 인덱스를 만들 때 문자열에서 값을 계산한다.
+
+ALTER TABLE agricultural_and_livestock_products
+    ADD COLUMN energy_value FLOAT NULL,
+    ADD COLUMN protein_value FLOAT NULL,
+    ADD COLUMN fat_value FLOAT NULL,
+    ADD COLUMN carbohydrate_value FLOAT NULL,
+    ADD COLUMN sugar_value FLOAT NULL;
+
+-- 수산물은 당류 컬럼이 없다
+ALTER TABLE aquatic_products
+    ADD COLUMN energy_value FLOAT NULL,
+    ADD COLUMN protein_value FLOAT NULL,
+    ADD COLUMN fat_value FLOAT NULL,
+    ADD COLUMN carbohydrate_value FLOAT NULL;
+
+ALTER TABLE food
+    ADD COLUMN energy_value FLOAT NULL,
+    ADD COLUMN protein_value FLOAT NULL,
+    ADD COLUMN fat_value FLOAT NULL,
+    ADD COLUMN carbohydrate_value FLOAT NULL,
+    ADD COLUMN sugar_value FLOAT NULL;
+
+ALTER TABLE processed_food
+    ADD COLUMN energy_value FLOAT NULL,
+    ADD COLUMN protein_value FLOAT NULL,
+    ADD COLUMN fat_value FLOAT NULL,
+    ADD COLUMN carbohydrate_value FLOAT NULL,
+    ADD COLUMN sugar_value FLOAT NULL;
+
+ALTER TABLE food_of_diet
+    ADD COLUMN energy_value FLOAT NULL,
+    ADD COLUMN protein_value FLOAT NULL,
+    ADD COLUMN fat_value FLOAT NULL,
+    ADD COLUMN carbohydrate_value FLOAT NULL,
+    ADD COLUMN sugar_value FLOAT NULL;
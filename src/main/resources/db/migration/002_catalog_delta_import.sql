@@ -0,0 +1,18 @@
+-- 카탈로그 delta 적재(batch.import.delta)에 쓰는 행 fingerprint 와 파일 checksum
+-- spring.jpa.hibernate.ddl-auto 로 스키마를 바꾸지 않으므로 배포 전에 실행해야 한다.
+-- 기존 행은 row_hash 가 NULL 로 남고, 다음 적재 step 이 시작할 때 그 자리에서 채운다 (id 유지).
+
+ALTER TABLE agricultural_and_livestock_products ADD COLUMN row_hash VARCHAR(64) NULL;
+ALTER TABLE aquatic_products ADD COLUMN row_hash VARCHAR(64) NULL;
+ALTER TABLE food ADD COLUMN row_hash VARCHAR(64) NULL;
+ALTER TABLE processed_food ADD COLUMN row_hash VARCHAR(64) NULL;
+
+-- 마지막으로 적재에 성공한 파일의 checksum (step 이름별 한 행)
+CREATE TABLE catalog_import_checksum
+(
+    step_name   VARCHAR(255) NOT NULL,
+    file_name   VARCHAR(255) NOT NULL,
+    checksum    VARCHAR(64)  NOT NULL,
+    imported_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (step_name)
+);
@@ -0,0 +1,8 @@
+-- 식단 음식의 카탈로그 참조 컬럼 (카테고리 순서 번호, 카탈로그 id, 1회 제공량 배수)
+-- spring.jpa.hibernate.ddl-auto 로 스키마를 바꾸지 않으므로 배포 전에 실행해야 한다.
+-- 기존 행은 값을 복사해 넣은 행이므로 모두 NULL 로 남는다.
+
+ALTER TABLE food_of_diet
+    ADD COLUMN category INT NULL,
+    ADD COLUMN food_id BIGINT NULL,
+    ADD COLUMN portion FLOAT NULL;
@@ -0,0 +1,73 @@
+-- 식단 / 하루 단위 영양성분 합계 (음식 추가 / 삭제 때 증분으로 갱신)
+-- spring.jpa.hibernate.ddl-auto 가 validate 이므로 배포 전에 실행해야 한다.
+-- 기존 식단은 아래에서 food_of_diet 로 한 번 다시 합산한다. 한 번만 실행할 것 (INSERT 는 멱등이 아니다).
+
+ALTER TABLE diet
+    ADD COLUMN total_energy FLOAT NOT NULL DEFAULT 0,
+    ADD COLUMN total_protein FLOAT NOT NULL DEFAULT 0,
+    ADD COLUMN total_fat FLOAT NOT NULL DEFAULT 0,
+    ADD COLUMN total_carbohydrate FLOAT NOT NULL DEFAULT 0,
+    ADD COLUMN total_sugar FLOAT NOT NULL DEFAULT 0,
+    ADD COLUMN food_count INT NOT NULL DEFAULT 0;
+
+CREATE TABLE daily_nutrition (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    time VARCHAR(255) NOT NULL,
+    total_energy FLOAT NOT NULL DEFAULT 0,
+    total_protein FLOAT NOT NULL DEFAULT 0,
+    total_fat FLOAT NOT NULL DEFAULT 0,
+    total_carbohydrate FLOAT NOT NULL DEFAULT 0,
+    total_sugar FLOAT NOT NULL DEFAULT 0,
+    food_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_daily_nutrition_user_time UNIQUE (user_id, time)
+);
+
+-- 001 이전에 저장된 음식은 숫자 컬럼이 NULL 이므로 문자열에서 채운다 (NutrientParser 와 같은 규칙 :
+-- 쉼표를 빼고 앞부분의 숫자만, "-" / "정보 없음" 처럼 숫자로 시작하지 않으면 NULL)
+UPDATE food_of_diet
+SET energy_value = CAST(REGEXP_SUBSTR(REPLACE(TRIM(energy), ',', ''),
+        '^[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)') AS DECIMAL(12, 4))
+WHERE energy_value IS NULL AND energy IS NOT NULL;
+UPDATE food_of_diet
+SET protein_value = CAST(REGEXP_SUBSTR(REPLACE(TRIM(protein), ',', ''),
+        '^[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)') AS DECIMAL(12, 4))
+WHERE protein_value IS NULL AND protein IS NOT NULL;
+UPDATE food_of_diet
+SET fat_value = CAST(REGEXP_SUBSTR(REPLACE(TRIM(fat), ',', ''),
+        '^[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)') AS DECIMAL(12, 4))
+WHERE fat_value IS NULL AND fat IS NOT NULL;
+UPDATE food_of_diet
+SET carbohydrate_value = CAST(REGEXP_SUBSTR(REPLACE(TRIM(carbohydrate), ',', ''),
+        '^[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)') AS DECIMAL(12, 4))
+WHERE carbohydrate_value IS NULL AND carbohydrate IS NOT NULL;
+UPDATE food_of_diet
+SET sugar_value = CAST(REGEXP_SUBSTR(REPLACE(TRIM(sugar), ',', ''),
+        '^[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)') AS DECIMAL(12, 4))
+WHERE sugar_value IS NULL AND sugar IS NOT NULL;
+
+-- 식단 합계 : NutritionTotal.of 와 같이 정보가 없는 값은 0 으로 더한다
+UPDATE diet d
+    JOIN (SELECT diet_id,
+                 SUM(COALESCE(energy_value, 0)) AS energy,
+                 SUM(COALESCE(protein_value, 0)) AS protein,
+                 SUM(COALESCE(fat_value, 0)) AS fat,
+                 SUM(COALESCE(carbohydrate_value, 0)) AS carbohydrate,
+                 SUM(COALESCE(sugar_value, 0)) AS sugar,
+                 COUNT(*) AS food_count
+          FROM food_of_diet
+          GROUP BY diet_id) t ON t.diet_id = d.id
+SET d.total_energy = t.energy,
+    d.total_protein = t.protein,
+    d.total_fat = t.fat,
+    d.total_carbohydrate = t.carbohydrate,
+    d.total_sugar = t.sugar,
+    d.food_count = t.food_count;
+
+-- 하루 합계 : 같은 날 식단들의 합
+INSERT INTO daily_nutrition (user_id, time, total_energy, total_protein, total_fat,
+                             total_carbohydrate, total_sugar, food_count)
+SELECT user_id, time, SUM(total_energy), SUM(total_protein), SUM(total_fat),
+       SUM(total_carbohydrate), SUM(total_sugar), SUM(food_count)
+FROM diet
+GROUP BY user_id, time;
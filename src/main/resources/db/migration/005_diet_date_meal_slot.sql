@@ -0,0 +1,122 @@
+-- 식단 날짜(diet_date)와 끼니(meal_slot), (user_id, diet_date, meal_slot) 유니크 키
+-- spring.jpa.hibernate.ddl-auto 가 validate 이므로 배포 전에, 004 다음에 실행해야 한다.
+-- 기존 time 은 자유 형식 문자열이라 그대로는 유니크 키를 걸 수 없으므로 아래 순서로 정리한다.
+--   1. time 을 날짜로 해석 (yyyy-MM-dd, yyyy.MM.dd, yyyy/MM/dd, yyyyMMdd 로 시작하는 값)
+--   2. 해석할 수 없는 time 은 1970-01-01 로 모으고, 원래 값은 diet_005_backup 에 남긴다
+--   3. 같은 (사용자, 날짜) 식단이 여러 개면 가장 먼저 만든 식단으로 음식과 합계를 합치고 나머지는 지운다
+--      (옮긴 음식의 원래 식단은 food_of_diet_005_backup 에 남긴다)
+--   4. time 을 diet_date 의 yyyy-MM-dd 로 맞추고, 그 값을 키로 쓰는 daily_nutrition 을 다시 만든다
+-- 한 번만 실행할 것.
+
+ALTER TABLE diet
+    ADD COLUMN diet_date DATE NULL,
+    ADD COLUMN meal_slot VARCHAR(20) NOT NULL DEFAULT 'DAY';
+
+-- 되돌릴 때 쓸 원본 (정리 대상이 된 식단만)
+CREATE TABLE diet_005_backup (
+    diet_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    time VARCHAR(255) NULL,
+    merged_into BIGINT NULL
+);
+CREATE TABLE food_of_diet_005_backup (
+    food_of_diet_id BIGINT PRIMARY KEY,
+    diet_id BIGINT NOT NULL
+);
+
+-- 날짜가 아닌 값에 STR_TO_DATE 를 쓰면 strict 모드의 UPDATE 는 오류로 멈추므로
+-- 형식을 정규식으로 먼저 거르고, 2월 30일 같은 값은 NULL 이 되도록 이 세션에서만 strict 를 끈다
+SET @old_sql_mode = @@SESSION.sql_mode;
+SET SESSION sql_mode = REPLACE(REPLACE(@@SESSION.sql_mode, 'STRICT_TRANS_TABLES', ''),
+    'STRICT_ALL_TABLES', '');
+
+UPDATE diet
+SET diet_date = STR_TO_DATE(REGEXP_REPLACE(
+        REGEXP_SUBSTR(TRIM(time), '^[0-9]{4}[-./][0-9]{1,2}[-./][0-9]{1,2}'), '[./]', '-'),
+        '%Y-%m-%d')
+WHERE TRIM(time) REGEXP '^[0-9]{4}[-./][0-9]{1,2}[-./][0-9]{1,2}([^0-9]|$)';
+
+UPDATE diet
+SET diet_date = STR_TO_DATE(LEFT(TRIM(time), 8), '%Y%m%d')
+WHERE diet_date IS NULL
+  AND TRIM(time) REGEXP '^[0-9]{8}([^0-9]|$)';
+
+SET SESSION sql_mode = @old_sql_mode;
+
+-- 해석하지 못한 식단 : 음식과 합계는 지우지 않고 사용자별 1970-01-01 식단으로 모은다
+INSERT INTO diet_005_backup (diet_id, user_id, time)
+SELECT id, user_id, time
+FROM diet
+WHERE diet_date IS NULL;
+
+UPDATE diet
+SET diet_date = '1970-01-01'
+WHERE diet_date IS NULL;
+
+-- 같은 (사용자, 날짜, 끼니) 의 식단 중 가장 작은 id 만 남긴다
+CREATE TEMPORARY TABLE diet_merge AS
+SELECT d.id AS diet_id, k.keep_id
+FROM diet d
+         JOIN (SELECT user_id, diet_date, meal_slot, MIN(id) AS keep_id
+               FROM diet
+               GROUP BY user_id, diet_date, meal_slot
+               HAVING COUNT(*) > 1) k
+              ON k.user_id = d.user_id AND k.diet_date = d.diet_date
+                  AND k.meal_slot = d.meal_slot
+WHERE d.id <> k.keep_id;
+
+INSERT INTO diet_005_backup (diet_id, user_id, time, merged_into)
+SELECT d.id, d.user_id, d.time, m.keep_id
+FROM diet d
+         JOIN diet_merge m ON m.diet_id = d.id
+ON DUPLICATE KEY UPDATE merged_into = VALUES(merged_into);
+
+INSERT INTO food_of_diet_005_backup (food_of_diet_id, diet_id)
+SELECT f.id, f.diet_id
+FROM food_of_diet f
+         JOIN diet_merge m ON m.diet_id = f.diet_id;
+
+UPDATE food_of_diet f
+    JOIN diet_merge m ON m.diet_id = f.diet_id
+SET f.diet_id = m.keep_id;
+
+-- 남기는 식단의 합계에 지우는 식단의 합계를 더한다
+UPDATE diet d
+    JOIN (SELECT m.keep_id,
+                 SUM(merged.total_energy) AS energy,
+                 SUM(merged.total_protein) AS protein,
+                 SUM(merged.total_fat) AS fat,
+                 SUM(merged.total_carbohydrate) AS carbohydrate,
+                 SUM(merged.total_sugar) AS sugar,
+                 SUM(merged.food_count) AS food_count
+          FROM diet_merge m
+                   JOIN diet merged ON merged.id = m.diet_id
+          GROUP BY m.keep_id) t ON t.keep_id = d.id
+SET d.total_energy = d.total_energy + t.energy,
+    d.total_protein = d.total_protein + t.protein,
+    d.total_fat = d.total_fat + t.fat,
+    d.total_carbohydrate = d.total_carbohydrate + t.carbohydrate,
+    d.total_sugar = d.total_sugar + t.sugar,
+    d.food_count = d.food_count + t.food_count;
+
+DELETE d
+FROM diet d
+         JOIN diet_merge m ON m.diet_id = d.id;
+
+DROP TEMPORARY TABLE diet_merge;
+
+ALTER TABLE diet
+    MODIFY COLUMN diet_date DATE NOT NULL,
+    ADD CONSTRAINT uk_diet_user_date_slot UNIQUE (user_id, diet_date, meal_slot);
+
+-- time 은 이제 diet_date 를 적은 값이고, 하루 합계도 그 값으로 다시 묶는다
+UPDATE diet
+SET time = DATE_FORMAT(diet_date, '%Y-%m-%d');
+
+DELETE FROM daily_nutrition;
+INSERT INTO daily_nutrition (user_id, time, total_energy, total_protein, total_fat,
+                             total_carbohydrate, total_sugar, food_count)
+SELECT user_id, time, SUM(total_energy), SUM(total_protein), SUM(total_fat),
+       SUM(total_carbohydrate), SUM(total_sugar), SUM(food_count)
+FROM diet
+GROUP BY user_id, time;
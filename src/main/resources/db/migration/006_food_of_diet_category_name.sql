@@ -0,0 +1,15 @@
+-- 식단 음식의 카테고리를 순서 번호(003) 대신 enum 이름으로 저장한다 (FoodCategory 순서가 바뀌어도 기록이 바뀌지 않게)
+-- spring.jpa.hibernate.ddl-auto 가 validate 이므로 배포 전에 실행해야 한다.
+-- 순서 번호는 003 당시의 FoodCategory 순서로 옮긴다.
+
+ALTER TABLE food_of_diet
+    MODIFY COLUMN category VARCHAR(40) NULL;
+
+UPDATE food_of_diet
+SET category = CASE category
+                   WHEN '0' THEN 'AGRICULTURAL_AND_LIVESTOCK_PRODUCTS'
+                   WHEN '1' THEN 'AQUATIC_PRODUCTS'
+                   WHEN '2' THEN 'FOOD'
+                   WHEN '3' THEN 'PROCESSED_FOOD'
+    END
+WHERE category IS NOT NULL;
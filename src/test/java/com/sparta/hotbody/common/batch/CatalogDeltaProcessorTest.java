@@ -0,0 +1,126 @@
+package com.sparta.hotbody.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.hotbody.common.batch.food.Food;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class CatalogDeltaProcessorTest {
+
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+        "jdbc:h2:mem:delta" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    jdbcTemplate.execute("CREATE TABLE food (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+        + " food_name VARCHAR(255), one_time_supply VARCHAR(255), energy VARCHAR(255),"
+        + " protein VARCHAR(255), fat VARCHAR(255), carbohydrate VARCHAR(255),"
+        + " sugar VARCHAR(255), energy_value FLOAT, protein_value FLOAT, fat_value FLOAT,"
+        + " carbohydrate_value FLOAT, sugar_value FLOAT, row_hash VARCHAR(64))");
+  }
+
+  @Test
+  void keepsIdsOfUnchangedAndChangedRows() {
+    // 1 : fingerprint 없는 예전 행, 2 : 값이 바뀔 행, 3 / 4 : 같은 fingerprint 의 중복 행, 5 : 파일에서 빠진 행
+    insert(1, "김밥", "300", null);
+    insert(2, "라면", "500", hash(food("라면", "500")));
+    insert(3, "떡", "200", hash(food("떡", "200")));
+    insert(4, "떡", "200", hash(food("떡", "200")));
+    insert(5, "없어진 음식", "100", hash(food("없어진 음식", "100")));
+
+    List<Food> written = run(food("김밥", "300"), food("라면", "550"), food("떡", "200"),
+        food("우동", "400"), food("떡", "200"));
+
+    // 바뀐 라면은 id 2 를 이어받아 UPDATE, 새 우동만 INSERT, 4 / 5 는 삭제
+    assertThat(written).extracting(Food::getFoodName).containsExactly("라면", "우동");
+    assertThat(written).extracting(Food::getId).containsExactly(2L, null);
+    assertThat(rows()).hasSize(4)
+        .containsEntry(1L, "김밥:300")
+        .containsEntry(2L, "라면:550")
+        .containsEntry(3L, "떡:200")
+        .containsValue("우동:400");
+  }
+
+  @Test
+  void backfillsMissingFingerprintInPlace() {
+    insert(1, "김밥", "300", null);
+
+    run(food("김밥", "300"));
+
+    assertThat(jdbcTemplate.queryForObject("SELECT row_hash FROM food WHERE id = 1",
+        String.class)).isEqualTo(hash(food("김밥", "300")));
+  }
+
+  @Test
+  void failedStepDeletesNothing() {
+    insert(1, "김밥", "300", hash(food("김밥", "300")));
+    CatalogDeltaProcessor<Food> processor = processor();
+    StepExecution stepExecution = stepExecution();
+    processor.beforeStep(stepExecution);
+
+    stepExecution.setStatus(BatchStatus.FAILED);
+    processor.afterStep(stepExecution);
+
+    assertThat(rows()).containsOnlyKeys(1L);
+  }
+
+  // beforeStep -> process -> write -> afterStep 순서로 한 step 을 흉내 내고 기록한 행을 반환
+  private List<Food> run(Food... items) {
+    CatalogDeltaProcessor<Food> processor = processor();
+    StepExecution stepExecution = stepExecution();
+    processor.beforeStep(stepExecution);
+    List<Food> written = new ArrayList<>();
+    for (Food item : items) {
+      Food result = processor.process(item);
+      if (result != null) {
+        written.add(result);
+        new CatalogJdbcBatchWriter<Food>(jdbcTemplate, "food", false, true)
+            .write(List.of(result));
+      }
+    }
+    stepExecution.setStatus(BatchStatus.COMPLETED);
+    processor.afterStep(stepExecution);
+    return written;
+  }
+
+  private CatalogDeltaProcessor<Food> processor() {
+    return new CatalogDeltaProcessor<>(jdbcTemplate, "food", false, true);
+  }
+
+  private static StepExecution stepExecution() {
+    return new StepExecution("foodCsvFileItemReaderStep", new JobExecution(1L));
+  }
+
+  private void insert(long id, String name, String energy, String rowHash) {
+    jdbcTemplate.update("INSERT INTO food (id, food_name, one_time_supply, energy, row_hash)"
+        + " VALUES (?, ?, '100', ?, ?)", id, name, energy, rowHash);
+  }
+
+  private Map<Long, String> rows() {
+    Map<Long, String> rows = new LinkedHashMap<>();
+    jdbcTemplate.query("SELECT id, food_name, energy FROM food ORDER BY id",
+        resultSet -> {
+          rows.put(resultSet.getLong(1), resultSet.getString(2) + ":" + resultSet.getString(3));
+        });
+    return rows;
+  }
+
+  private static Food food(String name, String energy) {
+    return new Food(null, name, "100", energy, null, null, null, null);
+  }
+
+  private static String hash(Food food) {
+    return CatalogRowHasher.hash(food);
+  }
+}
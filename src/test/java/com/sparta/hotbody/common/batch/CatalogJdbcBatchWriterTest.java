@@ -0,0 +1,123 @@
+package com.sparta.hotbody.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProducts;
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.common.batch.processedfood.ProcessedFood;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class CatalogJdbcBatchWriterTest {
+
+  private static final String NUTRIENTS = " one_time_supply VARCHAR(255), energy VARCHAR(255),"
+      + " protein VARCHAR(255), fat VARCHAR(255), carbohydrate VARCHAR(255),";
+  private static final String VALUES = " energy_value FLOAT, protein_value FLOAT, fat_value FLOAT,"
+      + " carbohydrate_value FLOAT,";
+
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+        "jdbc:h2:mem:writer" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    // 테이블마다 실제 컬럼 구성대로 만든다 (없는 컬럼을 쓰면 SQL 이 실패한다)
+    jdbcTemplate.execute("CREATE TABLE food (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+        + " food_name VARCHAR(255)," + NUTRIENTS + " sugar VARCHAR(255)," + VALUES
+        + " sugar_value FLOAT, row_hash VARCHAR(64))");
+    jdbcTemplate.execute("CREATE TABLE processed_food (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+        + " food_name VARCHAR(255), factory VARCHAR(255)," + NUTRIENTS + " sugar VARCHAR(255),"
+        + VALUES + " sugar_value FLOAT, row_hash VARCHAR(64))");
+    jdbcTemplate.execute("CREATE TABLE aquatic_products (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+        + " food_name VARCHAR(255)," + NUTRIENTS + VALUES + " row_hash VARCHAR(64))");
+  }
+
+  @Test
+  void insertsNewRowsWithParsedValues() {
+    Food food = food(null, "김밥", "300", "1.2");
+    food.setRowHash("hash");
+
+    new CatalogJdbcBatchWriter<Food>(jdbcTemplate, "food", false, true).write(List.of(food));
+
+    Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM food");
+    assertThat(row.get("FOOD_NAME")).isEqualTo("김밥");
+    assertThat(row.get("ENERGY")).isEqualTo("300");
+    assertThat(row.get("SUGAR")).isEqualTo("1.2");
+    assertThat(((Number) row.get("ENERGY_VALUE")).floatValue()).isEqualTo(300f);
+    assertThat(((Number) row.get("SUGAR_VALUE")).floatValue()).isEqualTo(1.2f);
+    assertThat(row.get("ROW_HASH")).isEqualTo("hash");
+  }
+
+  @Test
+  void updatesRowsThatKeepTheirIdAndInsertsTheRest() {
+    jdbcTemplate.update("INSERT INTO food (id, food_name, energy) VALUES (7, '라면', '500')");
+    jdbcTemplate.update("INSERT INTO food (id, food_name, energy) VALUES (8, '우동', '400')");
+
+    new CatalogJdbcBatchWriter<Food>(jdbcTemplate, "food", false, true)
+        .write(List.of(food(7L, "라면", "550", null), food(null, "떡", "200", null)));
+
+    // 마지막 파라미터(id)로 7 만 바뀌고 8 은 그대로, 떡은 새 행
+    assertThat(jdbcTemplate.queryForList("SELECT id, food_name, energy FROM food ORDER BY id"))
+        .extracting(row -> row.get("FOOD_NAME") + ":" + row.get("ENERGY"))
+        .containsExactly("라면:550", "우동:400", "떡:200");
+    assertThat(jdbcTemplate.queryForObject("SELECT energy_value FROM food WHERE id = 7",
+        Float.class)).isEqualTo(550f);
+  }
+
+  @Test
+  void missingNutrientsAreWrittenAsNull() {
+    new CatalogJdbcBatchWriter<Food>(jdbcTemplate, "food", false, true)
+        .write(List.of(food(null, "물", "-", null)));
+
+    Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM food");
+    assertThat(row.get("ENERGY_VALUE")).isNull();
+    assertThat(row.get("SUGAR_VALUE")).isNull();
+  }
+
+  @Test
+  void bindsFactoryForProcessedFood() {
+    jdbcTemplate.update("INSERT INTO processed_food (id, food_name) VALUES (3, '과자')");
+    ProcessedFood changed = new ProcessedFood("과자", "A제과", "30", "150", "2", "8", "18", "9");
+    changed.setId(3L);
+    changed.parseNutrients();
+    ProcessedFood added = new ProcessedFood("음료", "B음료", "250", "110", "0", "0", "27", "27");
+    added.parseNutrients();
+
+    new CatalogJdbcBatchWriter<ProcessedFood>(jdbcTemplate, "processed_food", true, true)
+        .write(List.of(changed, added));
+
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT id, factory, sugar, sugar_value FROM processed_food ORDER BY id"))
+        .extracting(row -> row.get("FACTORY") + ":" + row.get("SUGAR") + ":"
+            + ((Number) row.get("SUGAR_VALUE")).floatValue())
+        .containsExactly("A제과:9:9.0", "B음료:27:27.0");
+  }
+
+  @Test
+  void skipsSugarForAquaticProducts() {
+    jdbcTemplate.update("INSERT INTO aquatic_products (id, food_name) VALUES (5, '고등어')");
+    AquaticProducts changed = new AquaticProducts(5L, "고등어", "100", "200", "20", "12", "0");
+    changed.parseNutrients();
+    AquaticProducts added = new AquaticProducts(null, "오징어", "100", "90", "18", "1", "3");
+    added.parseNutrients();
+
+    new CatalogJdbcBatchWriter<AquaticProducts>(jdbcTemplate, "aquatic_products", false, false)
+        .write(List.of(changed, added));
+
+    assertThat(jdbcTemplate.queryForList(
+        "SELECT id, food_name, fat_value FROM aquatic_products ORDER BY id"))
+        .extracting(row -> row.get("ID") + ":" + row.get("FOOD_NAME") + ":"
+            + ((Number) row.get("FAT_VALUE")).floatValue())
+        .containsExactly("5:고등어:12.0", "6:오징어:1.0");
+  }
+
+  private static Food food(Long id, String name, String energy, String sugar) {
+    Food food = new Food(id, name, "100", energy, null, null, null, sugar);
+    food.parseNutrients();
+    return food;
+  }
+}
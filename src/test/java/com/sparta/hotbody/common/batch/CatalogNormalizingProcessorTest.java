@@ -0,0 +1,91 @@
+package com.sparta.hotbody.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.common.batch.processedfood.ProcessedFood;
+import org.junit.jupiter.api.Test;
+
+class CatalogNormalizingProcessorTest {
+
+  private final CatalogNormalizingProcessor<CatalogFood> processor =
+      new CatalogNormalizingProcessor<>();
+
+  @Test
+  void cleansInvisibleCharactersAndSpaces() {
+    CatalogFood food = processor.process(food("\uFEFF  닭\u200B가슴살   구이 ", "100", "109"));
+
+    assertThat(food.getFoodName()).isEqualTo("닭가슴살 구이");
+  }
+
+  @Test
+  void noInformationMarkersBecomeNull() {
+    Food food = new Food(null, "김밥", "1인분", "300", "-", "정보 없음", " ", null);
+
+    processor.process(food);
+
+    assertThat(food.getProtein()).isNull();
+    assertThat(food.getFat()).isNull();
+    assertThat(food.getCarbohydrate()).isNull();
+    assertThat(food.getOneTimeSupply()).isEqualTo("1인분");
+  }
+
+  @Test
+  void convertsUnitsToGramsAndKcal() {
+    Food food = new Food(null, "두부", "0.2kg", "418.4kJ", "500mg", "1,234", "tr", "12㎍");
+
+    processor.process(food);
+
+    assertThat(food.getOneTimeSupply()).isEqualTo("200");
+    assertThat(food.getEnergy()).isEqualTo("100");
+    assertThat(food.getProtein()).isEqualTo("0.5");
+    assertThat(food.getFat()).isEqualTo("1234");
+    assertThat(food.getCarbohydrate()).isEqualTo("0");
+    assertThat(food.getSugar()).isEqualTo("0.000012");
+  }
+
+  @Test
+  void keepsFactoryForProcessedFood() {
+    ProcessedFood food = new ProcessedFood();
+    food.setFoodName("닭가슴살 소시지");
+    food.setFactory("  하림 ");
+    food.setEnergy("120kcal");
+
+    processor.process(food);
+
+    assertThat(food.getFactory()).isEqualTo("하림");
+    assertThat(food.getEnergy()).isEqualTo("120");
+  }
+
+  @Test
+  void rejectsRowsWithoutNameOrNutrients() {
+    assertThatThrownBy(() -> processor.process(food(" ", "100", "109")))
+        .isInstanceOf(CatalogRowRejectedException.class);
+    assertThatThrownBy(() -> processor.process(food("물", "100", "-")))
+        .isInstanceOf(CatalogRowRejectedException.class);
+  }
+
+  @Test
+  void rejectsUnreadableAmountsAndUnknownUnits() {
+    assertThatThrownBy(() -> processor.process(food("김밥", "100", "많음")))
+        .isInstanceOf(CatalogRowRejectedException.class);
+    assertThatThrownBy(() -> processor.process(food("김밥", "100", "3oz")))
+        .isInstanceOf(CatalogRowRejectedException.class);
+  }
+
+  @Test
+  void rejectsDuplicatesUntilNextStep() {
+    processor.process(food("김밥", "100", "300"));
+
+    assertThatThrownBy(() -> processor.process(food("  김밥", "100g", "300kcal")))
+        .isInstanceOf(CatalogRowRejectedException.class);
+
+    processor.beforeStep(null);
+    assertThat(processor.process(food("김밥", "100", "300"))).isNotNull();
+  }
+
+  private static Food food(String name, String oneTimeSupply, String energy) {
+    return new Food(null, name, oneTimeSupply, energy, null, null, null, null);
+  }
+}
@@ -0,0 +1,37 @@
+package com.sparta.hotbody.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class NutrientParserTest {
+
+  @Test
+  void parsesPlainAndSignedNumbers() {
+    assertThat(NutrientParser.parse("368.8")).isEqualTo(368.8f);
+    assertThat(NutrientParser.parse("  12 ")).isEqualTo(12f);
+    assertThat(NutrientParser.parse(".5")).isEqualTo(0.5f);
+    assertThat(NutrientParser.parse("-1.5")).isEqualTo(-1.5f);
+  }
+
+  @Test
+  void readsLeadingNumberBeforeUnit() {
+    assertThat(NutrientParser.parse("100g")).isEqualTo(100f);
+    assertThat(NutrientParser.parse("250 ml")).isEqualTo(250f);
+  }
+
+  @Test
+  void ignoresThousandsSeparatorAndBom() {
+    assertThat(NutrientParser.parse("1,234.5")).isEqualTo(1234.5f);
+    assertThat(NutrientParser.parse("\uFEFF42")).isEqualTo(42f);
+  }
+
+  @Test
+  void returnsNullWhenThereIsNoValue() {
+    assertThat(NutrientParser.parse(null)).isNull();
+    assertThat(NutrientParser.parse("")).isNull();
+    assertThat(NutrientParser.parse("-")).isNull();
+    assertThat(NutrientParser.parse("정보 없음")).isNull();
+    assertThat(NutrientParser.parse("약 10")).isNull();
+  }
+}
@@ -0,0 +1,76 @@
+package com.sparta.hotbody.common.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.FileSystemResource;
+
+class XlsxItemReaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void readsSharedStringAndNumberCells() throws Exception {
+    XlsxItemReader<String> reader = reader(workbook());
+    reader.open(new ExecutionContext());
+    List<String> rows = new ArrayList<>();
+    for (String row = reader.read(); row != null; row = reader.read()) {
+      rows.add(row);
+    }
+    reader.close();
+
+    assertThat(rows).containsExactly("닭가슴살:109", "현미밥:0.5");
+  }
+
+  @Test
+  void rejectsSharedStringsTableOverTheCap() throws Exception {
+    XlsxItemReader<String> reader = reader(workbook());
+    reader.setMaxSharedStringsBytes(16);
+
+    assertThatThrownBy(() -> reader.open(new ExecutionContext()))
+        .isInstanceOf(ItemStreamException.class)
+        .hasRootCauseInstanceOf(IllegalStateException.class);
+  }
+
+  private XlsxItemReader<String> reader(Path path) {
+    XlsxItemReader<String> reader = new XlsxItemReader<>();
+    reader.setResource(new FileSystemResource(path));
+    reader.setLinesToSkip(1);
+    reader.setNames(new String[]{"foodName", "energy"});
+    reader.setFieldSetMapper(
+        fieldSet -> fieldSet.readString("foodName") + ":" + fieldSet.readString("energy"));
+    return reader;
+  }
+
+  private Path workbook() throws Exception {
+    Path path = tempDir.resolve("food.xlsx");
+    try (XSSFWorkbook workbook = new XSSFWorkbook();
+        OutputStream output = Files.newOutputStream(path)) {
+      Sheet sheet = workbook.createSheet();
+      Row header = sheet.createRow(0);
+      header.createCell(0).setCellValue("식품명");
+      header.createCell(1).setCellValue("에너지");
+      Row first = sheet.createRow(1);
+      first.createCell(0).setCellValue("닭가슴살");
+      first.createCell(1).setCellValue(109.0);
+      Row second = sheet.createRow(2);
+      second.createCell(0).setCellValue("현미밥");
+      second.createCell(1).setCellValue(0.5);
+      workbook.write(output);
+    }
+    return path;
+  }
+}
@@ -0,0 +1,120 @@
+package com.sparta.hotbody.common.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ClusterCoordinatorTest {
+
+  private static final Duration TTL = Duration.ofSeconds(30);
+
+  private final InMemoryClusterLock lock = new InMemoryClusterLock();
+  private final ClusterCoordinator coordinator = new ClusterCoordinator(lock);
+
+  @AfterEach
+  void tearDown() {
+    coordinator.shutdown();
+  }
+
+  @Test
+  void runsTaskAndReleasesLease() {
+    AtomicInteger runs = new AtomicInteger();
+
+    boolean ran = coordinator.runExclusively("job", TTL, () -> {
+      assertThat(coordinator.isRunning("job")).isTrue();
+      runs.incrementAndGet();
+    }, () -> { });
+
+    assertThat(ran).isTrue();
+    assertThat(runs).hasValue(1);
+    assertThat(coordinator.isRunning("job")).isFalse();
+  }
+
+  @Test
+  void skipsTaskWhileAnotherNodeHoldsLease() {
+    lock.tryLock("job", "other-node", TTL);
+    AtomicInteger runs = new AtomicInteger();
+
+    boolean ran = coordinator.runExclusively("job", TTL, runs::incrementAndGet, () -> { });
+
+    assertThat(ran).isFalse();
+    assertThat(runs).hasValue(0);
+    // 다른 노드의 lease 는 그대로
+    assertThat(lock.renew("job", "other-node", TTL)).isTrue();
+  }
+
+  @Test
+  void releasesLeaseWhenTaskFails() {
+    assertThatThrownBy(() -> coordinator.runExclusively("job", TTL, () -> {
+      throw new IllegalStateException("실패");
+    }, () -> { })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(coordinator.isRunning("job")).isFalse();
+  }
+
+  @Test
+  void stopsTaskWhenRenewalFails() throws InterruptedException {
+    ClusterLock failing = mock(ClusterLock.class);
+    given(failing.tryLock(anyString(), anyString(), any())).willReturn(true);
+    given(failing.renew(anyString(), anyString(), any())).willReturn(false);
+    ClusterCoordinator node = new ClusterCoordinator(failing);
+    CountDownLatch lost = new CountDownLatch(1);
+    AtomicInteger lostCalls = new AtomicInteger();
+
+    try {
+      // 작업은 lease 상실 통보를 받을 때까지 돈다 (job 의 stop 처럼)
+      node.runExclusively("job", Duration.ofMillis(30), () -> {
+        try {
+          assertThat(lost.await(5, TimeUnit.SECONDS)).isTrue();
+          Thread.sleep(100);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }, () -> {
+        lostCalls.incrementAndGet();
+        lost.countDown();
+      });
+    } finally {
+      node.shutdown();
+    }
+
+    // 연장은 여러 번 실패하지만 통보는 한 번
+    assertThat(lostCalls).hasValue(1);
+  }
+
+  @Test
+  void retriesRenewalErrorsUntilTtlPasses() throws InterruptedException {
+    ClusterLock flaky = mock(ClusterLock.class);
+    given(flaky.tryLock(anyString(), anyString(), any())).willReturn(true);
+    given(flaky.renew(anyString(), anyString(), any()))
+        .willThrow(new IllegalStateException("redis 연결 끊김"))
+        .willReturn(true);
+    ClusterCoordinator node = new ClusterCoordinator(flaky);
+    AtomicInteger lostCalls = new AtomicInteger();
+
+    try {
+      // 한 번의 일시 오류 뒤 연장이 다시 성공하면 lease 를 잃지 않는다
+      node.runExclusively("job", Duration.ofMillis(300), () -> {
+        try {
+          Thread.sleep(600);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }, lostCalls::incrementAndGet);
+    } finally {
+      node.shutdown();
+    }
+
+    assertThat(lostCalls).hasValue(0);
+  }
+}
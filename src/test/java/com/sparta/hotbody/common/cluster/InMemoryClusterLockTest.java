@@ -0,0 +1,46 @@
+package com.sparta.hotbody.common.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class InMemoryClusterLockTest {
+
+  private static final Duration TTL = Duration.ofSeconds(30);
+
+  private final InMemoryClusterLock lock = new InMemoryClusterLock();
+
+  @Test
+  void onlyOneOwnerHoldsLease() {
+    assertThat(lock.tryLock("job", "a", TTL)).isTrue();
+    assertThat(lock.tryLock("job", "b", TTL)).isFalse();
+    assertThat(lock.tryLock("other", "b", TTL)).isTrue();
+    assertThat(lock.isLocked("job")).isTrue();
+  }
+
+  @Test
+  void onlyOwnerRenewsAndUnlocks() {
+    lock.tryLock("job", "a", TTL);
+
+    assertThat(lock.renew("job", "b", TTL)).isFalse();
+    lock.unlock("job", "b");
+    assertThat(lock.isLocked("job")).isTrue();
+
+    assertThat(lock.renew("job", "a", TTL)).isTrue();
+    lock.unlock("job", "a");
+    assertThat(lock.isLocked("job")).isFalse();
+  }
+
+  @Test
+  void expiredLeaseCanBeTakenAndNotRenewed() throws InterruptedException {
+    lock.tryLock("job", "a", Duration.ofMillis(20));
+    Thread.sleep(50);
+
+    assertThat(lock.isLocked("job")).isFalse();
+    // 만료된 lease 는 원래 주인도 연장할 수 없다 (이미 다른 노드가 잡았을 수 있다)
+    assertThat(lock.renew("job", "a", TTL)).isFalse();
+    assertThat(lock.tryLock("job", "b", TTL)).isTrue();
+    assertThat(lock.renew("job", "a", TTL)).isFalse();
+  }
+}
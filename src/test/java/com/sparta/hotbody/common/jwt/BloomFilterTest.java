@@ -0,0 +1,74 @@
+package com.sparta.hotbody.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+  @Test
+  void containsEveryInsertedDigest() {
+    BloomFilter filter = new BloomFilter(1000, 0.001);
+    for (int i = 0; i < 1000; i++) {
+      filter.put(TokenDigest.of("token" + i));
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      assertThat(filter.mightContain(TokenDigest.of("token" + i))).isTrue();
+    }
+  }
+
+  @Test
+  void falsePositiveRateStaysNearTarget() {
+    BloomFilter filter = new BloomFilter(10000, 0.01);
+    for (int i = 0; i < 10000; i++) {
+      filter.put(TokenDigest.of("revoked" + i));
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 100000; i++) {
+      if (filter.mightContain(TokenDigest.of("other" + i))) {
+        falsePositives++;
+      }
+    }
+    // 기대 오탐률 1% (1000건), 여유를 두고 2% 미만
+    assertThat(falsePositives).isLessThan(2000);
+  }
+
+  @Test
+  void emptyFilterContainsNothing() {
+    BloomFilter filter = new BloomFilter(100, 0.001);
+
+    assertThat(filter.mightContain(TokenDigest.of("token"))).isFalse();
+  }
+
+  @Test
+  void concurrentPutsAreNotLost() throws Exception {
+    BloomFilter filter = new BloomFilter(40000, 0.001);
+    int threads = 4;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<?>> results = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int offset = t * 10000;
+      results.add(executor.submit(() -> {
+        for (int i = offset; i < offset + 10000; i++) {
+          filter.put(TokenDigest.of("token" + i));
+        }
+      }));
+    }
+    for (Future<?> result : results) {
+      result.get();
+    }
+    executor.shutdown();
+
+    // 같은 워드의 비트를 동시에 세워도 빠지는 비트가 없다
+    for (int i = 0; i < threads * 10000; i++) {
+      assertThat(filter.mightContain(TokenDigest.of("token" + i))).isTrue();
+    }
+  }
+}
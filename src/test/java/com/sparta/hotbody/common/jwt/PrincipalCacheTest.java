@@ -0,0 +1,93 @@
+package com.sparta.hotbody.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PrincipalCacheTest {
+
+  private PrincipalCache cache;
+  private final AtomicInteger loaded = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    cache = new PrincipalCache(mock(StringRedisTemplate.class),
+        mock(RedisMessageListenerContainer.class));
+    ReflectionTestUtils.setField(cache, "maxSize", 10);
+    ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(1));
+    cache.init();
+  }
+
+  @Test
+  void loadsSameUserOnlyOnce() {
+    cache.getUser("user1", this::load);
+    UserDetails userDetails = cache.getUser("user1", this::load);
+
+    assertThat(loaded).hasValue(1);
+    assertThat(userDetails.getUsername()).isEqualTo("user1");
+  }
+
+  @Test
+  void evictedUserIsLoadedAgain() {
+    cache.getUser("user1", this::load);
+
+    cache.evictUser("user1");
+    cache.getUser("user1", this::load);
+
+    assertThat(loaded).hasValue(2);
+  }
+
+  @Test
+  void loadOverlappingEvictionIsNotCached() {
+    // 권한 변경이 DB 를 읽은 뒤, 캐시에 넣기 전에 커밋되어 삭제된 경우
+    cache.getUser("user1", username -> {
+      UserDetails stale = load(username);
+      cache.evictUser(username);
+      return stale;
+    });
+
+    cache.getUser("user1", this::load);
+
+    assertThat(loaded).hasValue(2);
+  }
+
+  @Test
+  void loadOverlappingRemoteEvictionIsNotCached() {
+    cache.getAdmin("admin1", username -> {
+      UserDetails stale = load(username);
+      cache.onMessage(new DefaultMessage("principalCacheEvict".getBytes(StandardCharsets.UTF_8),
+          "ADMIN:admin1".getBytes(StandardCharsets.UTF_8)), null);
+      return stale;
+    });
+
+    cache.getAdmin("admin1", this::load);
+
+    assertThat(loaded).hasValue(2);
+  }
+
+  @Test
+  void evictionOfOtherKindDoesNotDropUser() {
+    cache.getUser("user1", this::load);
+
+    cache.evictAdmin("user1");
+    cache.getUser("user1", this::load);
+
+    assertThat(loaded).hasValue(1);
+  }
+
+  private UserDetails load(String username) {
+    loaded.incrementAndGet();
+    return User.withUsername(username).password("password").roles("USER").build();
+  }
+}
@@ -0,0 +1,88 @@
+package com.sparta.hotbody.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TokenRevocationListTest {
+
+  private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+  @SuppressWarnings("unchecked")
+  private final ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+  @SuppressWarnings("unchecked")
+  private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+  private TokenRevocationList revocationList;
+
+  @BeforeEach
+  void setUp() {
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    revocationList = new TokenRevocationList(stringRedisTemplate,
+        mock(RedisMessageListenerContainer.class));
+    ReflectionTestUtils.setField(revocationList, "expectedInsertions", 1000L);
+    ReflectionTestUtils.setField(revocationList, "falsePositiveRate", 0.001);
+    revocationList.init();
+  }
+
+  @Test
+  void writesIndexBeforeTokenKeyWithoutScript() {
+    Date expiration = new Date(System.currentTimeMillis() + 60_000);
+    String digest = TokenDigest.of("token");
+
+    revocationList.revoke("token", expiration);
+
+    // 각 명령은 키 하나만 다루므로 클러스터에서 slot 이 달라도 된다
+    InOrder order = inOrder(zSetOperations, valueOperations, stringRedisTemplate);
+    order.verify(zSetOperations).add("revokedTokens", digest, expiration.getTime());
+    order.verify(valueOperations).set(eq("revokedToken:" + digest), eq("1"), any(Duration.class));
+    order.verify(stringRedisTemplate).convertAndSend("revokedTokens", digest);
+  }
+
+  @Test
+  void revokedTokenIsCheckedAgainstTokenKey() {
+    revocationList.revoke("token", new Date(System.currentTimeMillis() + 60_000));
+    given(stringRedisTemplate.hasKey("revokedToken:" + TokenDigest.of("token")))
+        .willReturn(true);
+
+    assertThat(revocationList.isRevoked("token")).isTrue();
+    assertThat(revocationList.isRevoked("other")).isFalse();
+  }
+
+  @Test
+  void failedIndexWriteDoesNotWriteTokenKey() {
+    willThrow(new IllegalStateException("redis 연결 끊김"))
+        .given(zSetOperations).add(anyString(), anyString(), anyDouble());
+
+    assertThatThrownBy(() -> revocationList.revoke("token",
+        new Date(System.currentTimeMillis() + 60_000))).isInstanceOf(IllegalStateException.class);
+
+    verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  void expiredTokenIsIgnored() {
+    revocationList.revoke("token", new Date(System.currentTimeMillis() - 1));
+
+    verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+  }
+}
@@ -0,0 +1,65 @@
+package com.sparta.hotbody.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class VerifiedTokenCacheTest {
+
+  private VerifiedTokenCache cache;
+  private final AtomicInteger parsed = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() {
+    cache = new VerifiedTokenCache();
+    ReflectionTestUtils.setField(cache, "maxSize", 10);
+    ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(1));
+    cache.init();
+  }
+
+  @Test
+  void parsesSameTokenOnlyOnce() {
+    cache.get("token", this::parse);
+    Claims claims = cache.get("token", this::parse);
+
+    assertThat(parsed).hasValue(1);
+    assertThat(claims.getSubject()).isEqualTo("user1");
+  }
+
+  @Test
+  void changesToReturnedClaimsDoNotLeakIntoOtherRequests() {
+    Claims first = cache.get("token", this::parse);
+    first.setSubject("changed");
+    Claims second = cache.get("token", this::parse);
+    second.put(JwtUtil.AUTHORIZATION_KEY, "ADMIN");
+
+    // 캐시에 든 claims 는 처음 검증한 값 그대로다
+    Claims third = cache.get("token", this::parse);
+    assertThat(second.getSubject()).isEqualTo("user1");
+    assertThat(third.getSubject()).isEqualTo("user1");
+    assertThat(third.get(JwtUtil.AUTHORIZATION_KEY)).isEqualTo("USER");
+    assertThat(third).isNotSameAs(second);
+  }
+
+  @Test
+  void evictedTokenIsParsedAgain() {
+    cache.get("token", this::parse);
+    cache.evict("token");
+    cache.get("token", this::parse);
+
+    assertThat(parsed).hasValue(2);
+  }
+
+  private Claims parse(String token) {
+    parsed.incrementAndGet();
+    Claims claims = Jwts.claims().setSubject("user1");
+    claims.put(JwtUtil.AUTHORIZATION_KEY, "USER");
+    return claims;
+  }
+}
@@ -0,0 +1,138 @@
+package com.sparta.hotbody.common.jwt.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+  private static final Duration TTL = Duration.ofMinutes(10);
+  private static final String USER = "USER:user1";
+
+  private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+  @Test
+  void savedTokenExistsUntilDeleted() {
+    store.save("Bearer a", USER, TTL);
+
+    assertThat(store.exists("Bearer a", USER)).isTrue();
+    assertThat(store.delete("Bearer a", USER)).isTrue();
+    assertThat(store.exists("Bearer a", USER)).isFalse();
+    assertThat(store.delete("Bearer a", USER)).isFalse();
+  }
+
+  @Test
+  void expiredTokenDoesNotExist() {
+    store.save("Bearer a", USER, Duration.ZERO);
+
+    assertThat(store.exists("Bearer a", USER)).isFalse();
+    assertThat(store.delete("Bearer a", USER)).isFalse();
+  }
+
+  @Test
+  void rotateReplacesOldToken() {
+    store.save("Bearer old", USER, TTL);
+
+    assertThat(store.rotate("Bearer old", "Bearer new", USER, TTL)).isTrue();
+    assertThat(store.exists("Bearer old", USER)).isFalse();
+    assertThat(store.exists("Bearer new", USER)).isTrue();
+  }
+
+  @Test
+  void rotateFailsForUnknownOrExpiredToken() {
+    store.save("Bearer expired", USER, Duration.ZERO);
+
+    assertThat(store.rotate("Bearer unknown", "Bearer new", USER, TTL)).isFalse();
+    assertThat(store.rotate("Bearer expired", "Bearer new", USER, TTL)).isFalse();
+    assertThat(store.exists("Bearer new", USER)).isFalse();
+  }
+
+  @Test
+  void usedTokenCannotBeRotatedTwice() {
+    store.save("Bearer old", USER, TTL);
+    store.rotate("Bearer old", "Bearer new", USER, TTL);
+
+    // 이미 교체한 토큰을 다시 쓰면 (탈취된 토큰 재사용) 실패한다
+    assertThat(store.rotate("Bearer old", "Bearer other", USER, TTL)).isFalse();
+    assertThat(store.exists("Bearer other", USER)).isFalse();
+  }
+
+  @Test
+  void onlyOneConcurrentRotateWins() throws Exception {
+    store.save("Bearer old", USER, TTL);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      String next = "Bearer new" + i;
+      results.add(executor.submit(() -> {
+        start.await();
+        return store.rotate("Bearer old", next, USER, TTL);
+      }));
+    }
+    start.countDown();
+
+    int rotated = 0;
+    for (Future<Boolean> result : results) {
+      if (result.get()) {
+        rotated++;
+      }
+    }
+    executor.shutdown();
+    assertThat(rotated).isEqualTo(1);
+  }
+
+  @Test
+  void tokenOfAnotherOwnerIsNotFound() {
+    store.save("Bearer a", USER, TTL);
+
+    // users / admin 에 같은 username 이 있어도 다른 주인이다
+    assertThat(store.exists("Bearer a", "ADMIN:user1")).isFalse();
+    assertThat(store.delete("Bearer a", "ADMIN:user1")).isFalse();
+    assertThat(store.rotate("Bearer a", "Bearer new", "ADMIN:user1", TTL)).isFalse();
+    assertThat(store.exists("Bearer a", USER)).isTrue();
+  }
+
+  @Test
+  void deleteAllRemovesEverySessionOfOwner() {
+    store.save("Bearer a", USER, TTL);
+    store.save("Bearer b", USER, TTL);
+    store.save("Bearer c", "USER:user2", TTL);
+
+    assertThat(store.deleteAll(USER)).isEqualTo(2);
+    assertThat(store.exists("Bearer a", USER)).isFalse();
+    assertThat(store.exists("Bearer b", USER)).isFalse();
+    assertThat(store.exists("Bearer c", "USER:user2")).isTrue();
+    assertThat(store.deleteAll(USER)).isZero();
+  }
+
+  @Test
+  void deleteAllIncludesRotatedTokenButNotDeletedOnes() {
+    store.save("Bearer old", USER, TTL);
+    store.save("Bearer other", USER, TTL);
+    store.rotate("Bearer old", "Bearer new", USER, TTL);
+    store.delete("Bearer other", USER);
+
+    assertThat(store.deleteAll(USER)).isEqualTo(1);
+    assertThat(store.exists("Bearer new", USER)).isFalse();
+  }
+
+  @Test
+  void ownerCanLogInAgainAfterDeleteAll() {
+    store.save("Bearer a", USER, TTL);
+    store.deleteAll(USER);
+
+    store.save("Bearer b", USER, TTL);
+
+    assertThat(store.exists("Bearer b", USER)).isTrue();
+    assertThat(store.deleteAll(USER)).isEqualTo(1);
+  }
+}
@@ -0,0 +1,48 @@
+package com.sparta.hotbody.diet.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.diet.entity.FoodOfDiet;
+import com.sparta.hotbody.diet.entity.NutritionTotal;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FoodOfDietResponseDtoTest {
+
+  @Test
+  void catalogReferenceShowsStoredValuesAfterCatalogChanges() {
+    FoodOfDiet foodOfDiet = new FoodOfDiet(catalogItem("109", "23"), 2f, null);
+    // 재적재로 같은 id 의 값이 바뀐 카탈로그
+    FoodCatalogItem reloaded = catalogItem("120", "25");
+
+    FoodOfDietResponseDto responseDto = new FoodOfDietResponseDto(foodOfDiet, reloaded);
+
+    // 식단 합계에 더해진 값과 같다
+    NutritionTotal total = NutritionTotal.of(List.of(foodOfDiet));
+    assertThat(responseDto.getEnergy()).isEqualTo("218")
+        .isEqualTo(FoodOfDietResponseDto.format(total.getTotalEnergy()));
+    assertThat(responseDto.getProtein()).isEqualTo("46");
+    assertThat(responseDto.getFoodName()).isEqualTo("닭가슴살");
+    assertThat(responseDto.getSupply()).isEqualTo("200");
+    assertThat(responseDto.getCategory()).isEqualTo("음식");
+  }
+
+  @Test
+  void removedCatalogFoodKeepsStoredValues() {
+    FoodOfDiet foodOfDiet = new FoodOfDiet(catalogItem("109", "-"), 1.5f, null);
+
+    FoodOfDietResponseDto responseDto = new FoodOfDietResponseDto(foodOfDiet, null);
+
+    assertThat(responseDto.getEnergy()).isEqualTo("163.5");
+    assertThat(responseDto.getProtein()).isEqualTo("정보 없음");
+    assertThat(responseDto.getSupply()).isEqualTo("정보 없음");
+  }
+
+  private static FoodCatalogItem catalogItem(String energy, String protein) {
+    Food food = new Food(42L, "닭가슴살", "100", energy, protein, "1", "0", "0");
+    food.parseNutrients();
+    return new FoodCatalogItem(food);
+  }
+}
@@ -0,0 +1,69 @@
+package com.sparta.hotbody.diet.quick;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.diet.entity.FoodOfDiet;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class QuickFoodListTest {
+
+  @Test
+  void evictsLeastFrequentlyUsedFood() {
+    QuickFoodList list = new QuickFoodList(2, List.of(), 0L);
+    list.record(quick(1L, 10L));
+    list.record(quick(1L, 11L));
+    list.record(quick(2L, 12L));
+
+    List<String> evicted = list.record(quick(3L, 13L));
+
+    // 1 은 두 번 써서 남고, 한 번 쓴 2 가 빠진다
+    assertThat(evicted).containsExactly("c:FOOD:2");
+    assertThat(keys(list.top(QuickFoodList.FREQUENT, 10)))
+        .containsExactly("c:FOOD:1", "c:FOOD:3");
+  }
+
+  @Test
+  void breaksFrequencyTiesByLeastRecentUse() {
+    QuickFoodList list = new QuickFoodList(2, List.of(), 0L);
+    list.record(quick(1L, 20L));
+    list.record(quick(2L, 10L));
+
+    assertThat(list.record(quick(3L, 30L))).containsExactly("c:FOOD:2");
+  }
+
+  @Test
+  void neverEvictsTheFoodJustRecorded() {
+    QuickFoodList list = new QuickFoodList(1, List.of(), 0L);
+    list.record(quick(1L, 10L));
+    list.record(quick(1L, 11L));
+
+    // 새 음식은 횟수가 가장 적어도 방금 담았으므로 남는다
+    assertThat(list.record(quick(2L, 12L))).containsExactly("c:FOOD:1");
+    assertThat(list.get("c:FOOD:2")).isNotNull();
+  }
+
+  @Test
+  void mergesRepeatedFoodAndTrimsSavedListToCapacity() {
+    QuickFoodList list = new QuickFoodList(2, List.of(quick(1L, 10L), quick(2L, 20L),
+        quick(3L, 30L)), 0L);
+
+    assertThat(list.get("c:FOOD:1")).isNull();
+    list.record(quick(2L, 40L));
+    assertThat(list.get("c:FOOD:2").getCount()).isEqualTo(2);
+    assertThat(list.get("c:FOOD:2").getLastUsedAt()).isEqualTo(40L);
+    assertThat(keys(list.top(QuickFoodList.RECENT, 1))).containsExactly("c:FOOD:2");
+  }
+
+  private static QuickFood quick(long foodId, long usedAt) {
+    Food food = new Food(foodId, "음식" + foodId, "100", "100", null, null, null, null);
+    return QuickFood.of(new FoodOfDiet(new FoodCatalogItem(food), 1f, null), usedAt);
+  }
+
+  private static List<String> keys(List<QuickFood> foods) {
+    return foods.stream().map(QuickFood::getKey).collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,70 @@
+package com.sparta.hotbody.diet.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.diet.dto.FoodOfDietRequestDto;
+import com.sparta.hotbody.diet.entity.FoodOfDiet;
+import com.sparta.hotbody.diet.search.FoodCatalogItem;
+import com.sparta.hotbody.diet.search.FoodCategory;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class FoodOfDietJdbcRepositoryTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private FoodOfDietJdbcRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+        "jdbc:h2:mem:food_of_diet" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    jdbcTemplate.execute("CREATE TABLE food_of_diet (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+        + " food_name VARCHAR(255), factory VARCHAR(255), supply VARCHAR(255),"
+        + " energy VARCHAR(255), protein VARCHAR(255), fat VARCHAR(255),"
+        + " carbohydrate VARCHAR(255), sugar VARCHAR(255), energy_value FLOAT,"
+        + " protein_value FLOAT, fat_value FLOAT, carbohydrate_value FLOAT, sugar_value FLOAT,"
+        + " category VARCHAR(40), food_id BIGINT, portion FLOAT, diet_id BIGINT)");
+    repository = new FoodOfDietJdbcRepository(jdbcTemplate);
+  }
+
+  @Test
+  void savesCatalogReferenceColumns() {
+    Food food = new Food(42L, "닭가슴살", "100", "109", "23", "1", "0", "0");
+    FoodOfDiet referenced = new FoodOfDiet(new FoodCatalogItem(food), 1.5f, null);
+
+    List<Long> ids = repository.saveAll(List.of(referenced), 7L);
+
+    Map<String, Object> row = jdbcTemplate.queryForMap(
+        "SELECT category, food_id, portion, energy_value, diet_id FROM food_of_diet WHERE id = ?",
+        ids.get(0));
+    assertThat(row.get("CATEGORY")).isEqualTo(FoodCategory.FOOD.name());
+    assertThat(((Number) row.get("FOOD_ID")).longValue()).isEqualTo(42L);
+    assertThat(((Number) row.get("PORTION")).floatValue()).isEqualTo(1.5f);
+    assertThat(((Number) row.get("ENERGY_VALUE")).floatValue()).isEqualTo(163.5f);
+    assertThat(((Number) row.get("DIET_ID")).longValue()).isEqualTo(7L);
+  }
+
+  @Test
+  void copiedRowsLeaveReferenceColumnsNull() {
+    FoodOfDietRequestDto requestDto = new FoodOfDietRequestDto();
+    ReflectionTestUtils.setField(requestDto, "foodName", "엄마표 김밥");
+    ReflectionTestUtils.setField(requestDto, "energy", "300");
+    FoodOfDiet copied = new FoodOfDiet(requestDto, null);
+
+    List<Long> ids = repository.saveAll(List.of(copied), 7L);
+
+    Map<String, Object> row = jdbcTemplate.queryForMap(
+        "SELECT food_name, category, food_id, portion FROM food_of_diet WHERE id = ?",
+        ids.get(0));
+    assertThat(row.get("FOOD_NAME")).isEqualTo("엄마표 김밥");
+    assertThat(row.get("CATEGORY")).isNull();
+    assertThat(row.get("FOOD_ID")).isNull();
+    assertThat(row.get("PORTION")).isNull();
+  }
+}
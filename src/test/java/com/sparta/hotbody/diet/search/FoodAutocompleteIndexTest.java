@@ -0,0 +1,48 @@
+package com.sparta.hotbody.diet.search;
+
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.food;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FoodAutocompleteIndexTest {
+
+  private final FoodAutocompleteIndex index = FoodAutocompleteIndex.build(List.of(
+      food(1L, "닭갈비"),
+      food(2L, "닭가슴살"),
+      food(3L, "닭"),
+      food(4L, "달걀찜"),
+      food(5L, "된장국"),
+      food(6L, "닭갈비"),
+      food(7L, " ")));
+
+  @Test
+  void partialSyllablePrefixMatchesNamesInLengthThenLexicalOrder() {
+    // "닭가" 는 "닭갈" 을 치는 중간 상태이기도 하다
+    assertThat(index.suggest("닭가", 10)).containsExactly("닭갈비", "닭가슴살");
+    assertThat(index.suggest("닭ㄱ", 10)).containsExactly("닭갈비", "닭가슴살");
+    assertThat(index.suggest("닭가스", 10)).containsExactly("닭가슴살");
+    assertThat(index.suggest("달", 10)).containsExactly("닭", "달걀찜", "닭갈비", "닭가슴살");
+  }
+
+  @Test
+  void chosungQueryMatchesInitialConsonants() {
+    assertThat(index.suggest("ㄷㄱ", 10)).containsExactly("달걀찜", "닭갈비", "닭가슴살");
+    assertThat(index.suggest("ㄷㄱㅂ", 10)).containsExactly("닭갈비");
+    assertThat(index.suggest("ㄷ", 10))
+        .containsExactly("닭", "달걀찜", "닭갈비", "된장국", "닭가슴살");
+  }
+
+  @Test
+  void duplicateAndBlankNamesAreSuggestedOnce() {
+    assertThat(index.suggest("닭갈", 10)).containsExactly("닭갈비");
+  }
+
+  @Test
+  void sizeLimitsResultsToTheHighestRanked() {
+    assertThat(index.suggest("ㄷ", 2)).containsExactly("닭", "달걀찜");
+    assertThat(index.suggest("ㄷ", 0)).isEmpty();
+    assertThat(index.suggest(" ", 5)).isEmpty();
+  }
+}
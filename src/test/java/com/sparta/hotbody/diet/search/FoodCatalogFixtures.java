@@ -0,0 +1,77 @@
+package com.sparta.hotbody.diet.search;
+
+import com.sparta.hotbody.common.batch.NutrientParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+// 테스트용 카탈로그 음식 (영양성분은 FoodNutrient 순서, 정보가 없으면 NaN)
+final class FoodCatalogFixtures {
+
+  private FoodCatalogFixtures() {
+  }
+
+  static FoodCatalogItem item(FoodCategory category, long id, String foodName,
+      float... nutrients) {
+    float[] values = new float[FoodNutrient.values().length];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i < nutrients.length ? nutrients[i] : Float.NaN;
+    }
+    return new FoodCatalogItem(category, id, foodName, "정보 없음", "100g",
+        text(values[0]), text(values[1]), text(values[2]), text(values[3]), text(values[4]),
+        values);
+  }
+
+  static FoodCatalogItem food(long id, String foodName, float... nutrients) {
+    return item(FoodCategory.FOOD, id, foodName, nutrients);
+  }
+
+  /**
+   * src/main/resources/foodData 의 CSV 3종(농축산물, 수산물, 음식)을 DB 없이 카탈로그 음식으로 읽는다.
+   * id 는 파일 안의 행 번호다.
+   */
+  static List<FoodCatalogItem> bundledCsv() {
+    List<FoodCatalogItem> items = new ArrayList<>();
+    readCsv("/foodData/agriculturalAndLivestockProducts.csv",
+        FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS, items);
+    readCsv("/foodData/aquaticProducts.csv", FoodCategory.AQUATIC_PRODUCTS, items);
+    readCsv("/foodData/food.csv", FoodCategory.FOOD, items);
+    return items;
+  }
+
+  private static void readCsv(String path, FoodCategory category, List<FoodCatalogItem> items) {
+    DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(",");
+    tokenizer.setStrict(false);
+    try (InputStream input = FoodCatalogFixtures.class.getResourceAsStream(path);
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      // 첫 줄은 헤더
+      reader.readLine();
+      long id = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        FieldSet fields = tokenizer.tokenize(line);
+        float[] nutrients = new float[FoodNutrient.values().length];
+        for (int i = 0; i < nutrients.length; i++) {
+          Float value = i + 2 < fields.getFieldCount()
+              ? NutrientParser.parse(fields.readString(i + 2)) : null;
+          nutrients[i] = value == null ? Float.NaN : value;
+        }
+        items.add(item(category, ++id, fields.readString(0), nutrients));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String text(float value) {
+    return Float.isNaN(value) ? "정보 없음" : String.valueOf(value);
+  }
+}
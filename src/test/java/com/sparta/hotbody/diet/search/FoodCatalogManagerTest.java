@@ -0,0 +1,126 @@
+package com.sparta.hotbody.diet.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sparta.hotbody.common.batch.CatalogRowHasher;
+import com.sparta.hotbody.common.batch.agriculturalAndLivestockProducts.AgriculturalAndLivestockProductsRepository;
+import com.sparta.hotbody.common.batch.aquaticProducts.AquaticProductsRepository;
+import com.sparta.hotbody.common.batch.food.Food;
+import com.sparta.hotbody.common.batch.food.FoodRepository;
+import com.sparta.hotbody.common.batch.processedfood.ProcessedFoodRepository;
+import com.sparta.hotbody.common.cluster.ClusterCoordinator;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class FoodCatalogManagerTest {
+
+  private final FoodRepository foodRepository = mock(FoodRepository.class);
+  private JdbcTemplate jdbcTemplate;
+
+  @TempDir
+  Path dir;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+        "jdbc:h2:mem:catalog" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+    // 비교에는 id 와 row_hash 만 쓴다
+    for (FoodCategory category : FoodCategory.values()) {
+      jdbcTemplate.execute("CREATE TABLE " + category.getTable()
+          + " (id BIGINT PRIMARY KEY, row_hash VARCHAR(64))");
+    }
+  }
+
+  @Test
+  void syncIgnoresUnchangedDatabase() {
+    importFoods(food(1L, "김밥", "300"), food(2L, "라면", "500"));
+    FoodCatalogManager manager = manager();
+    manager.reload();
+
+    manager.syncWithDatabase();
+
+    verify(foodRepository, times(1)).findAll();
+  }
+
+  @Test
+  void syncReloadsWhenImportChangesValuesButKeepsIds() {
+    importFoods(food(1L, "김밥", "300"), food(2L, "라면", "500"));
+    FoodCatalogManager manager = manager();
+    manager.reload();
+
+    // 다른 노드의 delta import : 건수, id 합계, 최대 id 는 그대로이고 라면의 값만 바뀐다
+    importFoods(food(1L, "김밥", "300"), food(2L, "라면", "550"));
+    manager.syncWithDatabase();
+
+    verify(foodRepository, times(2)).findAll();
+    assertThat(manager.getCatalog().search(FoodCategory.FOOD, "라면",
+        PageRequest.of(0, 10)).getContent())
+        .extracting("energy").containsExactly("550");
+  }
+
+  @Test
+  void verifySnapshotRejectsSnapshotOfOlderImport() {
+    importFoods(food(1L, "김밥", "300"), food(2L, "라면", "500"));
+    FoodCatalogManager writer = manager();
+    writer.reload();
+
+    // 스냅샷을 쓴 뒤 값만 바뀐 import 가 있었고, 노드가 다시 뜬다
+    importFoods(food(1L, "김밥", "300"), food(2L, "라면", "550"));
+    FoodCatalogManager restarted = manager();
+    restarted.loadSnapshot();
+    restarted.verifySnapshot();
+
+    verify(foodRepository, times(2)).findAll();
+  }
+
+  @Test
+  void verifySnapshotKeepsMatchingSnapshot() {
+    importFoods(food(1L, "김밥", "300"), food(2L, "라면", "500"));
+    manager().reload();
+
+    FoodCatalogManager restarted = manager();
+    restarted.loadSnapshot();
+    restarted.verifySnapshot();
+
+    verify(foodRepository, times(1)).findAll();
+    assertThat(restarted.getCatalog().size()).isEqualTo(2);
+  }
+
+  // DB 행과 repository 결과를 같은 내용으로 맞춘다 (import 결과)
+  private void importFoods(Food... foods) {
+    jdbcTemplate.update("DELETE FROM food");
+    for (Food food : foods) {
+      jdbcTemplate.update("INSERT INTO food (id, row_hash) VALUES (?, ?)", food.getId(),
+          food.getRowHash());
+    }
+    given(foodRepository.findAll()).willReturn(List.of(foods));
+  }
+
+  private FoodCatalogManager manager() {
+    FoodCatalogManager manager = new FoodCatalogManager(
+        mock(AgriculturalAndLivestockProductsRepository.class),
+        mock(AquaticProductsRepository.class), foodRepository,
+        mock(ProcessedFoodRepository.class), jdbcTemplate, mock(ClusterCoordinator.class));
+    ReflectionTestUtils.setField(manager, "snapshotPath",
+        dir.resolve("food-catalog.bin").toString());
+    return manager;
+  }
+
+  private static Food food(Long id, String name, String energy) {
+    Food food = new Food(id, name, "100", energy, null, null, null, null);
+    food.parseNutrients();
+    food.setRowHash(CatalogRowHasher.hash(food));
+    return food;
+  }
+}
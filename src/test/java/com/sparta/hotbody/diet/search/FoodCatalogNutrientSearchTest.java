@@ -0,0 +1,150 @@
+package com.sparta.hotbody.diet.search;
+
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.food;
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.item;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.hotbody.diet.dto.FoodResponseDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class FoodCatalogNutrientSearchTest {
+
+  private static final float NO_VALUE = Float.NaN;
+
+  private final FoodCatalog catalog = FoodCatalog.build(List.of(
+      food(1L, "닭가슴살", 109f, 23f),
+      food(2L, "훈제 닭가슴살", 120f, 22f),
+      food(3L, "닭볶음탕", 250f, NO_VALUE),
+      food(4L, "닭죽", NO_VALUE, 5f),
+      item(FoodCategory.PROCESSED_FOOD, 5L, "닭가슴살 소시지", 90f, 15f)), 1L);
+
+  @Test
+  void sortsOnlyTheMatchesAndPutsMissingValuesLast() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "닭",
+        filter(FoodNutrient.ENERGY, false), PageRequest.of(0, 10));
+
+    assertThat(names(page)).containsExactly("닭볶음탕", "훈제 닭가슴살", "닭가슴살", "닭죽");
+    assertThat(page.getTotalElements()).isEqualTo(4);
+  }
+
+  @Test
+  void sortWithoutSearchWordStaysInsideTheCategory() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "",
+        filter(FoodNutrient.PROTEIN, true), PageRequest.of(1, 2));
+
+    assertThat(names(page)).containsExactly("닭가슴살", "닭볶음탕");
+    assertThat(page.getTotalElements()).isEqualTo(4);
+  }
+
+  @Test
+  void rangeExcludesMissingValuesAndOtherCategories() {
+    float[] min = nan();
+    float[] max = nan();
+    min[FoodNutrient.PROTEIN.ordinal()] = 10f;
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "",
+        new FoodNutrientFilter(min, max, null, true), PageRequest.of(0, 10));
+
+    assertThat(names(page)).containsExactly("훈제 닭가슴살", "닭가슴살");
+  }
+
+  @Test
+  void matchesBruteForceOnRandomCatalog() {
+    Random random = new Random(42);
+    String[] words = {"닭", "가슴", "밥", "국", "김치"};
+    List<FoodCatalogItem> items = new ArrayList<>();
+    for (int i = 0; i < 400; i++) {
+      FoodCategory category = FoodCategory.values()[random.nextInt(4)];
+      String name = words[random.nextInt(words.length)] + words[random.nextInt(words.length)];
+      float[] nutrients = new float[FoodNutrient.values().length];
+      for (int n = 0; n < nutrients.length; n++) {
+        nutrients[n] = random.nextInt(5) == 0 ? NO_VALUE : random.nextInt(21) - 5;
+      }
+      items.add(item(category, i + 1, name, nutrients));
+    }
+    FoodCatalog randomCatalog = FoodCatalog.build(items, 1L);
+
+    for (int round = 0; round < 200; round++) {
+      FoodCategory category = random.nextBoolean()
+          ? null : FoodCategory.values()[random.nextInt(4)];
+      String word = random.nextInt(3) == 0 ? "" : words[random.nextInt(words.length)];
+      float[] min = nan();
+      float[] max = nan();
+      if (random.nextBoolean()) {
+        int n = random.nextInt(min.length);
+        min[n] = random.nextInt(10) - 5;
+        max[n] = min[n] + random.nextInt(10);
+      }
+      FoodNutrient sortBy = FoodNutrient.values()[random.nextInt(FoodNutrient.values().length)];
+      FoodNutrientFilter filter = new FoodNutrientFilter(min, max, sortBy, random.nextBoolean());
+      PageRequest pageable = PageRequest.of(random.nextInt(3), 7);
+
+      Page<FoodResponseDto> page = category == null
+          ? randomCatalog.searchAll(word, filter, pageable)
+          : randomCatalog.search(category, word, filter, pageable);
+      List<Long> expected = bruteForce(randomCatalog, category, word, filter);
+
+      assertThat(page.getTotalElements()).isEqualTo(expected.size());
+      assertThat(ids(page)).containsExactlyElementsOf(expected.subList(
+          Math.min((int) pageable.getOffset(), expected.size()),
+          Math.min((int) pageable.getOffset() + 7, expected.size())));
+    }
+  }
+
+  // 전체 문서를 훑어 같은 순서(값, 문서 번호 / 내림차순은 역순, 값이 없으면 문서 번호 순으로 뒤에)를 만든다
+  private static List<Long> bruteForce(FoodCatalog catalog, FoodCategory category, String word,
+      FoodNutrientFilter filter) {
+    FoodNutrientColumns columns = FoodNutrientColumns.build(
+        docs(catalog).toArray(new FoodCatalogItem[0]));
+    FoodNutrient sortBy = filter.getSortBy();
+    List<Integer> ranked = new ArrayList<>();
+    List<Integer> missing = new ArrayList<>();
+    for (int doc = 0; doc < catalog.size(); doc++) {
+      FoodCatalogItem item = catalog.item(doc);
+      if ((category != null && item.getCategory() != category)
+          || !item.getFoodName().contains(word) || !filter.matches(columns, doc)) {
+        continue;
+      }
+      (Float.isNaN(columns.value(sortBy, doc)) ? missing : ranked).add(doc);
+    }
+    Comparator<Integer> order = Comparator.<Integer>comparingDouble(
+        doc -> columns.value(sortBy, doc)).thenComparingInt(doc -> doc);
+    ranked.sort(filter.isAsc() ? order : order.reversed());
+    ranked.addAll(missing);
+    return ranked.stream().map(doc -> catalog.item(doc).getId()).collect(Collectors.toList());
+  }
+
+  private static List<FoodCatalogItem> docs(FoodCatalog catalog) {
+    List<FoodCatalogItem> docs = new ArrayList<>();
+    for (int doc = 0; doc < catalog.size(); doc++) {
+      docs.add(catalog.item(doc));
+    }
+    return docs;
+  }
+
+  private static FoodNutrientFilter filter(FoodNutrient sortBy, boolean asc) {
+    return new FoodNutrientFilter(nan(), nan(), sortBy, asc);
+  }
+
+  private static float[] nan() {
+    float[] values = new float[FoodNutrient.values().length];
+    Arrays.fill(values, NO_VALUE);
+    return values;
+  }
+
+  private static List<String> names(Page<FoodResponseDto> page) {
+    return page.getContent().stream().map(FoodResponseDto::getFoodName)
+        .collect(Collectors.toList());
+  }
+
+  private static List<Long> ids(Page<FoodResponseDto> page) {
+    return page.getContent().stream().map(FoodResponseDto::getId).collect(Collectors.toList());
+  }
+}
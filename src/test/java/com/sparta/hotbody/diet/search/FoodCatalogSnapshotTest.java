@@ -0,0 +1,113 @@
+package com.sparta.hotbody.diet.search;
+
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.food;
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.item;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FoodCatalogSnapshotTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void roundTripKeepsItemsAndFingerprint() throws IOException {
+    FoodCatalog catalog = FoodCatalog.build(List.of(
+        food(2L, "김밥", 300f, 8f, 5f, 50f, 2f),
+        food(1L, "물"),
+        item(FoodCategory.AQUATIC_PRODUCTS, 3L, "고등어", 200f, 20f, 12f),
+        new FoodCatalogItem(FoodCategory.PROCESSED_FOOD, 4L, "과자", null, "30g", "150",
+            null, null, null, null, new float[]{150f, Float.NaN, Float.NaN, Float.NaN,
+            Float.NaN})), 1L);
+    FoodCatalogFingerprint fingerprint = new FoodCatalogFingerprint();
+    fingerprint.add(FoodCategory.FOOD, 1L, "00112233445566778899aabbccddeeff");
+    fingerprint.add(FoodCategory.FOOD, 2L, null);
+    Path path = dir.resolve("catalog.bin");
+
+    FoodCatalogSnapshot.write(catalog, fingerprint, path);
+    FoodCatalogSnapshot snapshot = FoodCatalogSnapshot.read(path);
+
+    List<FoodCatalogItem> items = snapshot.getItems();
+    assertThat(items).hasSize(catalog.size());
+    for (int doc = 0; doc < catalog.size(); doc++) {
+      FoodCatalogItem expected = catalog.item(doc);
+      FoodCatalogItem actual = items.get(doc);
+      // null 문자열과 NaN(정보 없음)도 그대로 돌아온다
+      assertThat(List.of(actual.getCategory(), actual.getId(), actual.getFoodName(),
+          String.valueOf(actual.getFactory()), actual.getOneTimeSupply(),
+          String.valueOf(actual.getEnergy()), String.valueOf(actual.getSugar())))
+          .isEqualTo(List.of(expected.getCategory(), expected.getId(), expected.getFoodName(),
+              String.valueOf(expected.getFactory()), expected.getOneTimeSupply(),
+              String.valueOf(expected.getEnergy()), String.valueOf(expected.getSugar())));
+      assertThat(actual.getNutrients()).isEqualTo(expected.getNutrients());
+    }
+    assertThat(snapshot.getFingerprint()).isEqualTo(fingerprint);
+  }
+
+  @Test
+  void nullIdIsReadAsZero() throws IOException {
+    FoodCatalog catalog = FoodCatalog.build(List.of(new FoodCatalogItem(FoodCategory.FOOD, null,
+        "직접 입력", null, null, null, null, null, null, null, new float[5])), 1L);
+    Path path = dir.resolve("catalog.bin");
+
+    FoodCatalogSnapshot.write(catalog, new FoodCatalogFingerprint(), path);
+
+    assertThat(FoodCatalogSnapshot.read(path).getItems()).extracting(FoodCatalogItem::getId)
+        .containsExactly(0L);
+  }
+
+  @Test
+  void rejectsCorruptedRecords() throws IOException {
+    Path path = write();
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      long position = file.length() / 2;
+      file.seek(position);
+      int value = file.read();
+      file.seek(position);
+      file.write(value ^ 0xFF);
+    }
+
+    assertThatThrownBy(() -> FoodCatalogSnapshot.read(path))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("checksum");
+  }
+
+  @Test
+  void rejectsOtherVersion() throws IOException {
+    Path path = write();
+    // 헤더의 magic 다음 int 가 version
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.seek(Integer.BYTES);
+      file.writeInt(1);
+    }
+
+    assertThatThrownBy(() -> FoodCatalogSnapshot.read(path))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("형식");
+  }
+
+  @Test
+  void rejectsTruncatedFile() throws IOException {
+    Path path = write();
+    byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, 10));
+
+    assertThatThrownBy(() -> FoodCatalogSnapshot.read(path)).isInstanceOf(IOException.class);
+  }
+
+  private Path write() throws IOException {
+    Path path = dir.resolve("catalog.bin");
+    FoodCatalogSnapshot.write(FoodCatalog.build(List.of(food(1L, "김밥", 300f),
+        food(2L, "라면", 500f)), 1L), new FoodCatalogFingerprint(), path);
+    return path;
+  }
+}
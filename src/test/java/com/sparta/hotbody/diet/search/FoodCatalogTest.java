@@ -0,0 +1,87 @@
+package com.sparta.hotbody.diet.search;
+
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.food;
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.item;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sparta.hotbody.diet.dto.FoodResponseDto;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class FoodCatalogTest {
+
+  private final FoodCatalog catalog = FoodCatalog.build(List.of(
+      food(1L, "닭가슴살"),
+      food(2L, "훈제 닭가슴살"),
+      food(3L, "닭볶음탕"),
+      food(4L, "가슴 편육"),
+      food(5L, "Chicken Breast"),
+      food(7L, "닭가루 가슴"),
+      item(FoodCategory.PROCESSED_FOOD, 6L, "닭가슴살 소시지")), 1L);
+
+  @Test
+  void searchReturnsContainingNamesInIdDescendingOrder() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "가슴살",
+        PageRequest.of(0, 10));
+
+    assertThat(names(page)).containsExactly("훈제 닭가슴살", "닭가슴살");
+    assertThat(page.getTotalElements()).isEqualTo(2);
+  }
+
+  @Test
+  void searchMatchesWholeWordOnlyNotScatteredBigrams() {
+    // "닭가" 와 "가슴" bigram 은 모두 있지만 "닭가슴" 이 이어져 있지 않은 이름은 제외
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "닭가슴",
+        PageRequest.of(0, 10));
+
+    assertThat(names(page)).containsExactly("훈제 닭가슴살", "닭가슴살");
+  }
+
+  @Test
+  void singleCharacterSearchUsesUnigrams() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "닭", PageRequest.of(0, 10));
+
+    assertThat(names(page)).containsExactly("닭가루 가슴", "닭볶음탕", "훈제 닭가슴살", "닭가슴살");
+  }
+
+  @Test
+  void searchIsCaseInsensitive() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "chicken",
+        PageRequest.of(0, 10));
+
+    assertThat(names(page)).containsExactly("Chicken Breast");
+  }
+
+  @Test
+  void searchStaysInsideTheCategory() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.PROCESSED_FOOD, "닭가슴살",
+        PageRequest.of(0, 10));
+
+    assertThat(names(page)).containsExactly("닭가슴살 소시지");
+  }
+
+  @Test
+  void searchPagesWithTotalOfAllMatches() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "닭", PageRequest.of(1, 2));
+
+    assertThat(names(page)).containsExactly("훈제 닭가슴살", "닭가슴살");
+    assertThat(page.getTotalElements()).isEqualTo(4);
+  }
+
+  @Test
+  void unknownBigramFindsNothing() {
+    Page<FoodResponseDto> page = catalog.search(FoodCategory.FOOD, "없는음식",
+        PageRequest.of(0, 10));
+
+    assertThat(page.getContent()).isEmpty();
+    assertThat(page.getTotalElements()).isZero();
+  }
+
+  private static List<String> names(Page<FoodResponseDto> page) {
+    return page.getContent().stream().map(FoodResponseDto::getFoodName)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,124 @@
+package com.sparta.hotbody.diet.search;
+
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.food;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FoodFuzzyIndexTest {
+
+  @Test
+  void allowedDistanceGrowsWithQueryLength() {
+    assertThat(FoodFuzzyIndex.distanceLimit(2)).isZero();
+    assertThat(FoodFuzzyIndex.distanceLimit(3)).isEqualTo(1);
+    assertThat(FoodFuzzyIndex.distanceLimit(5)).isEqualTo(1);
+    assertThat(FoodFuzzyIndex.distanceLimit(6)).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  void shortQueryToleratesOnlyOneJamo() {
+    FoodCatalogItem[] items = {food(1L, "밥"), food(2L, "박"), food(3L, "법"), food(4L, "벅")};
+    FoodFuzzyIndex index = FoodFuzzyIndex.build(items);
+
+    // "밥"(ㅂㅏㅂ) 은 3 자모라 거리 1 까지만, "벅" 은 거리 2
+    assertThat(docs(index.search("밥", 2, 0, items.length))).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void longQueryUsesRequestedDistance() {
+    FoodCatalogItem[] items = {food(1L, "닭가슴살"), food(2L, "닭갈비"), food(3L, "닥가삼살")};
+    FoodFuzzyIndex index = FoodFuzzyIndex.build(items);
+
+    long[] result = index.search("닭가슴살", 2, 0, items.length);
+
+    assertThat(docs(result)).containsExactly(0, 2);
+    assertThat(result[1] >>> 32).isEqualTo(2);
+  }
+
+  @Test
+  void resultsStayInsideTheDocumentRange() {
+    FoodCatalogItem[] items = {food(1L, "김치찌개"), food(2L, "김치찌게"), food(3L, "김치찌개")};
+    FoodFuzzyIndex index = FoodFuzzyIndex.build(items);
+
+    assertThat(docs(index.search("김치찌개", 1, 1, 3))).containsExactly(1, 2);
+  }
+
+  @Test
+  void matchesBruteForceOnBundledCsv() {
+    FoodCatalogItem[] items = FoodCatalogFixtures.bundledCsv().toArray(new FoodCatalogItem[0]);
+    FoodFuzzyIndex index = FoodFuzzyIndex.build(items);
+    List<String[]> keys = keysOf(items);
+    Random random = new Random(7);
+
+    for (int round = 0; round < 40; round++) {
+      String[] docKeys = keys.get(random.nextInt(keys.size()));
+      String query = mutate(docKeys[random.nextInt(docKeys.length)], random);
+      int maxDistance = random.nextInt(3);
+
+      assertThat(index.search(query, maxDistance, 0, items.length))
+          .as(query).containsExactly(bruteForce(keys, query, maxDistance));
+    }
+  }
+
+  // 모든 문서의 모든 키와 거리를 직접 계산
+  private static long[] bruteForce(List<String[]> keys, String query, int maxDistance) {
+    int limit = Math.min(maxDistance, FoodFuzzyIndex.distanceLimit(query.length()));
+    int[] row = new int[256];
+    int[] previous = new int[256];
+    List<Long> result = new ArrayList<>();
+    for (int doc = 0; doc < keys.size(); doc++) {
+      int best = Integer.MAX_VALUE;
+      for (String key : keys.get(doc)) {
+        best = Math.min(best, FoodFuzzyIndex.distance(query, key, row, previous));
+      }
+      if (best <= limit) {
+        result.add(((long) best << 32) | doc);
+      }
+    }
+    return result.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  private static List<String[]> keysOf(FoodCatalogItem[] items) {
+    List<String[]> keys = new ArrayList<>();
+    for (FoodCatalogItem item : items) {
+      List<String> docKeys = new ArrayList<>();
+      docKeys.add(HangulUtils.toJamo(item.getFoodName()));
+      for (String token : item.getFoodName().split(FoodFuzzyIndex.TOKEN_DELIMITER)) {
+        String key = HangulUtils.toJamo(token);
+        if (!key.isEmpty()) {
+          docKeys.add(key);
+        }
+      }
+      keys.add(docKeys.toArray(new String[0]));
+    }
+    return keys;
+  }
+
+  // 자모 하나를 바꾸거나 지우거나 끼워 넣은 오타
+  private static String mutate(String key, Random random) {
+    StringBuilder sb = new StringBuilder(key);
+    int position = random.nextInt(sb.length());
+    switch (random.nextInt(3)) {
+      case 0:
+        sb.setCharAt(position, 'ㅇ');
+        break;
+      case 1:
+        sb.deleteCharAt(position);
+        break;
+      default:
+        sb.insert(position, 'ㅎ');
+    }
+    return sb.toString();
+  }
+
+  private static int[] docs(long[] result) {
+    int[] docs = new int[result.length];
+    for (int i = 0; i < result.length; i++) {
+      docs[i] = (int) result[i];
+    }
+    return docs;
+  }
+}
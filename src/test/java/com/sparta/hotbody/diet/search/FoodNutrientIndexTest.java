@@ -0,0 +1,78 @@
+package com.sparta.hotbody.diet.search;
+
+import static com.sparta.hotbody.diet.search.FoodCatalogFixtures.item;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class FoodNutrientIndexTest {
+
+  private static final float NO_VALUE = Float.NaN;
+
+  // 카탈로그와 같이 카테고리 순서로 묶인 문서 (0~2 농축산물, 3~5 음식)
+  private final FoodCatalogItem[] items = {
+      item(FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS, 3L, "사과", 50f),
+      item(FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS, 2L, "배", NO_VALUE),
+      item(FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS, 1L, "감", -1.5f),
+      item(FoodCategory.FOOD, 6L, "비빔밥", 50f),
+      item(FoodCategory.FOOD, 5L, "김밥", 0f),
+      item(FoodCategory.FOOD, 4L, "라면", NO_VALUE)};
+  private final int[] categoryStart = {0, 3, 3, 6, 6};
+  private final FoodNutrientIndex index = FoodNutrientIndex.build(
+      FoodNutrientColumns.build(items), categoryStart);
+
+  @Test
+  void sortsValuesAscendingIncludingNegativesAndSkipsMissing() {
+    assertThat(ranked(null)).containsExactly(2, 4, 0, 3);
+  }
+
+  @Test
+  void missingValuesAreKeptApartInDocOrder() {
+    assertThat(index.missingDocs(FoodNutrient.ENERGY)).containsExactly(1, 5);
+  }
+
+  @Test
+  void categoryOrderOnlyCoversTheCategoryRange() {
+    assertThat(ranked(FoodCategory.AGRICULTURAL_AND_LIVESTOCK_PRODUCTS)).containsExactly(2, 0);
+    assertThat(ranked(FoodCategory.FOOD)).containsExactly(4, 3);
+    assertThat(ranked(FoodCategory.AQUATIC_PRODUCTS)).isEmpty();
+  }
+
+  @Test
+  void boundsAreInclusiveOnBothEnds() {
+    // 0 이상 50 이하 : 김밥(0), 사과(50), 비빔밥(50)
+    int low = index.lowerBound(FoodNutrient.ENERGY, null, 0f);
+    int high = index.upperBound(FoodNutrient.ENERGY, null, 50f);
+
+    assertThat(docs(null, low, high)).containsExactly(4, 0, 3);
+  }
+
+  @Test
+  void missingBoundIsOpen() {
+    assertThat(index.lowerBound(FoodNutrient.ENERGY, null, NO_VALUE)).isZero();
+    assertThat(index.upperBound(FoodNutrient.ENERGY, null, NO_VALUE)).isEqualTo(4);
+    assertThat(index.upperBound(FoodNutrient.ENERGY, null, -2f)).isZero();
+    assertThat(index.lowerBound(FoodNutrient.ENERGY, null, 51f)).isEqualTo(4);
+  }
+
+  @Test
+  void boundsStayInsideTheCategory() {
+    FoodCategory category = FoodCategory.FOOD;
+    int low = index.lowerBound(FoodNutrient.ENERGY, category, -10f);
+    int high = index.upperBound(FoodNutrient.ENERGY, category, 10f);
+
+    assertThat(docs(category, low, high)).containsExactly(4);
+    assertThat(low).isGreaterThanOrEqualTo(index.start(FoodNutrient.ENERGY, category));
+    assertThat(high).isLessThanOrEqualTo(index.end(FoodNutrient.ENERGY, category));
+  }
+
+  private int[] ranked(FoodCategory category) {
+    return docs(category, index.start(FoodNutrient.ENERGY, category),
+        index.end(FoodNutrient.ENERGY, category));
+  }
+
+  private int[] docs(FoodCategory category, int from, int to) {
+    return Arrays.copyOfRange(index.sortedDocs(FoodNutrient.ENERGY, category), from, to);
+  }
+}
@@ -0,0 +1,43 @@
+package com.sparta.hotbody.diet.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulUtilsTest {
+
+  @Test
+  void toJamoSplitsSyllablesAndCompoundJamo() {
+    assertThat(HangulUtils.toJamo("닭갈비")).isEqualTo("ㄷㅏㄹㄱㄱㅏㄹㅂㅣ");
+    // 겹모음 ㅘ, 홑받침 ㄴ
+    assertThat(HangulUtils.toJamo("관")).isEqualTo("ㄱㅗㅏㄴ");
+  }
+
+  @Test
+  void toJamoMatchesWhatIsTypedMidSyllable() {
+    // "닭" 을 치는 중간 상태 "달ㄱ" 과 "닭" 의 자모가 같은 접두어가 된다
+    assertThat(HangulUtils.toJamo("닭갈비")).startsWith(HangulUtils.toJamo("달ㄱ"));
+    assertThat(HangulUtils.toJamo("닭갈비")).startsWith(HangulUtils.toJamo("ㄷㅏㄺ"));
+  }
+
+  @Test
+  void toJamoDropsWhitespaceAndLowercasesLatin() {
+    assertThat(HangulUtils.toJamo("Tea 차")).isEqualTo("teaㅊㅏ");
+    assertThat(HangulUtils.toJamo(null)).isEmpty();
+  }
+
+  @Test
+  void toChosungKeepsOnlyInitialConsonants() {
+    assertThat(HangulUtils.toChosung("닭 가슴살")).isEqualTo("ㄷㄱㅅㅅ");
+    assertThat(HangulUtils.toChosung("쌀밥")).isEqualTo("ㅆㅂ");
+    assertThat(HangulUtils.toChosung("A1 우유")).isEqualTo("a1ㅇㅇ");
+  }
+
+  @Test
+  void chosungQueryNeedsConsonantsOnly() {
+    assertThat(HangulUtils.isChosungQuery("ㄷㄱ ㅂ")).isTrue();
+    assertThat(HangulUtils.isChosungQuery("ㄷㅏ")).isFalse();
+    assertThat(HangulUtils.isChosungQuery("닭")).isFalse();
+    assertThat(HangulUtils.isChosungQuery(" ")).isFalse();
+  }
+}
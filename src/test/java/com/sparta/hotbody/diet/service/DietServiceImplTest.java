@@ -0,0 +1,106 @@
+package com.sparta.hotbody.diet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.sparta.hotbody.diet.entity.Diet;
+import com.sparta.hotbody.diet.entity.MealSlot;
+import com.sparta.hotbody.diet.dto.FoodOfDietRequestDto;
+import com.sparta.hotbody.diet.repository.DietRepository;
+import com.sparta.hotbody.diet.repository.FoodOfDietJdbcRepository;
+import com.sparta.hotbody.diet.repository.NutritionTotalJdbcRepository;
+import com.sparta.hotbody.exception.CustomException;
+import com.sparta.hotbody.exception.ExceptionStatus;
+import com.sparta.hotbody.user.entity.User;
+import com.sparta.hotbody.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@ExtendWith(MockitoExtension.class)
+class DietServiceImplTest {
+
+  private static final LocalDate DATE = LocalDate.of(2023, 2, 1);
+
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private DietRepository dietRepository;
+  @Mock
+  private FoodOfDietJdbcRepository foodOfDietJdbcRepository;
+  @Mock
+  private NutritionTotalJdbcRepository nutritionTotalJdbcRepository;
+  @InjectMocks
+  private DietServiceImpl dietService;
+
+  private final UserDetails userDetails = mock(UserDetails.class);
+
+  @BeforeEach
+  void setUp() {
+    User user = mock(User.class);
+    given(user.getId()).willReturn(1L);
+    given(userDetails.getUsername()).willReturn("user");
+    given(userRepository.findByUsername("user")).willReturn(Optional.of(user));
+  }
+
+  @Test
+  void concurrentInsertReturnsTheDietCreatedFirst() {
+    Diet created = mock(Diet.class);
+    given(created.getId()).willReturn(7L);
+    given(dietRepository.findByUserIdAndDietDateAndMealSlot(1L, DATE, MealSlot.LUNCH))
+        .willReturn(Optional.empty(), Optional.of(created));
+    given(dietRepository.save(any(Diet.class)))
+        .willThrow(new DataIntegrityViolationException("uk_diet_user_date_slot"));
+
+    assertThat(dietService.saveDiet(userDetails, "2023-02-01", MealSlot.LUNCH)).isEqualTo(7L);
+  }
+
+  @Test
+  void otherIntegrityViolationsAreRethrown() {
+    given(dietRepository.findByUserIdAndDietDateAndMealSlot(1L, DATE, MealSlot.LUNCH))
+        .willReturn(Optional.empty());
+    given(dietRepository.save(any(Diet.class)))
+        .willThrow(new DataIntegrityViolationException("not null"));
+
+    assertThatThrownBy(() -> dietService.saveDiet(userDetails, "2023-02-01", MealSlot.LUNCH))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
+  @Test
+  void saveFoodsRejectsOtherUsersDiet() {
+    Diet diet = mock(Diet.class);
+    given(diet.getUserId()).willReturn(2L);
+    given(dietRepository.findById(7L)).willReturn(Optional.of(diet));
+    List<FoodOfDietRequestDto> foods = List.of(mock(FoodOfDietRequestDto.class));
+
+    assertThatThrownBy(() -> dietService.saveFoods(foods, 7L, userDetails))
+        .isInstanceOf(CustomException.class)
+        .extracting("exceptionStatus").isEqualTo(ExceptionStatus.AUTHORIZED_EXCEPTION);
+    // 다른 사람 식단에 쓰지도, 그 식단의 합계를 돌려주지도 않는다
+    verifyNoInteractions(foodOfDietJdbcRepository, nutritionTotalJdbcRepository);
+  }
+
+  @Test
+  void saveFoodRejectsOtherUsersDiet() {
+    Diet diet = mock(Diet.class);
+    given(diet.getUserId()).willReturn(2L);
+    given(dietRepository.findById(7L)).willReturn(Optional.of(diet));
+
+    assertThatThrownBy(() -> dietService.saveFood(List.of(), 7L, userDetails))
+        .isInstanceOf(CustomException.class)
+        .extracting("exceptionStatus").isEqualTo(ExceptionStatus.AUTHORIZED_EXCEPTION);
+    verifyNoInteractions(foodOfDietJdbcRepository, nutritionTotalJdbcRepository);
+  }
+}